@@ -0,0 +1,519 @@
+package org.unify4j.common;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.time.DayOfWeek;
+import java.time.LocalDate;
+import java.time.LocalTime;
+import java.time.ZoneId;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Date;
+import java.util.TreeSet;
+
+/**
+ * A business calendar answering business-day and working-hour questions in closed form.
+ * <p>
+ * Working weekdays are counted with whole-week arithmetic on epoch days and a per-weekday prefix table,
+ * and holidays are kept as a sorted array of epoch days (only those falling on working weekdays),
+ * so counting and offsetting business days costs a binary search over the holidays instead of a walk over the days.
+ * <p>
+ * The calendar is configured fluently, like {@link TimeBuilder4j}, and can be shared between threads once configured.
+ * By default Saturday and Sunday are the weekend, work hours are 9 AM to 5 PM, there are no holidays,
+ * and dates are read in the system zone at the time of each call.
+ */
+public class BusinessCalendar4j {
+    protected static final Logger logger = LoggerFactory.getLogger(BusinessCalendar4j.class);
+
+    private final TreeSet<Long> holidays = new TreeSet<>();
+    // Bit i set when ISO day of week i + 1 is a working day
+    private volatile int workMask = 0b0011111;
+    // workBefore[i]: working days among the first i days of a week starting on Monday
+    private volatile int[] workBefore = prefixOf(0b0011111);
+    // workOrdinal[k]: position in the week of its k-th working day
+    private volatile int[] workOrdinal = ordinalOf(0b0011111);
+    // Epoch days of the holidays falling on working days, sorted
+    private volatile long[] index = new long[0];
+    private volatile long workStartMillis = 9 * Epoch4j.MILLIS_PER_HOUR;
+    private volatile long workEndMillis = 17 * Epoch4j.MILLIS_PER_HOUR;
+    private volatile ZoneId zone;
+
+    /**
+     * Default constructor initializes the calendar with a Saturday and Sunday weekend, 9 AM to 5 PM work hours and no holidays.
+     */
+    protected BusinessCalendar4j() {
+        super();
+    }
+
+    /**
+     * Creates a new business calendar with the default configuration.
+     *
+     * @return A new BusinessCalendar4j instance
+     */
+    public static BusinessCalendar4j create() {
+        return new BusinessCalendar4j();
+    }
+
+    /**
+     * Sets the weekend days; every other day of the week is a working day.
+     *
+     * @param days The weekend days
+     * @return The calendar instance for method chaining
+     * @throws IllegalArgumentException if every day of the week is a weekend day
+     */
+    public BusinessCalendar4j weekend(DayOfWeek... days) {
+        int mask = 0b1111111;
+        if (days != null) {
+            for (DayOfWeek day : days) {
+                if (day != null) {
+                    mask &= ~(1 << (day.getValue() - 1));
+                }
+            }
+        }
+        if (mask == 0) {
+            throw new IllegalArgumentException("At least one working day is required");
+        }
+        synchronized (holidays) {
+            this.workBefore = prefixOf(mask);
+            this.workOrdinal = ordinalOf(mask);
+            this.workMask = mask;
+            this.reindex();
+        }
+        return this;
+    }
+
+    /**
+     * Sets the daily work hours.
+     *
+     * @param start The start of the working day
+     * @param end   The end of the working day, after the start
+     * @return The calendar instance for method chaining
+     * @throws IllegalArgumentException if the hours are missing or the end is not after the start
+     */
+    public BusinessCalendar4j workHours(LocalTime start, LocalTime end) {
+        if (start == null || end == null || !end.isAfter(start)) {
+            throw new IllegalArgumentException("Work hours must end after they start");
+        }
+        this.workStartMillis = start.toNanoOfDay() / 1_000_000;
+        this.workEndMillis = end.toNanoOfDay() / 1_000_000;
+        return this;
+    }
+
+    /**
+     * Sets the daily work hours on whole hours.
+     *
+     * @param startHour The hour the working day starts, from 0 to 23
+     * @param endHour   The hour the working day ends, after the start hour; 24 ends at midnight
+     * @return The calendar instance for method chaining
+     * @throws IllegalArgumentException if the hours are out of range or the end is not after the start
+     */
+    public BusinessCalendar4j workHours(int startHour, int endHour) {
+        if (startHour < 0 || endHour > 24 || endHour <= startHour) {
+            throw new IllegalArgumentException("Work hours must end after they start, within the day");
+        }
+        this.workStartMillis = startHour * Epoch4j.MILLIS_PER_HOUR;
+        this.workEndMillis = endHour * Epoch4j.MILLIS_PER_HOUR;
+        return this;
+    }
+
+    /**
+     * Sets the zone dates are read in.
+     *
+     * @param zone The zone, or null for the system zone at the time of each call
+     * @return The calendar instance for method chaining
+     */
+    public BusinessCalendar4j zone(ZoneId zone) {
+        this.zone = zone;
+        return this;
+    }
+
+    /**
+     * Adds a holiday.
+     *
+     * @param date The holiday
+     * @return The calendar instance for method chaining
+     */
+    public BusinessCalendar4j holiday(LocalDate date) {
+        if (date != null) {
+            synchronized (holidays) {
+                holidays.add(date.toEpochDay());
+                this.reindex();
+            }
+        }
+        return this;
+    }
+
+    /**
+     * Adds a holiday.
+     *
+     * @param year  The year
+     * @param month The month, from 1 to 12
+     * @param day   The day of the month
+     * @return The calendar instance for method chaining
+     */
+    public BusinessCalendar4j holiday(int year, int month, int day) {
+        return this.holiday(LocalDate.of(year, month, day));
+    }
+
+    /**
+     * Adds holidays, rebuilding the index once.
+     *
+     * @param dates The holidays; null entries are ignored
+     * @return The calendar instance for method chaining
+     */
+    public BusinessCalendar4j holidays(Collection<LocalDate> dates) {
+        if (Collection4j.isEmpty(dates)) {
+            return this;
+        }
+        synchronized (holidays) {
+            for (LocalDate date : dates) {
+                if (date != null) {
+                    holidays.add(date.toEpochDay());
+                }
+            }
+            this.reindex();
+        }
+        return this;
+    }
+
+    /**
+     * Removes every holiday.
+     *
+     * @return The calendar instance for method chaining
+     */
+    public BusinessCalendar4j clearHolidays() {
+        synchronized (holidays) {
+            holidays.clear();
+            this.reindex();
+        }
+        return this;
+    }
+
+    /**
+     * Checks whether the date of an instant is a holiday.
+     *
+     * @param epochMillis The instant in milliseconds since the epoch
+     * @return true if the date is a holiday, false otherwise
+     */
+    public boolean isHoliday(long epochMillis) {
+        long day = Epoch4j.localDay(epochMillis, this.zone());
+        synchronized (holidays) {
+            return holidays.contains(day);
+        }
+    }
+
+    /**
+     * Checks whether the date of an instant is a business day, i.e. a working weekday that is not a holiday.
+     *
+     * @param epochMillis The instant in milliseconds since the epoch
+     * @return true if the date is a business day, false otherwise
+     */
+    public boolean isBusinessDay(long epochMillis) {
+        long day = Epoch4j.localDay(epochMillis, this.zone());
+        return this.isWorkingWeekday(day) && Arrays.binarySearch(index, day) < 0;
+    }
+
+    /**
+     * Checks whether a date is a business day.
+     *
+     * @param date The date to check
+     * @return true if the date is a business day, false if it is not or the date is null
+     */
+    public boolean isBusinessDay(Date date) {
+        return date != null && this.isBusinessDay(date.getTime());
+    }
+
+    /**
+     * Counts the business days from the date of the start instant to the date of the end instant, both included.
+     *
+     * @param startMillis The start instant in milliseconds since the epoch
+     * @param endMillis   The end instant in milliseconds since the epoch
+     * @return The number of business days, or 0 if the start is after the end
+     */
+    public long businessDaysBetween(long startMillis, long endMillis) {
+        if (startMillis > endMillis) {
+            return 0;
+        }
+        ZoneId zone = this.zone();
+        return this.businessDaysIn(Epoch4j.localDay(startMillis, zone), Epoch4j.localDay(endMillis, zone) + 1);
+    }
+
+    /**
+     * Counts the business days from the start date to the end date, both included.
+     *
+     * @param startDate The start date
+     * @param endDate   The end date
+     * @return The number of business days, or 0 if a date is null or the start is after the end
+     */
+    public long businessDaysBetween(Date startDate, Date endDate) {
+        if (startDate == null || endDate == null) {
+            return 0;
+        }
+        return this.businessDaysBetween(startDate.getTime(), endDate.getTime());
+    }
+
+    /**
+     * Moves an instant by a number of business days, keeping its local time of day, and its offset if the result falls in an overlap.
+     * The date of the instant itself is not counted, so an offset of 1 gives the next business day.
+     *
+     * @param epochMillis The instant in milliseconds since the epoch
+     * @param days        The number of business days, negative to move backward
+     * @return The resulting instant in milliseconds since the epoch
+     */
+    public long addBusinessDays(long epochMillis, long days) {
+        if (days == 0) {
+            return epochMillis;
+        }
+        ZoneId zone = this.zone();
+        long offset = Epoch4j.offsetMillis(epochMillis, zone);
+        long local = epochMillis + offset;
+        long day = Math.floorDiv(local, Epoch4j.MILLIS_PER_DAY);
+        long timeOfDay = local - day * Epoch4j.MILLIS_PER_DAY;
+        long[] holidays = index;
+        long target;
+        if (days > 0) {
+            // the working weekday numbered rank is the days-th after the date
+            long rank = this.workingWeekdaysBefore(day + 1) + days - 1;
+            target = this.workingWeekdayOf(rank);
+            long skipped = countIn(holidays, day + 1, target + 1);
+            while (skipped > 0) {
+                rank += skipped;
+                long next = this.workingWeekdayOf(rank);
+                skipped = countIn(holidays, target + 1, next + 1);
+                target = next;
+            }
+        } else {
+            long rank = this.workingWeekdaysBefore(day) + days;
+            target = this.workingWeekdayOf(rank);
+            long skipped = countIn(holidays, target, day);
+            while (skipped > 0) {
+                rank -= skipped;
+                long previous = this.workingWeekdayOf(rank);
+                skipped = countIn(holidays, previous, target);
+                target = previous;
+            }
+        }
+        return Epoch4j.fromLocalMillis(target * Epoch4j.MILLIS_PER_DAY + timeOfDay, zone, offset);
+    }
+
+    /**
+     * Moves a date by a number of business days, keeping its local time of day.
+     *
+     * @param date The date to move
+     * @param days The number of business days, negative to move backward
+     * @return The resulting date, or the date itself if it is null or the offset is 0
+     */
+    public Date addBusinessDays(Date date, long days) {
+        if (date == null || days == 0) {
+            return date;
+        }
+        return new Date(this.addBusinessDays(date.getTime(), days));
+    }
+
+    /**
+     * Returns the working time between two instants, i.e. the time within the work hours of the business days.
+     * Work hours are assumed not to contain a daylight saving transition.
+     *
+     * @param startMillis The start instant in milliseconds since the epoch
+     * @param endMillis   The end instant in milliseconds since the epoch
+     * @return The working time in milliseconds, or 0 if the start is after the end
+     */
+    public long workingMillisBetween(long startMillis, long endMillis) {
+        if (startMillis > endMillis) {
+            return 0;
+        }
+        ZoneId zone = this.zone();
+        long firstDay = Epoch4j.localDay(startMillis, zone);
+        long lastDay = Epoch4j.localDay(endMillis, zone);
+        if (firstDay == lastDay) {
+            return this.workingMillisOn(firstDay, startMillis, endMillis, zone);
+        }
+        return this.workingMillisOn(firstDay, startMillis, endMillis, zone)
+                + this.businessDaysIn(firstDay + 1, lastDay) * (workEndMillis - workStartMillis)
+                + this.workingMillisOn(lastDay, startMillis, endMillis, zone);
+    }
+
+    /**
+     * Returns the working hours between two dates, counting whole hours on each business day
+     * (a partial hour on the first or last day is dropped).
+     *
+     * @param startDate The start date
+     * @param endDate   The end date
+     * @return The number of working hours, or 0 if a date is null or the start is after the end
+     */
+    public long workingHoursBetween(Date startDate, Date endDate) {
+        if (startDate == null || endDate == null || startDate.after(endDate)) {
+            return 0;
+        }
+        long startMillis = startDate.getTime();
+        long endMillis = endDate.getTime();
+        ZoneId zone = this.zone();
+        long firstDay = Epoch4j.localDay(startMillis, zone);
+        long lastDay = Epoch4j.localDay(endMillis, zone);
+        long first = this.workingMillisOn(firstDay, startMillis, endMillis, zone) / Epoch4j.MILLIS_PER_HOUR;
+        if (firstDay == lastDay) {
+            return first;
+        }
+        return first
+                + this.businessDaysIn(firstDay + 1, lastDay) * ((workEndMillis - workStartMillis) / Epoch4j.MILLIS_PER_HOUR)
+                + this.workingMillisOn(lastDay, startMillis, endMillis, zone) / Epoch4j.MILLIS_PER_HOUR;
+    }
+
+    /**
+     * Returns the working time of one day falling between two instants.
+     *
+     * @param day         The epoch day
+     * @param startMillis The start instant in milliseconds since the epoch
+     * @param endMillis   The end instant in milliseconds since the epoch
+     * @param zone        The zone
+     * @return The working time in milliseconds, 0 if the day is not a business day
+     */
+    protected long workingMillisOn(long day, long startMillis, long endMillis, ZoneId zone) {
+        if (!this.isWorkingWeekday(day) || Arrays.binarySearch(index, day) >= 0) {
+            return 0;
+        }
+        long from = Math.max(startMillis, Epoch4j.fromLocalMillis(day * Epoch4j.MILLIS_PER_DAY + workStartMillis, zone));
+        long to = Math.min(endMillis, Epoch4j.fromLocalMillis(day * Epoch4j.MILLIS_PER_DAY + workEndMillis, zone));
+        return Math.max(0, to - from);
+    }
+
+    /**
+     * Counts the business days in a range of epoch days.
+     *
+     * @param fromDay The first epoch day, inclusive
+     * @param toDay   The last epoch day, exclusive
+     * @return The number of business days
+     */
+    protected long businessDaysIn(long fromDay, long toDay) {
+        if (fromDay >= toDay) {
+            return 0;
+        }
+        return this.workingWeekdaysBefore(toDay) - this.workingWeekdaysBefore(fromDay) - countIn(index, fromDay, toDay);
+    }
+
+    /**
+     * Counts the working weekdays before an epoch day, relative to the first Monday after the epoch.
+     *
+     * @param day The epoch day
+     * @return The number of working weekdays, negative before the first Monday
+     */
+    protected long workingWeekdaysBefore(long day) {
+        int[] before = workBefore;
+        long days = day - Epoch4j.FIRST_MONDAY;
+        return Math.floorDiv(days, 7L) * before[7] + before[(int) Math.floorMod(days, 7L)];
+    }
+
+    /**
+     * Returns the working weekday of a rank, the inverse of {@link #workingWeekdaysBefore(long)}.
+     *
+     * @param rank The rank, 0 being the first working weekday on or after the first Monday after the epoch
+     * @return The epoch day
+     */
+    protected long workingWeekdayOf(long rank) {
+        int[] ordinal = workOrdinal;
+        long weeks = Math.floorDiv(rank, (long) ordinal.length);
+        return Epoch4j.FIRST_MONDAY + weeks * 7 + ordinal[(int) Math.floorMod(rank, (long) ordinal.length)];
+    }
+
+    /**
+     * Checks whether an epoch day falls on a working day of the week.
+     *
+     * @param day The epoch day
+     * @return true if the day is a working weekday, false otherwise
+     */
+    protected boolean isWorkingWeekday(long day) {
+        return (workMask & (1 << Math.floorMod(day - Epoch4j.FIRST_MONDAY, 7L))) != 0;
+    }
+
+    /**
+     * Returns the zone dates are read in.
+     *
+     * @return The configured zone, or the system zone if none is configured
+     */
+    protected ZoneId zone() {
+        ZoneId configured = zone;
+        return configured != null ? configured : ZoneId.systemDefault();
+    }
+
+    /**
+     * Rebuilds the sorted index of the holidays falling on working days; callers hold the holidays lock.
+     */
+    protected void reindex() {
+        long[] days = new long[holidays.size()];
+        int count = 0;
+        for (Long day : holidays) {
+            if (this.isWorkingWeekday(day)) {
+                days[count++] = day;
+            }
+        }
+        this.index = Arrays.copyOf(days, count);
+    }
+
+    /**
+     * Counts the entries of a sorted array within a range.
+     *
+     * @param sorted The sorted array
+     * @param from   The lower bound, inclusive
+     * @param to     The upper bound, exclusive
+     * @return The number of entries in the range
+     */
+    protected static int countIn(long[] sorted, long from, long to) {
+        if (sorted.length == 0 || from >= to) {
+            return 0;
+        }
+        return lowerBound(sorted, to) - lowerBound(sorted, from);
+    }
+
+    /**
+     * Finds the first entry of a sorted array not less than a value.
+     *
+     * @param sorted The sorted array
+     * @param value  The value
+     * @return The index of the first entry not less than the value
+     */
+    protected static int lowerBound(long[] sorted, long value) {
+        int low = 0;
+        int high = sorted.length;
+        while (low < high) {
+            int middle = (low + high) >>> 1;
+            if (sorted[middle] < value) {
+                low = middle + 1;
+            } else {
+                high = middle;
+            }
+        }
+        return low;
+    }
+
+    /**
+     * Builds the working-day prefix table of a weekday mask.
+     *
+     * @param mask The working weekday mask
+     * @return The table of working days among the first i days of a week, for i from 0 to 7
+     */
+    protected static int[] prefixOf(int mask) {
+        int[] before = new int[8];
+        for (int i = 0; i < 7; i++) {
+            before[i + 1] = before[i] + ((mask >> i) & 1);
+        }
+        return before;
+    }
+
+    /**
+     * Builds the position table of the working days of a week.
+     *
+     * @param mask The working weekday mask
+     * @return The position in the week of each working day, in order
+     */
+    protected static int[] ordinalOf(int mask) {
+        int[] ordinal = new int[Integer.bitCount(mask)];
+        int count = 0;
+        for (int i = 0; i < 7; i++) {
+            if (((mask >> i) & 1) != 0) {
+                ordinal[count++] = i;
+            }
+        }
+        return ordinal;
+    }
+}
@@ -5,12 +5,14 @@ import org.slf4j.LoggerFactory;
 
 import java.time.Instant;
 import java.time.ZoneId;
+import java.time.ZoneOffset;
 import java.time.ZonedDateTime;
-import java.util.Date;
-import java.util.Map;
+import java.util.*;
 import java.util.concurrent.ConcurrentHashMap;
 import java.util.regex.Matcher;
 import java.util.regex.Pattern;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
 
 /**
  * Date utility for parsing String dates with optional times, especially when the input String formats
@@ -64,7 +66,6 @@ import java.util.regex.Pattern;
 @SuppressWarnings({"SpellCheckingInspection"})
 public class Date4j {
     protected static final Logger logger = LoggerFactory.getLogger(Date4j.class);
-    protected static final Pattern allDigits = Pattern.compile("^\\d+$");
     protected static final String days = "monday|mon|tuesday|tues|tue|wednesday|wed|thursday|thur|thu|friday|fri|saturday|sat|sunday|sun";
     protected static final String mos = "January|Jan|February|Feb|March|Mar|April|Apr|May|June|Jun|July|Jul|August|Aug|September|Sept|Sep|October|Oct|November|Nov|December|Dec";
     protected static final String yr = "[+-]?\\d{4,5}\\b";
@@ -95,6 +96,9 @@ public class Date4j {
     protected static final Pattern timePattern = Pattern.compile("(" + d2 + "):(" + d2 + ")(?::(" + d2 + ")(" + nano + ")?)?(" + tz_Hh_MM_SS + "|" + tz_Hh_MM + "|" + tz_HHMM + "|" + tz_Hh + "|Z)?(" + tzNamed + ")?", Pattern.CASE_INSENSITIVE);
     protected static final Pattern dayPattern = Pattern.compile("\\b(" + days + ")\\b", Pattern.CASE_INSENSITIVE);
     protected static final Map<String, Integer> months = new ConcurrentHashMap<>();
+    protected static final int PARSE_CACHE_SIZE = 512;
+    protected static final int PARALLEL_PARSE_THRESHOLD = 10_000;
+    protected static final ThreadLocal<ParseCache> parseCaches = ThreadLocal.withInitial(ParseCache::new);
 
     static {
         months.put("jan", 1);
@@ -160,9 +164,13 @@ public class Date4j {
         if (String4j.isEmpty(s)) {
             return null;
         }
-        s = String4j.trimWhitespace(s);
         Vi4j.throwIfNull(defaultZoneId, "ZoneId cannot be null.  Use ZoneId.of(\"America/New_York\"), ZoneId.systemDefault(), etc.");
-        if (allDigits.matcher(s).matches()) {
+        ZonedDateTime fast = parseFast(s, defaultZoneId);
+        if (fast != null) {
+            return fast;
+        }
+        s = String4j.trimWhitespace(s);
+        if (isDigits(s, 0, s.length())) {
             return Instant.ofEpochMilli(Long.parseLong(s)).atZone(defaultZoneId);
         }
         String year, day, remains, tz = null;
@@ -247,6 +255,118 @@ public class Date4j {
         return parseDateTime(s, zoneId, year, month, day, hour, min, sec, fracSec);
     }
 
+    /**
+     * Parses a date-time like {@link #parse(String, ZoneId, boolean)} with ensureDateTimeAlone set, remembering recent results,
+     * for inputs that repeat a lot such as log timestamps. Every thread keeps a small cache of the last parsed strings,
+     * so a repeated string costs a hash lookup, and ISO-8601 strings with a fraction of a second share the cached parse
+     * of their second, so only the fraction is applied per call.
+     *
+     * @param s             String containing a date.
+     * @param defaultZoneId ZoneId to use if no timezone offset or name is given.  Cannot be null.
+     * @return ZonedDateTime instance converted from the passed in date String, or null if the String is null or empty.
+     * @throws IllegalArgumentException if the String cannot be parsed.
+     */
+    public static ZonedDateTime parseCached(String s, ZoneId defaultZoneId) {
+        if (String4j.isEmpty(s)) {
+            return null;
+        }
+        Vi4j.throwIfNull(defaultZoneId, "ZoneId cannot be null.  Use ZoneId.of(\"America/New_York\"), ZoneId.systemDefault(), etc.");
+        ParseCache cache = parseCaches.get();
+        ZonedDateTime time = cache.get(s, defaultZoneId);
+        if (time != null) {
+            return time;
+        }
+        int end = fractionEnd(s);
+        if (end > 0) {
+            // yyyy-MM-ddTHH:mm:ss.fff...: reuse the parse of the whole second, then apply the fraction
+            String second = s.substring(0, 19).concat(s.substring(end));
+            ZonedDateTime base = cache.get(second, defaultZoneId);
+            if (base == null) {
+                base = parse(second, defaultZoneId, true);
+                cache.put(second, defaultZoneId, base);
+            }
+            time = base.withNano(toNanos(s, 20, end));
+        } else {
+            time = parse(s, defaultZoneId, true);
+        }
+        cache.put(s, defaultZoneId, time);
+        return time;
+    }
+
+    /**
+     * Parses many date-time strings, in parallel for large collections, through {@link #parseCached(String, ZoneId)}.
+     * Strings that cannot be parsed, as well as null or empty ones, give null instead of failing the whole batch.
+     *
+     * @param values        The date-time strings.
+     * @param defaultZoneId ZoneId to use if no timezone offset or name is given.  Cannot be null.
+     * @return The parsed date-times, in the order of the strings.
+     */
+    public static List<ZonedDateTime> parseAll(Collection<String> values, ZoneId defaultZoneId) {
+        if (Collection4j.isEmpty(values)) {
+            return Collections.emptyList();
+        }
+        Vi4j.throwIfNull(defaultZoneId, "ZoneId cannot be null.  Use ZoneId.of(\"America/New_York\"), ZoneId.systemDefault(), etc.");
+        Stream<String> stream = values.size() >= PARALLEL_PARSE_THRESHOLD ? values.parallelStream() : values.stream();
+        return parseAll(stream, defaultZoneId).collect(Collectors.toList());
+    }
+
+    /**
+     * Lazily parses a stream of date-time strings through {@link #parseCached(String, ZoneId)}; a parallel stream is parsed in parallel.
+     * Strings that cannot be parsed, as well as null or empty ones, give null instead of failing the stream.
+     *
+     * @param values        The date-time strings.
+     * @param defaultZoneId ZoneId to use if no timezone offset or name is given.  Cannot be null.
+     * @return The stream of parsed date-times, in the order of the strings.
+     */
+    public static Stream<ZonedDateTime> parseAll(Stream<String> values, ZoneId defaultZoneId) {
+        if (values == null) {
+            return Stream.empty();
+        }
+        return values.map(value -> {
+            try {
+                return parseCached(value, defaultZoneId);
+            } catch (RuntimeException e) {
+                logger.debug("Parsing date-time got an exception: {} by date: {}", e.getMessage(), value);
+                return null;
+            }
+        });
+    }
+
+    /**
+     * Parses many date-time strings into Dates, in the system default zone when no offset is given, see {@link #parseAll(Collection, ZoneId)}.
+     *
+     * @param values The date-time strings.
+     * @return The parsed dates, in the order of the strings, with null for the strings that cannot be parsed.
+     */
+    public static List<Date> parseAllDates(Collection<String> values) {
+        List<ZonedDateTime> times = parseAll(values, ZoneId.systemDefault());
+        List<Date> dates = new ArrayList<>(times.size());
+        for (ZonedDateTime time : times) {
+            dates.add(time != null ? Date.from(time.toInstant()) : null);
+        }
+        return dates;
+    }
+
+    /**
+     * Returns the end of the fraction of a second of an ISO-8601 string ("yyyy-MM-ddTHH:mm:ss.fff..."),
+     * or -1 if the string has no such fraction.
+     *
+     * @param s The date-time string.
+     * @return The index after the last fraction digit, or -1.
+     */
+    private static int fractionEnd(String s) {
+        int length = s.length();
+        if (length < 21 || s.charAt(19) != '.' || s.charAt(4) != '-' || s.charAt(7) != '-' || s.charAt(13) != ':' || s.charAt(16) != ':'
+                || !isDigits(s, 0, 4) || !isDigits(s, 17, 19)) {
+            return -1;
+        }
+        int end = 20;
+        while (end < length && s.charAt(end) >= '0' && s.charAt(end) <= '9') {
+            end++;
+        }
+        return end > 20 ? end : -1;
+    }
+
     /**
      * Constructs a ZonedDateTime object from the provided date and time components.
      * Parses the year, month, day, hour, minute, second, and fractional second components to create
@@ -268,6 +388,30 @@ public class Date4j {
     private static ZonedDateTime parseDateTime(String dateTime, ZoneId zoneId, String year, int month, String day, String hour, String min, String sec, String fractionalSecondText) {
         int y = Integer.parseInt(year);
         int d = Integer.parseInt(day);
+        if (hour == null) {
+            return ofDateTime(dateTime, zoneId, y, month, d, -1, 0, 0, 0);
+        }
+        // Convert fractional second text ("0" or "0.ddd") to nanoseconds.
+        int nanoOfSec = fractionalSecondText.length() > 2 ? toNanos(fractionalSecondText, 2, fractionalSecondText.length()) : 0;
+        return ofDateTime(dateTime, zoneId, y, month, d, Integer.parseInt(hour), Integer.parseInt(min), Integer.parseInt(sec), nanoOfSec);
+    }
+
+    /**
+     * Constructs a ZonedDateTime object from the numeric date and time components, validating their ranges.
+     *
+     * @param dateTime  The original date-time string for error reporting purposes.
+     * @param zoneId    The ZoneId representing the time zone of the resulting ZonedDateTime.
+     * @param y         The year component of the date.
+     * @param month     The month component of the date (1-12).
+     * @param d         The day component of the date (1-31).
+     * @param h         The hour component of the time (0-23), or -1 if there is no time portion.
+     * @param mn        The minute component of the time (0-59).
+     * @param s         The second component of the time (0-59).
+     * @param nanoOfSec The nanosecond component of the time.
+     * @return A ZonedDateTime object representing the specified date and time.
+     * @throws IllegalArgumentException if any component is invalid or out of range.
+     */
+    private static ZonedDateTime ofDateTime(String dateTime, ZoneId zoneId, int y, int month, int d, int h, int mn, int s, int nanoOfSec) {
         if (month < 1 || month > 12) {
             throw new IllegalArgumentException(String.format("Month must be between 1 and 12 inclusive, date: %s", dateTime));
         }
@@ -275,16 +419,10 @@ public class Date4j {
             throw new IllegalArgumentException(String.format("Day must be between 1 and 31 inclusive, date: %s", dateTime));
         }
         // Check if time portion is present.
-        if (hour == null) { // no [valid] time portion
+        if (h < 0) { // no [valid] time portion
             // Construct ZonedDateTime without time components.
             return ZonedDateTime.of(y, month, d, 0, 0, 0, 0, zoneId);
         } else {
-            // Parse time components to integers.
-            int h = Integer.parseInt(hour);
-            int mn = Integer.parseInt(min);
-            int s = Integer.parseInt(sec);
-            // Convert fractional second text to nanoseconds.
-            long nanoOfSec = Time4j.fromFractionToNanos(fractionalSecondText);
             // Validate hour component.
             if (h > 23) {
                 throw new IllegalArgumentException(String.format("Hour must be between 0 and 23 inclusive, time: %s", dateTime));
@@ -297,10 +435,149 @@ public class Date4j {
             if (s > 59) {
                 throw new IllegalArgumentException(String.format("Second must be between 0 and 59 inclusive, time: %s", dateTime));
             }
-            return ZonedDateTime.of(y, month, d, h, mn, s, (int) nanoOfSec, zoneId);
+            return ZonedDateTime.of(y, month, d, h, mn, s, nanoOfSec, zoneId);
         }
     }
 
+    /**
+     * Parses the common machine formats without regular expressions or intermediate strings:
+     * epoch milliseconds (digits only) and ISO-8601/RFC 3339 date-times, i.e. "yyyy-MM-dd" optionally followed by
+     * 'T' or a space, "HH:mm", optional ":ss", optional fraction and an optional "Z", "±HH:mm", "±HHmm" or "±HH" offset.
+     * The result is the same as the regex engine gives for these inputs; anything else returns null so the caller
+     * falls back to the regex engine.
+     *
+     * @param s             The date-time string, as given.
+     * @param defaultZoneId ZoneId to use if no offset is given.
+     * @return The parsed ZonedDateTime, or null if the string is not in one of the fast-path formats.
+     * @throws IllegalArgumentException if a component is out of range.
+     */
+    protected static ZonedDateTime parseFast(String s, ZoneId defaultZoneId) {
+        int length = s.length();
+        if (isDigits(s, 0, length)) {
+            return length <= 18 ? Instant.ofEpochMilli(Long.parseLong(s)).atZone(defaultZoneId) : null;
+        }
+        // yyyy-MM-dd
+        if (length < 10 || s.charAt(4) != '-' || s.charAt(7) != '-'
+                || !isDigits(s, 0, 4) || !isDigits(s, 5, 7) || !isDigits(s, 8, 10)) {
+            return null;
+        }
+        int year = toInt(s, 0, 4);
+        int month = toInt(s, 5, 7);
+        int day = toInt(s, 8, 10);
+        if (length == 10) {
+            return ofDateTime(s, defaultZoneId, year, month, day, -1, 0, 0, 0);
+        }
+        // 'T' or ' ' then HH:mm
+        char separator = s.charAt(10);
+        if ((separator != 'T' && separator != ' ') || length < 16 || s.charAt(13) != ':' || !isDigits(s, 11, 13) || !isDigits(s, 14, 16)) {
+            return null;
+        }
+        int hour = toInt(s, 11, 13);
+        int minute = toInt(s, 14, 16);
+        int second = 0;
+        int nanos = 0;
+        int i = 16;
+        // optional :ss and .fraction
+        if (i < length && s.charAt(i) == ':') {
+            if (i + 3 > length || !isDigits(s, i + 1, i + 3)) {
+                return null;
+            }
+            second = toInt(s, i + 1, i + 3);
+            i += 3;
+            if (i < length && s.charAt(i) == '.') {
+                int start = ++i;
+                while (i < length && s.charAt(i) >= '0' && s.charAt(i) <= '9') {
+                    i++;
+                }
+                if (i == start) {
+                    return null;
+                }
+                nanos = toNanos(s, start, i);
+            }
+        }
+        // optional offset
+        ZoneId zoneId = defaultZoneId;
+        if (i < length) {
+            char ch = s.charAt(i);
+            if (ch == 'Z' && i + 1 == length) {
+                zoneId = ZoneOffset.UTC;
+            } else if (ch == '+' || ch == '-') {
+                int rest = length - i - 1;
+                int offsetMinutes;
+                if (rest == 2 && isDigits(s, i + 1, i + 3)) {
+                    offsetMinutes = 0;
+                } else if (rest == 4 && isDigits(s, i + 1, i + 5)) {
+                    offsetMinutes = toInt(s, i + 3, i + 5);
+                } else if (rest == 5 && s.charAt(i + 3) == ':' && isDigits(s, i + 1, i + 3) && isDigits(s, i + 4, i + 6)) {
+                    offsetMinutes = toInt(s, i + 4, i + 6);
+                } else {
+                    return null;
+                }
+                int offsetHours = toInt(s, i + 1, i + 3);
+                ZoneOffset offset = ch == '+'
+                        ? ZoneOffset.ofHoursMinutes(offsetHours, offsetMinutes)
+                        : ZoneOffset.ofHoursMinutes(-offsetHours, -offsetMinutes);
+                zoneId = ZoneId.ofOffset("GMT", offset);
+            } else {
+                return null;
+            }
+        }
+        return ofDateTime(s, zoneId, year, month, day, hour, minute, second, nanos);
+    }
+
+    /**
+     * Checks whether a range of a string holds only ASCII digits; an empty range does not.
+     *
+     * @param s     The string.
+     * @param start The start index, inclusive.
+     * @param end   The end index, exclusive.
+     * @return true if the range is not empty and only holds digits, false otherwise.
+     */
+    private static boolean isDigits(String s, int start, int end) {
+        if (start >= end) {
+            return false;
+        }
+        for (int i = start; i < end; i++) {
+            char ch = s.charAt(i);
+            if (ch < '0' || ch > '9') {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    /**
+     * Parses a range of ASCII digits as an int.
+     *
+     * @param s     The string.
+     * @param start The start index, inclusive.
+     * @param end   The end index, exclusive.
+     * @return The parsed value.
+     */
+    private static int toInt(String s, int start, int end) {
+        int value = 0;
+        for (int i = start; i < end; i++) {
+            value = value * 10 + (s.charAt(i) - '0');
+        }
+        return value;
+    }
+
+    /**
+     * Converts the digits of a fraction of a second to nanoseconds, ignoring digits past the ninth.
+     *
+     * @param s     The string.
+     * @param start The index of the first fraction digit.
+     * @param end   The index after the last fraction digit.
+     * @return The nanoseconds.
+     */
+    private static int toNanos(String s, int start, int end) {
+        int nanos = 0;
+        for (int i = start; i < start + 9; i++) {
+            nanos = nanos * 10 + (i < end ? s.charAt(i) - '0' : 0);
+        }
+        return nanos;
+    }
+
     /**
      * Verifies that the provided string contains no extraneous non-date-related content.
      * This function removes any day-of-week substrings and verifies that the remaining content
@@ -322,7 +599,33 @@ public class Date4j {
         // Ensure that the remaining content is either empty, "T", or ",".
         if (String4j.length(remnant) > 0) {
             remnant = remnant.replaceAll("[T,]", "").trim();
-            Vi4j.throwIfNullOrEmpty(remnant, String.format("Issue parsing date-time, other characters present: %s", remnant));
+            if (String4j.isNotEmpty(remnant)) {
+                throw new IllegalArgumentException(String.format("Issue parsing date-time, other characters present: %s", remnant));
+            }
+        }
+    }
+
+    // Inner class holding the last parsed date-times of a thread, in a direct-mapped table keyed by string and zone
+    protected static final class ParseCache {
+        final String[] keys = new String[PARSE_CACHE_SIZE];
+        final ZoneId[] zones = new ZoneId[PARSE_CACHE_SIZE];
+        final ZonedDateTime[] values = new ZonedDateTime[PARSE_CACHE_SIZE];
+
+        ZonedDateTime get(String key, ZoneId zone) {
+            int index = this.indexOf(key, zone);
+            return key.equals(keys[index]) && zone.equals(zones[index]) ? values[index] : null;
+        }
+
+        void put(String key, ZoneId zone, ZonedDateTime value) {
+            int index = this.indexOf(key, zone);
+            keys[index] = key;
+            zones[index] = zone;
+            values[index] = value;
+        }
+
+        private int indexOf(String key, ZoneId zone) {
+            int hash = key.hashCode() * 31 + zone.hashCode();
+            return (hash ^ (hash >>> 16)) & (PARSE_CACHE_SIZE - 1);
         }
     }
 }
@@ -0,0 +1,597 @@
+package org.unify4j.common;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.time.*;
+import java.time.temporal.ChronoUnit;
+import java.time.zone.ZoneOffsetTransition;
+import java.time.zone.ZoneRules;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+
+/**
+ * Date and time arithmetic on primitive epoch milliseconds, a parallel to the Date based Time4j and TimeExtensions4j operations.
+ * <p>
+ * Calendar fields are computed with integer arithmetic on the ISO calendar, and zone offsets come from a cached window
+ * per zone (the offset valid between two transitions), so the operations allocate nothing on the hot path.
+ * A zone is only consulted again when an instant falls outside the window last used for that zone.
+ * <p>
+ * Local date-times that do not exist (in a gap) are shifted forward by the length of the gap and ambiguous
+ * local date-times (in an overlap) take the earlier offset, as {@link ZonedDateTime#ofLocal} does.
+ * The zone arguments must not be null.
+ */
+public class Epoch4j {
+    protected static final Logger logger = LoggerFactory.getLogger(Epoch4j.class);
+    public static final long MILLIS_PER_SECOND = 1000L;
+    public static final long MILLIS_PER_MINUTE = 60 * MILLIS_PER_SECOND;
+    public static final long MILLIS_PER_HOUR = 60 * MILLIS_PER_MINUTE;
+    public static final long MILLIS_PER_DAY = 24 * MILLIS_PER_HOUR;
+    protected static final int MAX_CACHED_ZONES = 1024;
+    // Offsets of a zone change by less than this, so a local time this far from a transition maps to a single instant
+    protected static final long TRANSITION_MARGIN = 2 * MILLIS_PER_DAY;
+    // 1970-01-05 was a Monday
+    protected static final long FIRST_MONDAY = 4;
+    protected static final ConcurrentMap<ZoneId, ZoneCache> zones = new ConcurrentHashMap<>();
+
+    /**
+     * Returns the offset of the zone at an instant.
+     *
+     * @param epochMillis The instant in milliseconds since the epoch.
+     * @param zone        The zone.
+     * @return The offset from UTC in milliseconds.
+     */
+    public static long offsetMillis(long epochMillis, ZoneId zone) {
+        return zoneOf(zone).window(epochMillis).offset;
+    }
+
+    /**
+     * Converts an instant to local milliseconds, i.e. the local date-time of the zone counted in milliseconds since 1970-01-01T00:00.
+     *
+     * @param epochMillis The instant in milliseconds since the epoch.
+     * @param zone        The zone.
+     * @return The local milliseconds.
+     */
+    public static long toLocalMillis(long epochMillis, ZoneId zone) {
+        return epochMillis + offsetMillis(epochMillis, zone);
+    }
+
+    /**
+     * Converts local milliseconds back to an instant. A local time in a gap is moved forward by the length
+     * of the gap; in an overlap the earlier offset is used.
+     *
+     * @param localMillis The local date-time counted in milliseconds since 1970-01-01T00:00.
+     * @param zone        The zone.
+     * @return The instant in milliseconds since the epoch.
+     */
+    public static long fromLocalMillis(long localMillis, ZoneId zone) {
+        return fromLocalMillis(localMillis, zone, false, 0);
+    }
+
+    /**
+     * Converts local milliseconds back to an instant, keeping the preferred offset in an overlap when it is
+     * one of the two valid offsets, as {@link ZonedDateTime#ofLocal(LocalDateTime, ZoneId, ZoneOffset)} does.
+     *
+     * @param localMillis           The local date-time counted in milliseconds since 1970-01-01T00:00.
+     * @param zone                  The zone.
+     * @param preferredOffsetMillis The preferred offset from UTC in milliseconds, usually the offset of the instant the local time was derived from.
+     * @return The instant in milliseconds since the epoch.
+     */
+    public static long fromLocalMillis(long localMillis, ZoneId zone, long preferredOffsetMillis) {
+        return fromLocalMillis(localMillis, zone, true, preferredOffsetMillis);
+    }
+
+    /**
+     * Returns the start of the day of an instant in the zone.
+     *
+     * @param epochMillis The instant in milliseconds since the epoch.
+     * @param zone        The zone.
+     * @return The first millisecond of the day.
+     */
+    public static long startOfDay(long epochMillis, ZoneId zone) {
+        return fromLocalMillis(localDay(epochMillis, zone) * MILLIS_PER_DAY, zone);
+    }
+
+    /**
+     * Returns the end of the day of an instant in the zone.
+     *
+     * @param epochMillis The instant in milliseconds since the epoch.
+     * @param zone        The zone.
+     * @return The last millisecond of the day.
+     */
+    public static long endOfDay(long epochMillis, ZoneId zone) {
+        return fromLocalMillis((localDay(epochMillis, zone) + 1) * MILLIS_PER_DAY, zone) - 1;
+    }
+
+    /**
+     * Returns the start of the hour of an instant in the zone.
+     *
+     * @param epochMillis The instant in milliseconds since the epoch.
+     * @param zone        The zone.
+     * @return The first millisecond of the hour.
+     */
+    public static long startOfHour(long epochMillis, ZoneId zone) {
+        long offset = offsetMillis(epochMillis, zone);
+        long local = Math.floorDiv(epochMillis + offset, MILLIS_PER_HOUR) * MILLIS_PER_HOUR;
+        // keep the offset of the instant, which also holds in the second half of an overlap
+        if (offsetMillis(local - offset, zone) == offset) {
+            return local - offset;
+        }
+        return fromLocalMillis(local, zone);
+    }
+
+    /**
+     * Returns the start of the ISO week (Monday) of an instant in the zone.
+     *
+     * @param epochMillis The instant in milliseconds since the epoch.
+     * @param zone        The zone.
+     * @return The first millisecond of the week.
+     */
+    public static long startOfWeek(long epochMillis, ZoneId zone) {
+        long day = localDay(epochMillis, zone);
+        return fromLocalMillis((day - Math.floorMod(day - FIRST_MONDAY, 7L)) * MILLIS_PER_DAY, zone);
+    }
+
+    /**
+     * Returns the start of the month of an instant in the zone.
+     *
+     * @param epochMillis The instant in milliseconds since the epoch.
+     * @param zone        The zone.
+     * @return The first millisecond of the month.
+     */
+    public static long startOfMonth(long epochMillis, ZoneId zone) {
+        long date = civil(localDay(epochMillis, zone));
+        return fromLocalMillis(epochDay(yearOf(date), monthOf(date), 1) * MILLIS_PER_DAY, zone);
+    }
+
+    /**
+     * Returns the start of the quarter of an instant in the zone.
+     *
+     * @param epochMillis The instant in milliseconds since the epoch.
+     * @param zone        The zone.
+     * @return The first millisecond of the quarter.
+     */
+    public static long startOfQuarter(long epochMillis, ZoneId zone) {
+        long date = civil(localDay(epochMillis, zone));
+        int firstMonth = (monthOf(date) - 1) / 3 * 3 + 1;
+        return fromLocalMillis(epochDay(yearOf(date), firstMonth, 1) * MILLIS_PER_DAY, zone);
+    }
+
+    /**
+     * Returns the start of the year of an instant in the zone.
+     *
+     * @param epochMillis The instant in milliseconds since the epoch.
+     * @param zone        The zone.
+     * @return The first millisecond of the year.
+     */
+    public static long startOfYear(long epochMillis, ZoneId zone) {
+        long date = civil(localDay(epochMillis, zone));
+        return fromLocalMillis(epochDay(yearOf(date), 1, 1) * MILLIS_PER_DAY, zone);
+    }
+
+    /**
+     * Adds an amount of a unit to an instant. Units up to half days are exact durations; days and longer units
+     * move the local date and keep the local time, months and longer clamp the day to the end of the month.
+     *
+     * @param epochMillis The instant in milliseconds since the epoch.
+     * @param amount      The amount to add, may be negative.
+     * @param unit        The unit, from milliseconds to millennia.
+     * @param zone        The zone.
+     * @return The resulting instant in milliseconds since the epoch.
+     * @throws IllegalArgumentException if the unit is not supported.
+     */
+    public static long plus(long epochMillis, long amount, ChronoUnit unit, ZoneId zone) {
+        switch (unit) {
+            case MILLIS:
+                return epochMillis + amount;
+            case SECONDS:
+                return epochMillis + amount * MILLIS_PER_SECOND;
+            case MINUTES:
+                return epochMillis + amount * MILLIS_PER_MINUTE;
+            case HOURS:
+                return epochMillis + amount * MILLIS_PER_HOUR;
+            case HALF_DAYS:
+                return epochMillis + amount * 12 * MILLIS_PER_HOUR;
+            case DAYS:
+                return plusDays(epochMillis, amount, zone);
+            case WEEKS:
+                return plusDays(epochMillis, amount * 7, zone);
+            case MONTHS:
+                return plusMonths(epochMillis, amount, zone);
+            case YEARS:
+                return plusMonths(epochMillis, amount * 12, zone);
+            case DECADES:
+                return plusMonths(epochMillis, amount * 120, zone);
+            case CENTURIES:
+                return plusMonths(epochMillis, amount * 1200, zone);
+            case MILLENNIA:
+                return plusMonths(epochMillis, amount * 12000, zone);
+            default:
+                throw new IllegalArgumentException("Unsupported unit: " + unit);
+        }
+    }
+
+    /**
+     * Subtracts an amount of a unit from an instant, see {@link #plus(long, long, ChronoUnit, ZoneId)}.
+     *
+     * @param epochMillis The instant in milliseconds since the epoch.
+     * @param amount      The amount to subtract, may be negative.
+     * @param unit        The unit, from milliseconds to millennia.
+     * @param zone        The zone.
+     * @return The resulting instant in milliseconds since the epoch.
+     * @throws IllegalArgumentException if the unit is not supported.
+     */
+    public static long minus(long epochMillis, long amount, ChronoUnit unit, ZoneId zone) {
+        return plus(epochMillis, -amount, unit, zone);
+    }
+
+    /**
+     * Adds days to an instant, keeping the local time of day, and its offset if the result falls in an overlap.
+     *
+     * @param epochMillis The instant in milliseconds since the epoch.
+     * @param days        The days to add, may be negative.
+     * @param zone        The zone.
+     * @return The resulting instant in milliseconds since the epoch.
+     */
+    public static long plusDays(long epochMillis, long days, ZoneId zone) {
+        if (days == 0) {
+            return epochMillis;
+        }
+        long offset = offsetMillis(epochMillis, zone);
+        return fromLocalMillis(epochMillis + offset + days * MILLIS_PER_DAY, zone, offset);
+    }
+
+    /**
+     * Adds months to an instant, keeping the local time of day and clamping the day to the end of the month.
+     * The offset of the instant is kept if the result falls in an overlap.
+     *
+     * @param epochMillis The instant in milliseconds since the epoch.
+     * @param months      The months to add, may be negative.
+     * @param zone        The zone.
+     * @return The resulting instant in milliseconds since the epoch.
+     */
+    public static long plusMonths(long epochMillis, long months, ZoneId zone) {
+        if (months == 0) {
+            return epochMillis;
+        }
+        long offset = offsetMillis(epochMillis, zone);
+        long local = epochMillis + offset;
+        long day = Math.floorDiv(local, MILLIS_PER_DAY);
+        long date = civil(day);
+        long total = yearOf(date) * 12L + (monthOf(date) - 1) + months;
+        int year = (int) Math.floorDiv(total, 12L);
+        int month = (int) Math.floorMod(total, 12L) + 1;
+        int dayOfMonth = Math.min(dayOf(date), lengthOfMonth(year, month));
+        return fromLocalMillis(epochDay(year, month, dayOfMonth) * MILLIS_PER_DAY + (local - day * MILLIS_PER_DAY), zone, offset);
+    }
+
+    /**
+     * Returns the year of an instant in the zone.
+     *
+     * @param epochMillis The instant in milliseconds since the epoch.
+     * @param zone        The zone.
+     * @return The year.
+     */
+    public static int year(long epochMillis, ZoneId zone) {
+        return yearOf(civil(localDay(epochMillis, zone)));
+    }
+
+    /**
+     * Returns the month of an instant in the zone.
+     *
+     * @param epochMillis The instant in milliseconds since the epoch.
+     * @param zone        The zone.
+     * @return The month, from 1 (January) to 12 (December).
+     */
+    public static int month(long epochMillis, ZoneId zone) {
+        return monthOf(civil(localDay(epochMillis, zone)));
+    }
+
+    /**
+     * Returns the day of the month of an instant in the zone.
+     *
+     * @param epochMillis The instant in milliseconds since the epoch.
+     * @param zone        The zone.
+     * @return The day of the month, from 1 to 31.
+     */
+    public static int dayOfMonth(long epochMillis, ZoneId zone) {
+        return dayOf(civil(localDay(epochMillis, zone)));
+    }
+
+    /**
+     * Returns the ISO day of the week of an instant in the zone.
+     *
+     * @param epochMillis The instant in milliseconds since the epoch.
+     * @param zone        The zone.
+     * @return The day of the week, from 1 (Monday) to 7 (Sunday).
+     */
+    public static int dayOfWeek(long epochMillis, ZoneId zone) {
+        return dayOfWeek(localDay(epochMillis, zone));
+    }
+
+    /**
+     * Returns the hour of the day of an instant in the zone.
+     *
+     * @param epochMillis The instant in milliseconds since the epoch.
+     * @param zone        The zone.
+     * @return The hour of the day, from 0 to 23.
+     */
+    public static int hourOfDay(long epochMillis, ZoneId zone) {
+        return (int) (Math.floorMod(toLocalMillis(epochMillis, zone), MILLIS_PER_DAY) / MILLIS_PER_HOUR);
+    }
+
+    /**
+     * Returns the quarter of an instant in the zone.
+     *
+     * @param epochMillis The instant in milliseconds since the epoch.
+     * @param zone        The zone.
+     * @return The quarter, from 1 to 4.
+     */
+    public static int quarter(long epochMillis, ZoneId zone) {
+        return (month(epochMillis, zone) - 1) / 3 + 1;
+    }
+
+    /**
+     * Returns the ISO 8601 week number of an instant in the zone.
+     *
+     * @param epochMillis The instant in milliseconds since the epoch.
+     * @param zone        The zone.
+     * @return The week number, from 1 to 53.
+     */
+    public static int isoWeekNumber(long epochMillis, ZoneId zone) {
+        long day = localDay(epochMillis, zone);
+        // the week belongs to the year of its Thursday
+        long thursday = day - Math.floorMod(day - FIRST_MONDAY, 7L) + 3;
+        int year = yearOf(civil(thursday));
+        return (int) ((thursday - epochDay(year, 1, 1)) / 7) + 1;
+    }
+
+    /**
+     * Checks whether an instant falls on a Saturday or a Sunday in the zone.
+     *
+     * @param epochMillis The instant in milliseconds since the epoch.
+     * @param zone        The zone.
+     * @return true if the instant falls on a weekend, false otherwise.
+     */
+    public static boolean isWeekend(long epochMillis, ZoneId zone) {
+        return dayOfWeek(epochMillis, zone) >= 6;
+    }
+
+    /**
+     * Returns the number of days between the local dates of two instants in the zone.
+     *
+     * @param startMillis The start instant in milliseconds since the epoch.
+     * @param endMillis   The end instant in milliseconds since the epoch.
+     * @param zone        The zone.
+     * @return The number of days, negative if the end falls on an earlier date.
+     */
+    public static long daysBetween(long startMillis, long endMillis, ZoneId zone) {
+        return localDay(endMillis, zone) - localDay(startMillis, zone);
+    }
+
+    /**
+     * Counts the weekdays (Monday to Friday) from the date of the start instant to the date of the end instant,
+     * both included, in closed form.
+     *
+     * @param startMillis The start instant in milliseconds since the epoch.
+     * @param endMillis   The end instant in milliseconds since the epoch.
+     * @param zone        The zone.
+     * @return The number of weekdays, or 0 if the start is after the end.
+     */
+    public static long businessDaysBetween(long startMillis, long endMillis, ZoneId zone) {
+        if (startMillis > endMillis) {
+            return 0;
+        }
+        return weekdaysBefore(localDay(endMillis, zone) + 1) - weekdaysBefore(localDay(startMillis, zone));
+    }
+
+    /**
+     * Returns the local epoch day of an instant in the zone.
+     *
+     * @param epochMillis The instant in milliseconds since the epoch.
+     * @param zone        The zone.
+     * @return The days since 1970-01-01 of the local date.
+     */
+    public static long localDay(long epochMillis, ZoneId zone) {
+        return Math.floorDiv(toLocalMillis(epochMillis, zone), MILLIS_PER_DAY);
+    }
+
+    /**
+     * Returns the ISO day of the week of an epoch day.
+     *
+     * @param epochDay The epoch day.
+     * @return The day of the week, from 1 (Monday) to 7 (Sunday).
+     */
+    protected static int dayOfWeek(long epochDay) {
+        return (int) Math.floorMod(epochDay - FIRST_MONDAY, 7L) + 1;
+    }
+
+    /**
+     * Counts the weekdays before an epoch day, relative to the first Monday after the epoch.
+     *
+     * @param epochDay The epoch day.
+     * @return The number of weekdays, negative before the first Monday.
+     */
+    protected static long weekdaysBefore(long epochDay) {
+        long days = epochDay - FIRST_MONDAY;
+        return Math.floorDiv(days, 7L) * 5 + Math.min(Math.floorMod(days, 7L), 5);
+    }
+
+    /**
+     * Converts an epoch day to a packed ISO date, see {@link #yearOf(long)}, {@link #monthOf(long)} and {@link #dayOf(long)}.
+     *
+     * @param epochDay The epoch day.
+     * @return The packed date.
+     */
+    protected static long civil(long epochDay) {
+        long z = epochDay + 719468;
+        long era = Math.floorDiv(z, 146097L);
+        long dayOfEra = z - era * 146097;
+        long yearOfEra = (dayOfEra - dayOfEra / 1460 + dayOfEra / 36524 - dayOfEra / 146096) / 365;
+        long dayOfYear = dayOfEra - (365 * yearOfEra + yearOfEra / 4 - yearOfEra / 100);
+        long shiftedMonth = (5 * dayOfYear + 2) / 153;
+        long day = dayOfYear - (153 * shiftedMonth + 2) / 5 + 1;
+        long month = shiftedMonth < 10 ? shiftedMonth + 3 : shiftedMonth - 9;
+        long year = yearOfEra + era * 400 + (month <= 2 ? 1 : 0);
+        return (year << 9) | (month << 5) | day;
+    }
+
+    /**
+     * Converts an ISO date to its epoch day.
+     *
+     * @param year  The year.
+     * @param month The month, from 1 to 12.
+     * @param day   The day of the month.
+     * @return The epoch day.
+     */
+    protected static long epochDay(long year, int month, int day) {
+        long y = month <= 2 ? year - 1 : year;
+        long era = Math.floorDiv(y, 400L);
+        long yearOfEra = y - era * 400;
+        long dayOfYear = (153L * (month > 2 ? month - 3 : month + 9) + 2) / 5 + day - 1;
+        long dayOfEra = yearOfEra * 365 + yearOfEra / 4 - yearOfEra / 100 + dayOfYear;
+        return era * 146097 + dayOfEra - 719468;
+    }
+
+    /**
+     * Returns the year of a packed date.
+     *
+     * @param date The packed date.
+     * @return The year.
+     */
+    protected static int yearOf(long date) {
+        return (int) (date >> 9);
+    }
+
+    /**
+     * Returns the month of a packed date.
+     *
+     * @param date The packed date.
+     * @return The month, from 1 to 12.
+     */
+    protected static int monthOf(long date) {
+        return (int) ((date >> 5) & 15);
+    }
+
+    /**
+     * Returns the day of the month of a packed date.
+     *
+     * @param date The packed date.
+     * @return The day of the month, from 1 to 31.
+     */
+    protected static int dayOf(long date) {
+        return (int) (date & 31);
+    }
+
+    /**
+     * Returns the number of days of a month.
+     *
+     * @param year  The year.
+     * @param month The month, from 1 to 12.
+     * @return The number of days.
+     */
+    protected static int lengthOfMonth(int year, int month) {
+        if (month == 2) {
+            return (year % 4 == 0 && (year % 100 != 0 || year % 400 == 0)) ? 29 : 28;
+        }
+        return month == 4 || month == 6 || month == 9 || month == 11 ? 30 : 31;
+    }
+
+    /**
+     * Converts local milliseconds back to an instant, from the cached offset window away from transitions.
+     *
+     * @param localMillis           The local date-time counted in milliseconds since 1970-01-01T00:00.
+     * @param zone                  The zone.
+     * @param preferring            Whether the preferred offset applies in an overlap.
+     * @param preferredOffsetMillis The preferred offset from UTC in milliseconds.
+     * @return The instant in milliseconds since the epoch.
+     */
+    private static long fromLocalMillis(long localMillis, ZoneId zone, boolean preferring, long preferredOffsetMillis) {
+        ZoneCache cache = zoneOf(zone);
+        Window window = cache.window;
+        window = cache.window(localMillis - window.offset);
+        long epochMillis = localMillis - window.offset;
+        if (window.start <= epochMillis - TRANSITION_MARGIN && epochMillis + TRANSITION_MARGIN <= window.end) {
+            return epochMillis;
+        }
+        // near a transition: let java.time resolve gaps and overlaps
+        LocalDateTime local = LocalDateTime.ofEpochSecond(Math.floorDiv(localMillis, MILLIS_PER_SECOND),
+                (int) Math.floorMod(localMillis, MILLIS_PER_SECOND) * 1_000_000, ZoneOffset.UTC);
+        ZoneOffset preferred = preferring ? ZoneOffset.ofTotalSeconds((int) (preferredOffsetMillis / MILLIS_PER_SECOND)) : null;
+        return ZonedDateTime.ofLocal(local, zone, preferred).toInstant().toEpochMilli();
+    }
+
+    /**
+     * Returns the cached offset windows of a zone.
+     *
+     * @param zone The zone.
+     * @return The zone cache.
+     */
+    protected static ZoneCache zoneOf(ZoneId zone) {
+        ZoneCache cache = zones.get(zone);
+        if (cache == null) {
+            cache = new ZoneCache(zone.getRules());
+            if (zones.size() < MAX_CACHED_ZONES) {
+                ZoneCache existing = zones.putIfAbsent(zone, cache);
+                if (existing != null) {
+                    return existing;
+                }
+            }
+        }
+        return cache;
+    }
+
+    // Inner class holding the rules of a zone and the offset window last used for it
+    protected static final class ZoneCache {
+        final ZoneRules rules;
+        volatile Window window;
+
+        ZoneCache(ZoneRules rules) {
+            this.rules = rules;
+            this.window = rules.isFixedOffset()
+                    ? new Window(Long.MIN_VALUE, Long.MAX_VALUE, rules.getOffset(Instant.EPOCH).getTotalSeconds() * MILLIS_PER_SECOND)
+                    : this.load(System.currentTimeMillis());
+        }
+
+        /**
+         * Returns the window holding an instant, loading it from the rules if it is not the cached one.
+         *
+         * @param epochMillis The instant in milliseconds since the epoch.
+         * @return The window.
+         */
+        Window window(long epochMillis) {
+            Window cached = window;
+            if (epochMillis >= cached.start && epochMillis < cached.end) {
+                return cached;
+            }
+            cached = this.load(epochMillis);
+            window = cached;
+            return cached;
+        }
+
+        private Window load(long epochMillis) {
+            Instant instant = Instant.ofEpochMilli(epochMillis);
+            ZoneOffset offset = rules.getOffset(instant);
+            // previousTransition excludes a transition at the instant itself
+            ZoneOffsetTransition previous = rules.previousTransition(instant.plusMillis(1));
+            ZoneOffsetTransition next = rules.nextTransition(instant);
+            long start = previous == null ? Long.MIN_VALUE
+                    : previous.getOffsetAfter().equals(offset) ? previous.toEpochSecond() * MILLIS_PER_SECOND : epochMillis;
+            long end = next == null ? Long.MAX_VALUE : next.toEpochSecond() * MILLIS_PER_SECOND;
+            return new Window(start, end, offset.getTotalSeconds() * MILLIS_PER_SECOND);
+        }
+    }
+
+    // Inner class holding the offset of a zone between two transitions
+    protected static final class Window {
+        final long start;
+        final long end;
+        final long offset;
+
+        Window(long start, long end, long offset) {
+            this.start = start;
+            this.end = end;
+            this.offset = offset;
+        }
+    }
+}
@@ -0,0 +1,276 @@
+package org.unify4j.common;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.unify4j.model.c.HttpHeaders;
+import org.unify4j.model.c.Pair;
+
+import java.time.DateTimeException;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.ZoneOffset;
+import java.time.format.DateTimeFormatter;
+import java.time.format.DateTimeFormatterBuilder;
+import java.time.temporal.ChronoField;
+import java.util.Date;
+import java.util.Locale;
+
+/**
+ * Formats and parses HTTP dates (RFC 7231 IMF-fixdate, e.g. "Sun, 06 Nov 1994 08:49:37 GMT") for the
+ * {@link HttpHeaders#DATE}, {@link HttpHeaders#LAST_MODIFIED}, {@link HttpHeaders#EXPIRES} and similar headers.
+ * <p>
+ * Dates are formatted by hand into a fixed 29-character layout. The text of the current second is cached,
+ * so producing the Date header of a response is a volatile read for every request but the first of each second.
+ * Parsing reads IMF-fixdate without regular expressions, and falls back to formatters for the obsolete
+ * RFC 850 and asctime layouts, which recipients must still accept.
+ */
+public class HttpDate4j {
+    protected static final Logger logger = LoggerFactory.getLogger(HttpDate4j.class);
+    protected static final int LENGTH = 29;
+    protected static final String[] DAYS = {"Sun", "Mon", "Tue", "Wed", "Thu", "Fri", "Sat"};
+    protected static final String[] MONTHS = {"Jan", "Feb", "Mar", "Apr", "May", "Jun", "Jul", "Aug", "Sep", "Oct", "Nov", "Dec"};
+    // Sunday, 06-Nov-94 08:49:37 GMT; two-digit years fall between 1970 and 2069
+    protected static final DateTimeFormatter RFC_850 = new DateTimeFormatterBuilder()
+            .appendPattern("EEEE, dd-MMM-")
+            .appendValueReduced(ChronoField.YEAR, 2, 2, 1970)
+            .appendPattern(" HH:mm:ss 'GMT'")
+            .toFormatter(Locale.US);
+    // Sun Nov  6 08:49:37 1994
+    protected static final DateTimeFormatter ASCTIME = DateTimeFormatter.ofPattern("EEE MMM ppd HH:mm:ss yyyy", Locale.US);
+    protected static volatile Cached current = new Cached(Long.MIN_VALUE, "");
+
+    /**
+     * Returns the HTTP date of the current second, formatted at most once per second.
+     *
+     * @return The current HTTP date, e.g. "Sun, 06 Nov 1994 08:49:37 GMT".
+     */
+    public static String now() {
+        long second = Math.floorDiv(System.currentTimeMillis(), 1000L);
+        Cached cached = current;
+        if (cached.second != second) {
+            cached = new Cached(second, formatSecond(second));
+            current = cached;
+        }
+        return cached.text;
+    }
+
+    /**
+     * Formats epoch milliseconds as an HTTP date; milliseconds are dropped.
+     *
+     * @param epochMillis The time in milliseconds since the epoch.
+     * @return The HTTP date.
+     */
+    public static String format(long epochMillis) {
+        long second = Math.floorDiv(epochMillis, 1000L);
+        Cached cached = current;
+        if (cached.second == second) {
+            return cached.text;
+        }
+        return formatSecond(second);
+    }
+
+    /**
+     * Formats a date as an HTTP date; milliseconds are dropped.
+     *
+     * @param date The date to format.
+     * @return The HTTP date, or an empty string if the date is null.
+     */
+    public static String format(Date date) {
+        if (date == null) {
+            return "";
+        }
+        return format(date.getTime());
+    }
+
+    /**
+     * Parses an HTTP date in IMF-fixdate, RFC 850 or asctime layout.
+     *
+     * @param text The HTTP date.
+     * @return The time in milliseconds since the epoch, or -1 if the text is not a valid HTTP date.
+     */
+    public static long parseMillis(String text) {
+        if (String4j.isEmpty(text)) {
+            return -1;
+        }
+        String value = text.trim();
+        long millis = parseFixdate(value);
+        if (millis != -1 || (value.length() == LENGTH && value.charAt(3) == ',')) {
+            return millis;
+        }
+        for (DateTimeFormatter formatter : new DateTimeFormatter[]{RFC_850, ASCTIME}) {
+            try {
+                return LocalDateTime.parse(value, formatter).toInstant(ZoneOffset.UTC).toEpochMilli();
+            } catch (DateTimeException ignored) {
+                // try the next layout
+            }
+        }
+        logger.debug("Parsing HTTP date got an invalid value: {}", text);
+        return -1;
+    }
+
+    /**
+     * Parses an HTTP date in IMF-fixdate, RFC 850 or asctime layout.
+     *
+     * @param text The HTTP date.
+     * @return The parsed date, or null if the text is not a valid HTTP date.
+     */
+    public static Date parse(String text) {
+        long millis = parseMillis(text);
+        return millis == -1 ? null : new Date(millis);
+    }
+
+    /**
+     * Returns the {@link HttpHeaders#DATE} header of the current second.
+     *
+     * @return The header name and value.
+     */
+    public static Pair<String, String> date() {
+        return Pair.of(HttpHeaders.DATE, now());
+    }
+
+    /**
+     * Returns the {@link HttpHeaders#LAST_MODIFIED} header for a date.
+     *
+     * @param date The last modification date.
+     * @return The header name and value.
+     */
+    public static Pair<String, String> lastModified(Date date) {
+        return Pair.of(HttpHeaders.LAST_MODIFIED, format(date));
+    }
+
+    /**
+     * Returns the {@link HttpHeaders#EXPIRES} header for a time.
+     *
+     * @param epochMillis The expiry time in milliseconds since the epoch.
+     * @return The header name and value.
+     */
+    public static Pair<String, String> expires(long epochMillis) {
+        return Pair.of(HttpHeaders.EXPIRES, format(epochMillis));
+    }
+
+    /**
+     * Formats an epoch second into the fixed IMF-fixdate layout.
+     *
+     * @param second The time in seconds since the epoch.
+     * @return The HTTP date.
+     */
+    protected static String formatSecond(long second) {
+        long days = Math.floorDiv(second, 86400L);
+        int secondOfDay = (int) Math.floorMod(second, 86400L);
+        LocalDate date = LocalDate.ofEpochDay(days);
+        char[] chars = new char[LENGTH];
+        // 1970-01-01 was a Thursday
+        DAYS[(int) Math.floorMod(days + 4, 7L)].getChars(0, 3, chars, 0);
+        chars[3] = ',';
+        chars[4] = ' ';
+        digits(chars, 5, date.getDayOfMonth(), 2);
+        chars[7] = ' ';
+        MONTHS[date.getMonthValue() - 1].getChars(0, 3, chars, 8);
+        chars[11] = ' ';
+        digits(chars, 12, date.getYear(), 4);
+        chars[16] = ' ';
+        digits(chars, 17, secondOfDay / 3600, 2);
+        chars[19] = ':';
+        digits(chars, 20, secondOfDay / 60 % 60, 2);
+        chars[22] = ':';
+        digits(chars, 23, secondOfDay % 60, 2);
+        chars[25] = ' ';
+        chars[26] = 'G';
+        chars[27] = 'M';
+        chars[28] = 'T';
+        return new String(chars);
+    }
+
+    /**
+     * Parses the IMF-fixdate layout by position.
+     *
+     * @param s The trimmed text.
+     * @return The time in milliseconds since the epoch, or -1 if the text is not a valid IMF-fixdate.
+     */
+    protected static long parseFixdate(String s) {
+        if (s.length() != LENGTH || s.charAt(3) != ',' || s.charAt(4) != ' ' || s.charAt(7) != ' ' || s.charAt(11) != ' '
+                || s.charAt(16) != ' ' || s.charAt(19) != ':' || s.charAt(22) != ':' || s.charAt(25) != ' ' || !s.startsWith("GMT", 26)
+                || indexOf(DAYS, s, 0) < 0) {
+            return -1;
+        }
+        int month = indexOf(MONTHS, s, 8) + 1;
+        int day = number(s, 5, 7);
+        int year = number(s, 12, 16);
+        int hour = number(s, 17, 19);
+        int minute = number(s, 20, 22);
+        int second = number(s, 23, 25);
+        if (month < 1 || day < 0 || year < 0 || hour < 0 || hour > 23 || minute < 0 || minute > 59 || second < 0 || second > 60) {
+            return -1;
+        }
+        try {
+            long days = LocalDate.of(year, month, day).toEpochDay();
+            // a leap second is read as the last second of its minute
+            return ((days * 86400L) + hour * 3600L + minute * 60L + Math.min(second, 59)) * 1000L;
+        } catch (DateTimeException e) {
+            return -1;
+        }
+    }
+
+    /**
+     * Writes a non-negative number as a fixed count of digits, zero-padded.
+     *
+     * @param chars    The target chars.
+     * @param position The position of the first digit.
+     * @param value    The number.
+     * @param count    The number of digits.
+     */
+    private static void digits(char[] chars, int position, int value, int count) {
+        for (int i = position + count - 1; i >= position; i--) {
+            chars[i] = (char) ('0' + value % 10);
+            value /= 10;
+        }
+    }
+
+    /**
+     * Parses a range of ASCII digits.
+     *
+     * @param s     The text.
+     * @param start The start index, inclusive.
+     * @param end   The end index, exclusive.
+     * @return The number, or -1 if the range holds a non-digit.
+     */
+    private static int number(String s, int start, int end) {
+        int value = 0;
+        for (int i = start; i < end; i++) {
+            char ch = s.charAt(i);
+            if (ch < '0' || ch > '9') {
+                return -1;
+            }
+            value = value * 10 + (ch - '0');
+        }
+        return value;
+    }
+
+    /**
+     * Finds which three-letter name appears at a position of the text.
+     *
+     * @param names    The names.
+     * @param s        The text.
+     * @param position The position of the name.
+     * @return The index of the name, or -1 if none matches.
+     */
+    private static int indexOf(String[] names, String s, int position) {
+        for (int i = 0; i < names.length; i++) {
+            if (s.startsWith(names[i], position)) {
+                return i;
+            }
+        }
+        return -1;
+    }
+
+    // Inner class holding the HTTP date of one epoch second
+    protected static final class Cached {
+        final long second;
+        final String text;
+
+        Cached(long second, String text) {
+            this.second = second;
+            this.text = text;
+        }
+    }
+}
@@ -5,24 +5,61 @@ import com.fasterxml.jackson.core.JsonFactory;
 import com.fasterxml.jackson.core.JsonGenerator;
 import com.fasterxml.jackson.core.JsonParser;
 import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.core.JsonToken;
 import com.fasterxml.jackson.core.type.TypeReference;
 import com.fasterxml.jackson.databind.*;
+import com.fasterxml.jackson.dataformat.cbor.CBORFactory;
+import com.fasterxml.jackson.dataformat.cbor.CBORGenerator;
+import com.fasterxml.jackson.dataformat.smile.SmileFactory;
 import com.jayway.jsonpath.Configuration;
+import com.jayway.jsonpath.DocumentContext;
 import com.jayway.jsonpath.JsonPath;
 import com.jayway.jsonpath.Option;
+import com.jayway.jsonpath.spi.json.JacksonJsonProvider;
+import com.jayway.jsonpath.spi.mapper.JacksonMappingProvider;
 import kong.unirest.HttpResponse;
+import kong.unirest.RawResponse;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
+import org.unify4j.model.enums.DataFormatType;
 
 import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
 import java.io.StringWriter;
-import java.util.Collections;
-import java.util.List;
-import java.util.Map;
+import java.io.Writer;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.*;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ForkJoinPool;
+import java.util.function.Consumer;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
 
 public class Json4j {
     protected static final Logger logger = LoggerFactory.getLogger(Json4j.class);
     protected static final ObjectMapper instance = createInstance();
+    protected static final ObjectMapper smileInstance = createInstance(DataFormatType.SMILE);
+    protected static final ObjectMapper cborInstance = createInstance(DataFormatType.CBOR);
+    // Reads projected values with the JSON types of JsonPath, i.e. floating-point numbers as Double
+    protected static final ObjectReader projectionReader = instance.readerFor(Object.class).without(DeserializationFeature.USE_BIG_DECIMAL_FOR_FLOATS);
+    protected static final int MAX_COMPILED_PATHS = 1024;
+    protected static final int NDJSON_MIN_CHUNK_SIZE = 1 << 20; // 1 MB
+    protected static final int NDJSON_MAX_CHUNK_SIZE = 16 << 20; // 16 MB
+    protected static final ConcurrentMap<String, JsonPath> compiledPaths = new ConcurrentHashMap<>();
+    protected static final Configuration pathConfiguration = Configuration.defaultConfiguration().addOptions(Option.DEFAULT_PATH_LEAF_TO_NULL);
+    protected static final Configuration jacksonPathConfiguration = Configuration.builder()
+            .jsonProvider(new JacksonJsonProvider(instance))
+            .mappingProvider(new JacksonMappingProvider(instance))
+            .options(Option.DEFAULT_PATH_LEAF_TO_NULL)
+            .build();
 
     /**
      * Creates and configures a new instance of ObjectMapper with commonly used settings.
@@ -30,7 +67,33 @@ public class Json4j {
      * @return a new instance of ObjectMapper configured with common settings
      */
     public static ObjectMapper createInstance() {
-        ObjectMapper mapper = new ObjectMapper();
+        return configure(new ObjectMapper());
+    }
+
+    /**
+     * Creates and configures a new instance of ObjectMapper for the specified data format with the same settings as {@link #createInstance()}.
+     * Binary formats always write their format header (Smile header, CBOR self-describe tag) so they can be detected on read.
+     *
+     * @param format the data format the ObjectMapper reads and writes
+     * @return a new instance of ObjectMapper configured with common settings
+     */
+    public static ObjectMapper createInstance(DataFormatType format) {
+        if (format == DataFormatType.SMILE) {
+            return configure(new ObjectMapper(new SmileFactory()));
+        }
+        if (format == DataFormatType.CBOR) {
+            return configure(new ObjectMapper(new CBORFactory().enable(CBORGenerator.Feature.WRITE_TYPE_HEADER)));
+        }
+        return createInstance();
+    }
+
+    /**
+     * Applies the commonly used settings to the specified ObjectMapper.
+     *
+     * @param mapper the ObjectMapper to configure
+     * @return the configured ObjectMapper
+     */
+    protected static ObjectMapper configure(ObjectMapper mapper) {
         mapper.configure(JsonParser.Feature.ALLOW_UNQUOTED_FIELD_NAMES, true);
         mapper.configure(DeserializationFeature.ACCEPT_EMPTY_STRING_AS_NULL_OBJECT, true);
         mapper.configure(DeserializationFeature.FAIL_ON_UNKNOWN_PROPERTIES, false);
@@ -40,6 +103,18 @@ public class Json4j {
         return mapper;
     }
 
+    /**
+     * Returns the factory creating the text generators of the specified ObjectMapper: its own factory if it writes text,
+     * otherwise (Smile, CBOR) the JSON factory of the default instance, so the mapper still serializes the value as JSON.
+     *
+     * @param mapper the ObjectMapper serializing the value
+     * @return a factory able to write to a Writer
+     */
+    protected static JsonFactory textFactoryOf(ObjectMapper mapper) {
+        JsonFactory factory = mapper.getFactory();
+        return factory.canUseCharArrays() ? factory : instance.getFactory();
+    }
+
     /**
      * Converts the specified object to a JSON string.
      *
@@ -50,7 +125,7 @@ public class Json4j {
         StringWriter writer = new StringWriter();
         JsonGenerator generator = null;
         try {
-            generator = new JsonFactory().createGenerator(writer);
+            generator = textFactoryOf(instance).createGenerator(writer);
             instance.writeValue(generator, data);
         } catch (IOException e) {
             logger.error("Error occurred while converting object to JSON: {}", e.getMessage(), e);
@@ -67,8 +142,26 @@ public class Json4j {
         return writer.toString();
     }
 
+    /**
+     * Writes the specified object as JSON to the writer, without building an intermediate string.
+     * The writer is flushed but not closed.
+     *
+     * @param data   the object to convert to JSON
+     * @param writer the writer receiving the JSON
+     */
+    public static void toJson(Object data, Writer writer) {
+        try (JsonGenerator generator = textFactoryOf(instance).createGenerator(writer)) {
+            generator.disable(JsonGenerator.Feature.AUTO_CLOSE_TARGET);
+            instance.writeValue(generator, data);
+        } catch (IOException e) {
+            logger.error("Error occurred while converting object to JSON: {}", e.getMessage(), e);
+            throw new RuntimeException("Error occurred while converting object to JSON: " + e.getMessage(), e);
+        }
+    }
+
     /**
      * Converts the specified object to a JSON string using the provided ObjectMapper instance.
+     * A binary ObjectMapper (Smile, CBOR) serializes the object through a JSON generator.
      *
      * @param data     the object to convert to JSON
      * @param instance the ObjectMapper instance to use for serialization
@@ -78,7 +171,7 @@ public class Json4j {
         StringWriter writer = new StringWriter();
         JsonGenerator generator = null;
         try {
-            generator = new JsonFactory().createGenerator(writer);
+            generator = textFactoryOf(instance).createGenerator(writer);
             instance.writeValue(generator, data);
         } catch (IOException e) {
             logger.error("Error occurred while converting object to JSON: {}", e.getMessage(), e);
@@ -95,6 +188,134 @@ public class Json4j {
         return writer.toString();
     }
 
+    /**
+     * Serializes the specified object to bytes in the specified data format.
+     *
+     * @param data   the object to serialize
+     * @param format the data format to write
+     * @return the encoded bytes
+     * @throws RuntimeException if an error occurs during serialization
+     */
+    public static byte[] toBytes(Object data, DataFormatType format) {
+        try {
+            return mapperOf(format).writeValueAsBytes(data);
+        } catch (JsonProcessingException e) {
+            logger.error("Error occurred while converting object to {}: {}", format, e.getMessage(), e);
+            throw new RuntimeException("Error occurred while converting object to " + format + ": " + e.getMessage(), e);
+        }
+    }
+
+    /**
+     * Deserializes the specified bytes into an instance of the specified class, detecting whether they hold JSON, Smile or CBOR.
+     *
+     * @param bytes the encoded bytes
+     * @param clazz the class of the target object
+     * @param <T>   the type of the target object
+     * @return an instance of the specified class representing the data, or null if the bytes are empty
+     * @throws RuntimeException if the format cannot be detected or an error occurs during deserialization
+     */
+    public static <T> T fromBytes(byte[] bytes, Class<T> clazz) {
+        if (bytes == null || bytes.length == 0) {
+            return null;
+        }
+        return fromBytes(bytes, clazz, detectFormat(bytes));
+    }
+
+    /**
+     * Deserializes the specified bytes in the specified data format into an instance of the specified class.
+     *
+     * @param bytes  the encoded bytes
+     * @param clazz  the class of the target object
+     * @param format the data format of the bytes
+     * @param <T>    the type of the target object
+     * @return an instance of the specified class representing the data, or null if the bytes are empty
+     * @throws RuntimeException if an error occurs during deserialization
+     */
+    public static <T> T fromBytes(byte[] bytes, Class<T> clazz, DataFormatType format) {
+        if (bytes == null || bytes.length == 0) {
+            return null;
+        }
+        try {
+            return mapperOf(format).readValue(bytes, clazz);
+        } catch (IOException e) {
+            logger.error("Error occurred while deserializing {} bytes: {}", format, e.getMessage(), e);
+            throw new RuntimeException("Error occurred while deserializing " + format + " bytes: " + e.getMessage(), e);
+        }
+    }
+
+    /**
+     * Deserializes the specified bytes into a generic type, detecting whether they hold JSON, Smile or CBOR.
+     *
+     * @param bytes     the encoded bytes
+     * @param reference the TypeReference representing the generic type
+     * @param <T>       the type of the generic type
+     * @return an instance of the specified generic type representing the data, or null if the bytes are empty
+     * @throws RuntimeException if the format cannot be detected or an error occurs during deserialization
+     */
+    public static <T> T fromBytes(byte[] bytes, TypeReference<T> reference) {
+        if (bytes == null || bytes.length == 0) {
+            return null;
+        }
+        DataFormatType format = detectFormat(bytes);
+        try {
+            return mapperOf(format).readValue(bytes, reference);
+        } catch (IOException e) {
+            logger.error("Error occurred while deserializing {} bytes: {}", format, e.getMessage(), e);
+            throw new RuntimeException("Error occurred while deserializing " + format + " bytes: " + e.getMessage(), e);
+        }
+    }
+
+    /**
+     * Detects whether the specified bytes hold JSON, Smile or CBOR data.
+     * Smile is recognized by its ":)\n" header, CBOR by its self-describe tag or a leading map/array,
+     * and JSON by its first non-whitespace character.
+     *
+     * @param bytes the encoded bytes
+     * @return the detected data format
+     * @throws IllegalArgumentException if the format cannot be detected
+     */
+    public static DataFormatType detectFormat(byte[] bytes) {
+        if (bytes == null || bytes.length == 0) {
+            throw new IllegalArgumentException("Bytes are required");
+        }
+        if (bytes.length >= 3 && bytes[0] == ':' && bytes[1] == ')' && bytes[2] == '\n') {
+            return DataFormatType.SMILE;
+        }
+        int first = bytes[0] & 0xFF;
+        if (bytes.length >= 3 && first == 0xD9 && (bytes[1] & 0xFF) == 0xD9 && (bytes[2] & 0xFF) == 0xF7) {
+            return DataFormatType.CBOR;
+        }
+        for (byte b : bytes) {
+            if (b == ' ' || b == '\t' || b == '\r' || b == '\n') {
+                continue;
+            }
+            if (b == '{' || b == '[' || b == '"' || b == '-' || (b >= '0' && b <= '9') || b == 't' || b == 'f' || b == 'n') {
+                return DataFormatType.JSON;
+            }
+            break;
+        }
+        if (first >= 0x80 && first <= 0xBF) {
+            return DataFormatType.CBOR;
+        }
+        throw new IllegalArgumentException("Unable to detect data format of the given bytes");
+    }
+
+    /**
+     * Returns the shared ObjectMapper instance for the specified data format.
+     *
+     * @param format the data format
+     * @return the ObjectMapper reading and writing the data format, JSON if the format is null
+     */
+    public static ObjectMapper mapperOf(DataFormatType format) {
+        if (format == DataFormatType.SMILE) {
+            return smileInstance;
+        }
+        if (format == DataFormatType.CBOR) {
+            return cborInstance;
+        }
+        return instance;
+    }
+
     /**
      * Converts the specified object to a JSON string or its string representation if it is a primitive type.
      *
@@ -348,8 +569,90 @@ public class Json4j {
      * @return the value at the specified JSONPath expression
      */
     public static <T> T readIf(String json, String path) {
-        Configuration conf = Configuration.defaultConfiguration().addOptions(Option.DEFAULT_PATH_LEAF_TO_NULL);
-        return JsonPath.using(conf).parse(json).read(path);
+        return compile(path).read(json, pathConfiguration);
+    }
+
+    /**
+     * Reads the value at the specified JSONPath expression from an already parsed JSON document.
+     * Use {@link #document(String)} to parse the JSON once and evaluate many paths against the same tree.
+     *
+     * @param document the parsed JSON document to read from
+     * @param path     the JSONPath expression to use for reading
+     * @param <T>      the type of the value to read
+     * @return the value at the specified JSONPath expression, or null if the document is null
+     */
+    public static <T> T readIf(DocumentContext document, String path) {
+        if (document == null) {
+            return null;
+        }
+        return document.read(compile(path));
+    }
+
+    /**
+     * Compiles the specified JSONPath expression, reusing a previously compiled instance when available.
+     * Compiled paths are immutable and thread-safe, so they are shared across all callers.
+     * The cache is bounded, once it is full, new expressions are compiled on every call without being cached.
+     *
+     * @param path the JSONPath expression to compile
+     * @return the compiled JsonPath
+     * @throws IllegalArgumentException if the path is empty or null
+     */
+    public static JsonPath compile(String path) {
+        if (String4j.isEmpty(path)) {
+            throw new IllegalArgumentException("JSON path is required");
+        }
+        JsonPath compiled = compiledPaths.get(path);
+        if (compiled != null) {
+            return compiled;
+        }
+        compiled = JsonPath.compile(path);
+        if (compiledPaths.size() < MAX_COMPILED_PATHS) {
+            JsonPath existing = compiledPaths.putIfAbsent(path, compiled);
+            if (existing != null) {
+                return existing;
+            }
+        }
+        return compiled;
+    }
+
+    /**
+     * Parses the specified JSON string once into a document that can be queried with many JSONPath expressions.
+     * The default JSON provider is used, so values read from the document are identical to {@link #readIf(String, String)}.
+     *
+     * @param json the JSON string to parse
+     * @return the parsed document
+     * @throws IllegalArgumentException if the JSON string is empty or null
+     */
+    public static DocumentContext document(String json) {
+        return document(json, pathConfiguration);
+    }
+
+    /**
+     * Parses the specified JSON string once into a document backed by the default Jackson ObjectMapper instance.
+     * The tree is built with Jackson, which avoids the overhead of the default provider and applies the same
+     * configuration as {@link #createInstance()} when mapping values (e.g. floats are read as BigDecimal).
+     *
+     * @param json the JSON string to parse
+     * @return the parsed document
+     * @throws IllegalArgumentException if the JSON string is empty or null
+     */
+    public static DocumentContext jacksonDocument(String json) {
+        return document(json, jacksonPathConfiguration);
+    }
+
+    /**
+     * Parses the specified JSON string once into a document using the provided JsonPath configuration.
+     *
+     * @param json the JSON string to parse
+     * @param conf the JsonPath configuration to use for parsing
+     * @return the parsed document
+     * @throws IllegalArgumentException if the JSON string is empty or null
+     */
+    public static DocumentContext document(String json, Configuration conf) {
+        if (String4j.isEmpty(json)) {
+            throw new IllegalArgumentException("JSON string is required");
+        }
+        return JsonPath.using(conf == null ? pathConfiguration : conf).parse(json);
     }
 
     /**
@@ -366,6 +669,136 @@ public class Json4j {
         return json2Target(response.getBody().toString(), Map.class);
     }
 
+    /**
+     * Translates the raw bytes of the HttpResponse (e.g. from {@code asBytes()}) directly into an instance of the specified class,
+     * without decoding the body into an intermediate string.
+     *
+     * @param response the HttpResponse to translate
+     * @param clazz    the class of the target object
+     * @param <T>      the type of the target object
+     * @return an instance of the specified class representing the body, or null if the response or its body is empty
+     */
+    public static <T> T translateBytes(HttpResponse<byte[]> response, Class<T> clazz) {
+        if (response == null) {
+            return null;
+        }
+        return translate(response.getBody(), clazz);
+    }
+
+    /**
+     * Translates the body stream of the HttpResponse (e.g. from {@code asBinary()}) directly into an instance of the specified class,
+     * without decoding the body into an intermediate string. The body stream is closed afterwards.
+     *
+     * @param response the HttpResponse to translate
+     * @param clazz    the class of the target object
+     * @param <T>      the type of the target object
+     * @return an instance of the specified class representing the body, or null if the response or its body is empty
+     */
+    public static <T> T translateBinary(HttpResponse<InputStream> response, Class<T> clazz) {
+        if (response == null) {
+            return null;
+        }
+        return translate(response.getBody(), clazz);
+    }
+
+    /**
+     * Creates a function that decodes the raw response content straight from the connection stream into an instance of the specified class.
+     * Pass it to {@code asObject(Function)} so the body is parsed once, while it is being received, e.g.
+     * {@code Unirest.get(url).asObject(Json4j.translator(Order.class))}.
+     *
+     * @param clazz the class of the target object
+     * @param <T>   the type of the target object
+     * @return a function translating a RawResponse to the target object
+     */
+    public static <T> Function<RawResponse, T> translator(Class<T> clazz) {
+        return raw -> raw == null || !raw.hasContent() ? null : translate(raw.getContent(), clazz);
+    }
+
+    /**
+     * Deserializes the specified JSON bytes into an instance of the specified class.
+     *
+     * @param body  the JSON bytes to deserialize
+     * @param clazz the class of the target object
+     * @param <T>   the type of the target object
+     * @return an instance of the specified class representing the JSON data, or null if the body is empty
+     * @throws RuntimeException if an error occurs during deserialization
+     */
+    public static <T> T translate(byte[] body, Class<T> clazz) {
+        if (body == null || body.length == 0) {
+            return null;
+        }
+        try {
+            return instance.readValue(body, clazz);
+        } catch (IOException e) {
+            logger.error("Error occurred while deserializing JSON bytes: {}", e.getMessage(), e);
+            throw new RuntimeException("Error occurred while deserializing JSON bytes: " + e.getMessage(), e);
+        }
+    }
+
+    /**
+     * Deserializes the specified JSON stream into an instance of the specified class. The stream is closed afterwards.
+     *
+     * @param body  the JSON stream to deserialize
+     * @param clazz the class of the target object
+     * @param <T>   the type of the target object
+     * @return an instance of the specified class representing the JSON data, or null if the stream is null or empty
+     * @throws RuntimeException if an error occurs during deserialization
+     */
+    public static <T> T translate(InputStream body, Class<T> clazz) {
+        if (body == null) {
+            return null;
+        }
+        try (JsonParser parser = instance.getFactory().createParser(body)) {
+            if (parser.nextToken() == null) {
+                return null;
+            }
+            return instance.readValue(parser, clazz);
+        } catch (IOException e) {
+            logger.error("Error occurred while deserializing JSON stream: {}", e.getMessage(), e);
+            throw new RuntimeException("Error occurred while deserializing JSON stream: " + e.getMessage(), e);
+        }
+    }
+
+    /**
+     * Deserializes the specified JSON bytes into a Jackson tree.
+     *
+     * @param body the JSON bytes to deserialize
+     * @return the root JsonNode, or an empty object node if the body is null, empty or blank
+     * @throws RuntimeException if an error occurs during deserialization
+     */
+    public static JsonNode translateTree(byte[] body) {
+        if (body == null || body.length == 0) {
+            return instance.createObjectNode();
+        }
+        try {
+            JsonNode node = instance.readTree(body);
+            return node == null || node.isMissingNode() ? instance.createObjectNode() : node;
+        } catch (IOException e) {
+            logger.error("Error occurred while deserializing JSON bytes: {}", e.getMessage(), e);
+            throw new RuntimeException("Error occurred while deserializing JSON bytes: " + e.getMessage(), e);
+        }
+    }
+
+    /**
+     * Deserializes the specified JSON stream into a Jackson tree. The stream is closed afterwards.
+     *
+     * @param body the JSON stream to deserialize
+     * @return the root JsonNode, or an empty object node if the stream is null or empty
+     * @throws RuntimeException if an error occurs during deserialization
+     */
+    public static JsonNode translateTree(InputStream body) {
+        if (body == null) {
+            return instance.createObjectNode();
+        }
+        try (InputStream in = body) {
+            JsonNode node = instance.readTree(in);
+            return node == null || node.isMissingNode() ? instance.createObjectNode() : node;
+        } catch (IOException e) {
+            logger.error("Error occurred while deserializing JSON stream: {}", e.getMessage(), e);
+            throw new RuntimeException("Error occurred while deserializing JSON stream: " + e.getMessage(), e);
+        }
+    }
+
     /**
      * Reads the value at the specified JSONPath expression from the JSON string.
      *
@@ -382,4 +815,535 @@ public class Json4j {
         return instance.convertValue(values, new TypeReference<List<T>>() {
         });
     }
+
+    /**
+     * Reads the collection at the specified JSONPath expression from an already parsed JSON document.
+     *
+     * @param document the parsed JSON document to read from
+     * @param path     the JSONPath expression to use for reading
+     * @param <T>      the type of the value to read
+     * @return the values at the specified JSONPath expression
+     */
+    public static <T> List<T> readCollIf(DocumentContext document, String path) {
+        List<Object> values = readIf(document, path);
+        if (Collection4j.isEmpty(values)) {
+            return Collections.emptyList();
+        }
+        return instance.convertValue(values, new TypeReference<List<T>>() {
+        });
+    }
+
+    /**
+     * Projects the specified paths out of the JSON string in a single pass over the token stream.
+     * Unlike {@link #readIf(String, String)}, no tree is built: subtrees that are not requested are skipped,
+     * and parsing stops as soon as every requested path has been found.
+     * Paths are simple dotted expressions with optional array indexes and quoted keys, e.g. "$.user.id",
+     * "items[0].name" or "$['first name']"; wildcards, filters and other JSONPath selectors are not supported.
+     * Spellings of the same path, such as "$.user.id" and "user.id", are each mapped to the value.
+     * Values have the types {@link #readIf(String, String)} returns: floating-point numbers are read as Double.
+     *
+     * @param json  the JSON string to project from
+     * @param paths the paths to extract
+     * @return a map from each found path to its value, in the order the paths were requested; missing paths are absent
+     * @throws IllegalArgumentException if a path uses an unsupported selector
+     */
+    public static Map<String, Object> project(String json, String... paths) {
+        return project(json, Arrays.asList(paths));
+    }
+
+    /**
+     * Projects the specified paths out of the JSON string in a single pass over the token stream.
+     *
+     * @param json  the JSON string to project from
+     * @param paths the paths to extract
+     * @return a map from each found path to its value, in the order the paths were requested; missing paths are absent
+     */
+    public static Map<String, Object> project(String json, Collection<String> paths) {
+        if (String4j.isEmpty(json)) {
+            return Collections.emptyMap();
+        }
+        try (JsonParser parser = instance.getFactory().createParser(json)) {
+            return project(parser, paths);
+        } catch (IOException e) {
+            logger.error("Error occurred while projecting JSON string: {}", e.getMessage(), e);
+            throw new RuntimeException("Error occurred while projecting JSON string: " + e.getMessage(), e);
+        }
+    }
+
+    /**
+     * Projects the specified paths out of the JSON stream in a single pass over the token stream.
+     * The stream is read only as far as needed to find every requested path and is not closed.
+     *
+     * @param stream the JSON stream to project from
+     * @param paths  the paths to extract
+     * @return a map from each found path to its value, in the order the paths were requested; missing paths are absent
+     */
+    public static Map<String, Object> project(InputStream stream, Collection<String> paths) {
+        if (stream == null) {
+            return Collections.emptyMap();
+        }
+        try (JsonParser parser = instance.getFactory().createParser(stream)) {
+            parser.disable(JsonParser.Feature.AUTO_CLOSE_SOURCE);
+            return project(parser, paths);
+        } catch (IOException e) {
+            logger.error("Error occurred while projecting JSON stream: {}", e.getMessage(), e);
+            throw new RuntimeException("Error occurred while projecting JSON stream: " + e.getMessage(), e);
+        }
+    }
+
+    /**
+     * Projects the specified paths from the parser, positioned before the root value.
+     *
+     * @param parser the parser to read from
+     * @param paths  the paths to extract
+     * @return a map from each found path to its value
+     * @throws IOException if an error occurs while reading the token stream
+     */
+    protected static Map<String, Object> project(JsonParser parser, Collection<String> paths) throws IOException {
+        if (Collection4j.isEmpty(paths)) {
+            return Collections.emptyMap();
+        }
+        ProjectionNode root = new ProjectionNode();
+        // each requested path mapped to the first spelling of the same path, under which its value is found
+        Map<String, String> spellings = new LinkedHashMap<>();
+        int remaining = 0;
+        for (String path : paths) {
+            ProjectionNode node = root.add(path);
+            if (node == null) {
+                continue;
+            }
+            if (node.path == null) {
+                node.path = path;
+                remaining++;
+            }
+            spellings.put(path, node.path);
+        }
+        Map<String, Object> found = new HashMap<>();
+        if (parser.nextToken() != null) {
+            projectValue(parser, root, found, remaining);
+        }
+        Map<String, Object> result = new LinkedHashMap<>();
+        for (Map.Entry<String, String> spelling : spellings.entrySet()) {
+            if (found.containsKey(spelling.getValue())) {
+                result.put(spelling.getKey(), found.get(spelling.getValue()));
+            }
+        }
+        return result;
+    }
+
+    /**
+     * Projects the value at the current token of the parser, skipping every subtree that no path goes through.
+     *
+     * @param parser    the parser, positioned at the first token of the value
+     * @param node      the projection node matching the current value
+     * @param result    the map receiving found values
+     * @param remaining the number of paths still to be found
+     * @return the number of paths still to be found after this value
+     * @throws IOException if an error occurs while reading the token stream
+     */
+    private static int projectValue(JsonParser parser, ProjectionNode node, Map<String, Object> result, int remaining) throws IOException {
+        if (node.path != null) {
+            Object value = projectionReader.readValue(parser);
+            result.put(node.path, value);
+            return collectProjected(value, node, result, remaining - 1);
+        }
+        JsonToken token = parser.currentToken();
+        if (token == JsonToken.START_OBJECT && !node.fields.isEmpty()) {
+            while (parser.nextToken() == JsonToken.FIELD_NAME) {
+                ProjectionNode child = node.fields.get(parser.currentName());
+                parser.nextToken();
+                if (child == null) {
+                    parser.skipChildren();
+                    continue;
+                }
+                remaining = projectValue(parser, child, result, remaining);
+                if (remaining == 0) {
+                    return 0;
+                }
+            }
+            return remaining;
+        }
+        if (token == JsonToken.START_ARRAY && !node.indexes.isEmpty()) {
+            int index = 0;
+            for (JsonToken next = parser.nextToken(); next != null && next != JsonToken.END_ARRAY; next = parser.nextToken()) {
+                ProjectionNode child = node.indexes.get(index++);
+                if (child == null) {
+                    parser.skipChildren();
+                    continue;
+                }
+                remaining = projectValue(parser, child, result, remaining);
+                if (remaining == 0) {
+                    return 0;
+                }
+            }
+            return remaining;
+        }
+        parser.skipChildren();
+        return remaining;
+    }
+
+    /**
+     * Collects nested paths from a value that has already been materialized because a parent path was requested.
+     *
+     * @param value     the materialized value (map, list or scalar)
+     * @param node      the projection node matching the value
+     * @param result    the map receiving found values
+     * @param remaining the number of paths still to be found
+     * @return the number of paths still to be found
+     */
+    private static int collectProjected(Object value, ProjectionNode node, Map<String, Object> result, int remaining) {
+        if (value instanceof Map) {
+            Map<?, ?> map = (Map<?, ?>) value;
+            for (Map.Entry<String, ProjectionNode> entry : node.fields.entrySet()) {
+                if (map.containsKey(entry.getKey())) {
+                    remaining = collectProjectedChild(map.get(entry.getKey()), entry.getValue(), result, remaining);
+                }
+            }
+        } else if (value instanceof List) {
+            List<?> list = (List<?>) value;
+            for (Map.Entry<Integer, ProjectionNode> entry : node.indexes.entrySet()) {
+                if (entry.getKey() < list.size()) {
+                    remaining = collectProjectedChild(list.get(entry.getKey()), entry.getValue(), result, remaining);
+                }
+            }
+        }
+        return remaining;
+    }
+
+    /**
+     * Records the value if the node ends a requested path, then continues with its nested paths.
+     *
+     * @param value     the materialized value
+     * @param node      the projection node matching the value
+     * @param result    the map receiving found values
+     * @param remaining the number of paths still to be found
+     * @return the number of paths still to be found
+     */
+    private static int collectProjectedChild(Object value, ProjectionNode node, Map<String, Object> result, int remaining) {
+        if (node.path != null) {
+            result.put(node.path, value);
+            remaining--;
+        }
+        return collectProjected(value, node, result, remaining);
+    }
+
+    // Inner class representing one step of the requested projection paths.
+    private static class ProjectionNode {
+        final Map<String, ProjectionNode> fields = new HashMap<>();
+        final Map<Integer, ProjectionNode> indexes = new HashMap<>();
+        String path;
+
+        /**
+         * Adds the steps of the path below this node, e.g. "$.items[0]['first name']" becomes items -> [0] -> first name.
+         * The leading "$" is optional, so "$.a" and "a" end at the same node.
+         *
+         * @param path the path to add
+         * @return the node ending the path, or null if the path is null
+         * @throws IllegalArgumentException if the path holds an unclosed bracket or an unsupported selector
+         */
+        ProjectionNode add(String path) {
+            if (path == null) {
+                return null;
+            }
+            ProjectionNode node = this;
+            int i = path.startsWith("$") ? 1 : 0;
+            int n = path.length();
+            while (i < n) {
+                char c = path.charAt(i);
+                if (c == '.') {
+                    i++;
+                } else if (c == '[' && i + 1 < n && (path.charAt(i + 1) == '\'' || path.charAt(i + 1) == '"')) {
+                    int end = path.indexOf(path.charAt(i + 1), i + 2);
+                    if (end < 0 || end + 1 >= n || path.charAt(end + 1) != ']') {
+                        throw new IllegalArgumentException("Unclosed quoted key in JSON path: " + path);
+                    }
+                    node = node.fields.computeIfAbsent(path.substring(i + 2, end), k -> new ProjectionNode());
+                    i = end + 2;
+                } else if (c == '[') {
+                    int end = path.indexOf(']', i);
+                    if (end < 0) {
+                        throw new IllegalArgumentException("Unclosed array index in JSON path: " + path);
+                    }
+                    String selector = path.substring(i + 1, end).trim();
+                    if (selector.isEmpty() || selector.length() > 9 || !selector.chars().allMatch(Character::isDigit)) {
+                        throw new IllegalArgumentException("Unsupported selector " + path.substring(i, end + 1) + " in JSON path: " + path);
+                    }
+                    node = node.indexes.computeIfAbsent(Integer.parseInt(selector), k -> new ProjectionNode());
+                    i = end + 1;
+                } else {
+                    int end = i;
+                    while (end < n && path.charAt(end) != '.' && path.charAt(end) != '[') {
+                        end++;
+                    }
+                    node = node.fields.computeIfAbsent(path.substring(i, end), k -> new ProjectionNode());
+                    i = end;
+                }
+            }
+            return node;
+        }
+    }
+
+    /**
+     * Deserializes the specified NDJSON (JSON Lines) string into a list of instances of the specified class.
+     * Each non-blank line holds one JSON value.
+     *
+     * @param ndjson the NDJSON string to deserialize
+     * @param clazz  the class of the target objects
+     * @param <T>    the type of the target objects
+     * @return a list containing one instance per line, in line order
+     */
+    public static <T> List<T> ndjson2List(String ndjson, Class<T> clazz) {
+        if (String4j.isEmpty(ndjson)) {
+            return Collections.emptyList();
+        }
+        try (MappingIterator<T> iterator = instance.readerFor(clazz).readValues(ndjson)) {
+            return iterator.readAll();
+        } catch (IOException e) {
+            logger.error("Error occurred while deserializing NDJSON string: {}", e.getMessage(), e);
+            throw new RuntimeException("Error occurred while deserializing NDJSON string: " + e.getMessage(), e);
+        }
+    }
+
+    /**
+     * Deserializes the specified NDJSON (JSON Lines) file into a list of instances of the specified class.
+     * The file is split into chunks at newline boundaries and the chunks are bound in parallel, the result keeps line order.
+     *
+     * @param filename the NDJSON file to read
+     * @param clazz    the class of the target objects
+     * @param <T>      the type of the target objects
+     * @return a list containing one instance per line, in line order
+     */
+    public static <T> List<T> ndjson2List(Path filename, Class<T> clazz) {
+        return ndjson2List(filename, clazz, instance);
+    }
+
+    /**
+     * Deserializes the specified NDJSON (JSON Lines) file into a list of instances of the specified class using the provided ObjectMapper instance.
+     * The file is split into chunks at newline boundaries and the chunks are bound in parallel, the result keeps line order.
+     *
+     * @param filename the NDJSON file to read
+     * @param clazz    the class of the target objects
+     * @param instance the ObjectMapper instance to use for deserialization
+     * @param <T>      the type of the target objects
+     * @return a list containing one instance per line, in line order
+     */
+    public static <T> List<T> ndjson2List(Path filename, Class<T> clazz, ObjectMapper instance) {
+        List<long[]> chunks = ndjsonChunks(filename);
+        return chunks.parallelStream()
+                .map(chunk -> ndjsonChunk2List(filename, chunk, clazz, instance))
+                .flatMap(List::stream)
+                .collect(Collectors.toList());
+    }
+
+    /**
+     * Reads the specified NDJSON (JSON Lines) file in parallel and passes every bound line to the consumer.
+     * When ordered is true, the consumer is called in line order from one thread at a time;
+     * otherwise it is called concurrently from worker threads as soon as each line is bound and must be thread-safe.
+     *
+     * @param filename the NDJSON file to read
+     * @param clazz    the class of the target objects
+     * @param ordered  whether the consumer must receive the values in line order
+     * @param consumer the consumer receiving each bound value
+     * @param <T>      the type of the target objects
+     */
+    public static <T> void ndjsonEach(Path filename, Class<T> clazz, boolean ordered, Consumer<? super T> consumer) {
+        ndjsonEach(filename, clazz, ordered, consumer, ForkJoinPool.commonPool());
+    }
+
+    /**
+     * Reads the specified NDJSON (JSON Lines) file in parallel on the supplied pool and passes every bound line to the consumer.
+     *
+     * @param filename the NDJSON file to read
+     * @param clazz    the class of the target objects
+     * @param ordered  whether the consumer must receive the values in line order
+     * @param consumer the consumer receiving each bound value
+     * @param pool     the pool running the chunk parsing tasks
+     * @param <T>      the type of the target objects
+     */
+    public static <T> void ndjsonEach(Path filename, Class<T> clazz, boolean ordered, Consumer<? super T> consumer, ForkJoinPool pool) {
+        if (consumer == null) {
+            return;
+        }
+        List<long[]> chunks = ndjsonChunks(filename);
+        Runnable task = ordered
+                ? () -> chunks.parallelStream().map(chunk -> ndjsonChunk2List(filename, chunk, clazz, instance)).forEachOrdered(values -> values.forEach(consumer))
+                : () -> chunks.parallelStream().forEach(chunk -> ndjsonChunk2List(filename, chunk, clazz, instance).forEach(consumer));
+        try {
+            pool.submit(task).get();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new RuntimeException("Interrupted while reading NDJSON file: " + filename, e);
+        } catch (ExecutionException e) {
+            Throwable cause = e.getCause();
+            if (cause instanceof RuntimeException) {
+                throw (RuntimeException) cause;
+            }
+            throw new RuntimeException("Error occurred while reading NDJSON file: " + cause.getMessage(), cause);
+        }
+    }
+
+    /**
+     * Writes every value as one JSON line to the output stream, through a single buffered generator
+     * that is only flushed once all values are written. The output stream is not closed.
+     *
+     * @param out    the output stream to write to
+     * @param values the values to write
+     * @return the number of lines written
+     */
+    public static long writeNdjson(OutputStream out, Iterator<?> values) {
+        long count = 0;
+        ObjectWriter writer = instance.writer().without(SerializationFeature.FLUSH_AFTER_WRITE_VALUE);
+        try (JsonGenerator generator = instance.getFactory().createGenerator(out)) {
+            generator.disable(JsonGenerator.Feature.AUTO_CLOSE_TARGET);
+            generator.setRootValueSeparator(null);
+            while (values != null && values.hasNext()) {
+                writer.writeValue(generator, values.next());
+                generator.writeRaw('\n');
+                count++;
+            }
+        } catch (IOException e) {
+            logger.error("Error occurred while writing NDJSON: {}", e.getMessage(), e);
+            throw new RuntimeException("Error occurred while writing NDJSON: " + e.getMessage(), e);
+        }
+        return count;
+    }
+
+    /**
+     * Writes every value as one JSON line to the output stream.
+     *
+     * @param out    the output stream to write to
+     * @param values the values to write
+     * @return the number of lines written
+     */
+    public static long writeNdjson(OutputStream out, Iterable<?> values) {
+        return writeNdjson(out, values == null ? null : values.iterator());
+    }
+
+    /**
+     * Writes every value of the stream as one JSON line to the output stream, consuming the stream lazily.
+     *
+     * @param out    the output stream to write to
+     * @param values the values to write
+     * @return the number of lines written
+     */
+    public static long writeNdjson(OutputStream out, Stream<?> values) {
+        return writeNdjson(out, values == null ? null : values.iterator());
+    }
+
+    /**
+     * Writes every value as one JSON line to the specified file.
+     *
+     * @param filename the file to write to
+     * @param values   the values to write
+     * @param options  the options specifying how the file is opened, defaults to create and truncate
+     * @return the number of lines written
+     */
+    public static long writeNdjson(Path filename, Iterable<?> values, StandardOpenOption... options) {
+        try (OutputStream out = Files.newOutputStream(filename, options)) {
+            return writeNdjson(out, values);
+        } catch (IOException e) {
+            logger.error("Error occurred while writing NDJSON file: {}", e.getMessage(), e);
+            throw new RuntimeException("Error occurred while writing NDJSON file: " + e.getMessage(), e);
+        }
+    }
+
+    /**
+     * Splits the file into [start, end) byte ranges that each begin at the start of a line.
+     *
+     * @param filename the NDJSON file to split
+     * @return the byte ranges of the file
+     */
+    protected static List<long[]> ndjsonChunks(Path filename) {
+        try (FileChannel channel = FileChannel.open(filename, StandardOpenOption.READ)) {
+            long size = channel.size();
+            List<long[]> chunks = new ArrayList<>();
+            if (size == 0) {
+                return chunks;
+            }
+            long target = size / (Runtime.getRuntime().availableProcessors() * 4L);
+            long chunkSize = Math.max(NDJSON_MIN_CHUNK_SIZE, Math.min(NDJSON_MAX_CHUNK_SIZE, target));
+            ByteBuffer buffer = ByteBuffer.allocate(8192);
+            long start = 0;
+            while (start < size) {
+                long end = Math.min(size, start + chunkSize);
+                while (end < size) {
+                    buffer.clear();
+                    int read = channel.read(buffer, end);
+                    if (read <= 0) {
+                        end = size;
+                        break;
+                    }
+                    int newline = -1;
+                    for (int i = 0; i < read; i++) {
+                        if (buffer.get(i) == '\n') {
+                            newline = i;
+                            break;
+                        }
+                    }
+                    if (newline >= 0) {
+                        end += newline + 1;
+                        break;
+                    }
+                    end += read;
+                }
+                chunks.add(new long[]{start, end});
+                start = end;
+            }
+            return chunks;
+        } catch (IOException e) {
+            logger.error("Error occurred while splitting NDJSON file: {}", e.getMessage(), e);
+            throw new RuntimeException("Error occurred while splitting NDJSON file: " + e.getMessage(), e);
+        }
+    }
+
+    /**
+     * Reads one byte range of the file and binds each of its lines, straight from the bytes without intermediate strings.
+     *
+     * @param filename the NDJSON file to read
+     * @param chunk    the [start, end) byte range to read
+     * @param clazz    the class of the target objects
+     * @param instance the ObjectMapper instance to use for deserialization
+     * @param <T>      the type of the target objects
+     * @return the bound values of the range, in line order
+     */
+    protected static <T> List<T> ndjsonChunk2List(Path filename, long[] chunk, Class<T> clazz, ObjectMapper instance) {
+        long length = chunk[1] - chunk[0];
+        if (length > Integer.MAX_VALUE) {
+            throw new IllegalArgumentException("NDJSON line exceeds the maximum supported size at offset " + chunk[0]);
+        }
+        byte[] bytes = new byte[(int) length];
+        try (FileChannel channel = FileChannel.open(filename, StandardOpenOption.READ)) {
+            ByteBuffer buffer = ByteBuffer.wrap(bytes);
+            while (buffer.hasRemaining()) {
+                if (channel.read(buffer, chunk[0] + buffer.position()) < 0) {
+                    break;
+                }
+            }
+        } catch (IOException e) {
+            logger.error("Error occurred while reading NDJSON file: {}", e.getMessage(), e);
+            throw new RuntimeException("Error occurred while reading NDJSON file: " + e.getMessage(), e);
+        }
+        ObjectReader reader = instance.readerFor(clazz);
+        List<T> values = new ArrayList<>();
+        int start = 0;
+        for (int i = 0; i <= bytes.length; i++) {
+            if (i < bytes.length && bytes[i] != '\n') {
+                continue;
+            }
+            int end = i;
+            while (end > start && (bytes[end - 1] == '\r' || bytes[end - 1] == ' ' || bytes[end - 1] == '\t')) {
+                end--;
+            }
+            if (end > start) {
+                try {
+                    values.add(reader.readValue(bytes, start, end - start));
+                } catch (IOException e) {
+                    logger.error("Error occurred while deserializing NDJSON line at offset {}: {}", chunk[0] + start, e.getMessage(), e);
+                    throw new RuntimeException("Error occurred while deserializing NDJSON line at offset " + (chunk[0] + start) + ": " + e.getMessage(), e);
+                }
+            }
+            start = i + 1;
+        }
+        return values;
+    }
 }
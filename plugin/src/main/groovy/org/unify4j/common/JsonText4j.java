@@ -0,0 +1,336 @@
+package org.unify4j.common;
+
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.databind.ObjectWriter;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.unify4j.model.stream.FastByteArrayOutputStream;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.time.ZoneOffset;
+import java.time.format.DateTimeFormatter;
+
+/**
+ * A structured sibling of {@link Text4j} that encodes log lines as JSON objects, one per line (JSON Lines).
+ * Fields are written straight through a Jackson JsonGenerator into a reusable byte buffer, so no intermediate
+ * strings are built, and timestamps are formatted from a per-second cache.
+ * <p>
+ * Each record starts with its first field and ends with {@link #line()}, which writes the closing brace and a newline.
+ * Several records can be accumulated in the same buffer before it is written out.
+ */
+public class JsonText4j {
+    protected static final Logger logger = LoggerFactory.getLogger(JsonText4j.class);
+    protected static final String TIMESTAMP_FIELD = "timestamp";
+    protected static final int RECYCLED_CAPACITY = 512;
+    protected static final int RECYCLED_MAX_CAPACITY = 64 * 1024;
+    protected static final DateTimeFormatter SECOND_FORMATTER = DateTimeFormatter.ofPattern("yyyy-MM-dd'T'HH:mm:ss");
+    protected static final ObjectWriter writer = Json4j.instance.writer().without(SerializationFeature.FLUSH_AFTER_WRITE_VALUE);
+    protected static final ThreadLocal<JsonText4j> recycled = ThreadLocal.withInitial(() -> new JsonText4j(RECYCLED_CAPACITY));
+    protected static volatile CachedSecond cachedSecond = new CachedSecond(Long.MIN_VALUE, new char[0]);
+    protected FastByteArrayOutputStream buffer;
+    protected JsonGenerator generator;
+    protected final char[] timestamp = new char[32];
+    protected boolean acquired;
+    protected boolean open;
+
+    public JsonText4j() {
+        this(RECYCLED_CAPACITY);
+    }
+
+    public JsonText4j(int capacity) {
+        buffer = new FastByteArrayOutputStream(capacity);
+    }
+
+    /**
+     * Returns the cleared JsonText4j instance of the current thread, to encode log lines without allocating a new buffer.
+     * Call {@link #recycle()} once the lines have been written out so the instance can be handed out again.
+     * If the thread's instance is still in use, a new instance is returned instead.
+     *
+     * @return a cleared JsonText4j instance
+     */
+    public static JsonText4j recycled() {
+        JsonText4j text = recycled.get();
+        if (text.acquired) {
+            return new JsonText4j();
+        }
+        text.acquired = true;
+        return text.clear();
+    }
+
+    /**
+     * Hands this instance back to its thread after {@link #recycled()}, clearing it and dropping buffers that grew too large.
+     */
+    public void recycle() {
+        this.clear();
+        if (buffer.getBuffer().length > RECYCLED_MAX_CAPACITY) {
+            buffer = new FastByteArrayOutputStream(RECYCLED_CAPACITY);
+            generator = null;
+        }
+        acquired = false;
+    }
+
+    /**
+     * Adds a string field to the current record.
+     *
+     * @param name  the field name
+     * @param value the field value, written as null if null
+     * @return the current instance of JsonText4j
+     */
+    public JsonText4j field(String name, String value) {
+        try {
+            this.generator().writeStringField(name, value);
+        } catch (IOException e) {
+            throw failed(e);
+        }
+        return this;
+    }
+
+    /**
+     * Adds an integral number field to the current record.
+     *
+     * @param name  the field name
+     * @param value the field value
+     * @return the current instance of JsonText4j
+     */
+    public JsonText4j field(String name, long value) {
+        try {
+            this.generator().writeNumberField(name, value);
+        } catch (IOException e) {
+            throw failed(e);
+        }
+        return this;
+    }
+
+    /**
+     * Adds a floating-point number field to the current record.
+     *
+     * @param name  the field name
+     * @param value the field value
+     * @return the current instance of JsonText4j
+     */
+    public JsonText4j field(String name, double value) {
+        try {
+            this.generator().writeNumberField(name, value);
+        } catch (IOException e) {
+            throw failed(e);
+        }
+        return this;
+    }
+
+    /**
+     * Adds a boolean field to the current record.
+     *
+     * @param name  the field name
+     * @param value the field value
+     * @return the current instance of JsonText4j
+     */
+    public JsonText4j field(String name, boolean value) {
+        try {
+            this.generator().writeBooleanField(name, value);
+        } catch (IOException e) {
+            throw failed(e);
+        }
+        return this;
+    }
+
+    /**
+     * Adds a field holding any value to the current record; the value is serialized with the Json4j ObjectMapper settings.
+     *
+     * @param name  the field name
+     * @param value the field value, written as null if null
+     * @return the current instance of JsonText4j
+     */
+    public JsonText4j field(String name, Object value) {
+        try {
+            JsonGenerator generator = this.generator();
+            generator.writeFieldName(name);
+            writer.writeValue(generator, value);
+        } catch (IOException e) {
+            throw failed(e);
+        }
+        return this;
+    }
+
+    /**
+     * Conditionally adds a field holding any value to the current record.
+     *
+     * @param condition if true, the field is added; otherwise, no action is taken
+     * @param name      the field name
+     * @param value     the field value
+     * @return the current instance of JsonText4j
+     */
+    public JsonText4j fieldIf(boolean condition, String name, Object value) {
+        if (condition) {
+            return this.field(name, value);
+        }
+        return this;
+    }
+
+    /**
+     * Adds a "timestamp" field holding the current time in ISO-8601 UTC form, e.g. "2024-05-25T19:54:23.123Z".
+     *
+     * @return the current instance of JsonText4j
+     */
+    public JsonText4j timestamp() {
+        return this.timestamp(TIMESTAMP_FIELD, System.currentTimeMillis());
+    }
+
+    /**
+     * Adds a field holding the given epoch milliseconds in ISO-8601 UTC form, e.g. "2024-05-25T19:54:23.123Z".
+     * The date and time up to the second are formatted at most once per second and shared across threads,
+     * only the milliseconds are written per call.
+     *
+     * @param name         the field name
+     * @param epochMillis  the time in milliseconds since the epoch
+     * @return the current instance of JsonText4j
+     */
+    public JsonText4j timestamp(String name, long epochMillis) {
+        long second = Math.floorDiv(epochMillis, 1000L);
+        int millis = (int) Math.floorMod(epochMillis, 1000L);
+        CachedSecond cached = cachedSecond;
+        if (cached.second != second) {
+            cached = new CachedSecond(second, LocalDateTime.ofEpochSecond(second, 0, ZoneOffset.UTC).format(SECOND_FORMATTER).toCharArray());
+            cachedSecond = cached;
+        }
+        int length = cached.prefix.length;
+        System.arraycopy(cached.prefix, 0, timestamp, 0, length);
+        timestamp[length] = '.';
+        timestamp[length + 1] = (char) ('0' + millis / 100);
+        timestamp[length + 2] = (char) ('0' + millis / 10 % 10);
+        timestamp[length + 3] = (char) ('0' + millis % 10);
+        timestamp[length + 4] = 'Z';
+        try {
+            JsonGenerator generator = this.generator();
+            generator.writeFieldName(name);
+            generator.writeString(timestamp, 0, length + 5);
+        } catch (IOException e) {
+            throw failed(e);
+        }
+        return this;
+    }
+
+    /**
+     * Ends the current record, writing its closing brace followed by a newline.
+     * A record without any field is written as "{}".
+     *
+     * @return the current instance of JsonText4j
+     */
+    public JsonText4j line() {
+        try {
+            JsonGenerator generator = this.generator();
+            generator.writeEndObject();
+            generator.writeRaw('\n');
+            generator.flush();
+            open = false;
+        } catch (IOException e) {
+            throw failed(e);
+        }
+        return this;
+    }
+
+    /**
+     * Returns the encoded records as UTF-8 bytes, ending the current record first if one is open.
+     *
+     * @return the encoded records
+     */
+    public byte[] toBytes() {
+        this.complete();
+        return buffer.toByteArray();
+    }
+
+    /**
+     * Writes the encoded records to the output stream, ending the current record first if one is open.
+     *
+     * @param out the output stream to write to
+     * @throws IOException if an I/O error occurs
+     */
+    public void writeTo(OutputStream out) throws IOException {
+        this.complete();
+        buffer.writeTo(out);
+    }
+
+    /**
+     * Returns the number of encoded bytes of the completed records.
+     *
+     * @return the number of encoded bytes
+     */
+    public int size() {
+        return buffer.size();
+    }
+
+    /**
+     * Discards every record, including the one being written.
+     *
+     * @return the current instance of JsonText4j
+     */
+    public JsonText4j clear() {
+        if (open) {
+            // the generator is inside the discarded record, so it cannot be reused
+            generator = null;
+            open = false;
+        }
+        buffer.reset();
+        return this;
+    }
+
+    @Override
+    public String toString() {
+        this.complete();
+        return buffer.toString(StandardCharsets.UTF_8);
+    }
+
+    /**
+     * Ends the current record if one is open.
+     */
+    protected void complete() {
+        if (open) {
+            this.line();
+        }
+    }
+
+    /**
+     * Returns the generator of the current record, starting a new record if none is open.
+     * The generator is created once and reused for every record written into the same buffer; records are
+     * written as consecutive root values with no separator, since each one already ends with a newline.
+     *
+     * @return the generator of the current record
+     * @throws IOException if the generator cannot be created
+     */
+    protected JsonGenerator generator() throws IOException {
+        if (generator == null) {
+            generator = Json4j.instance.getFactory().createGenerator(buffer);
+            generator.setRootValueSeparator(null);
+        }
+        if (!open) {
+            generator.writeStartObject();
+            open = true;
+        }
+        return generator;
+    }
+
+    /**
+     * Logs and wraps an encoding failure.
+     *
+     * @param e the failure
+     * @return the exception to throw
+     */
+    protected static RuntimeException failed(IOException e) {
+        logger.error("Error occurred while encoding JSON log line: {}", e.getMessage(), e);
+        return new RuntimeException("Error occurred while encoding JSON log line: " + e.getMessage(), e);
+    }
+
+    // Inner class holding the date and time of one epoch second, formatted up to the seconds.
+    protected static class CachedSecond {
+        final long second;
+        final char[] prefix;
+
+        CachedSecond(long second, char[] prefix) {
+            this.second = second;
+            this.prefix = prefix;
+        }
+    }
+}
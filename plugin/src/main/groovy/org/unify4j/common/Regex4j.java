@@ -2,9 +2,33 @@ package org.unify4j.common;
 
 import org.unify4j.text.ExpressionText;
 
+import java.util.*;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ForkJoinPool;
+import java.util.function.Predicate;
+import java.util.regex.Matcher;
 import java.util.regex.Pattern;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+import java.util.stream.Stream;
 
 public class Regex4j {
+    protected static final Pattern emailPattern = Pattern.compile(ExpressionText.EMAIL_REGULAR_EXPRESSION);
+    protected static final Pattern identifierPattern = Pattern.compile(ExpressionText.IDENTIFIER_REGULAR_EXPRESS);
+    protected static final Pattern time12HourPattern = Pattern.compile(ExpressionText.TIME_12_HOUR_REGULAR_EXPRESS);
+    protected static final Pattern time12HourFullPattern = Pattern.compile(ExpressionText.TIME_12_HOUR_FULL_REGULAR_EXPRESS);
+    protected static final Pattern time24HourPattern = Pattern.compile(ExpressionText.TIME_24_HOUR_REGULAR_EXPRESS);
+    protected static final Pattern time24HourFullPattern = Pattern.compile(ExpressionText.TIME_24_HOUR_FULL_REGULAR_EXPRESS);
+    protected static final Pattern datePattern = Pattern.compile(ExpressionText.DATE_REGULAR_EXPRESS);
+    protected static final Pattern domainPattern = Pattern.compile(ExpressionText.DOMAIN_REGULAR_EXPRESS);
+    protected static final Pattern mastercardPattern = Pattern.compile(ExpressionText.MASTERCARD_REGULAR_EXPRESS);
+    protected static final Pattern visaCardPattern = Pattern.compile(ExpressionText.VISA_CARD_REGULAR_EXPRESS);
+    protected static final Pattern urlPattern = Pattern.compile(ExpressionText.URL_REGULAR_EXPRESS);
+    protected static final Pattern versionPattern = Pattern.compile(ExpressionText.VERSION_NUMBER_REGULAR_EXPRESS);
+    protected static final Pattern phoneNumberPattern = Pattern.compile(ExpressionText.PHONE_NUMBER_REGULAR_EXPRESS);
+    protected static final int MAX_MATCHERS = 64;
+    // One reusable Matcher per pattern and thread, reset for every input
+    protected static final ThreadLocal<Map<Pattern, Matcher>> matchers = ThreadLocal.withInitial(IdentityHashMap::new);
 
     /**
      * Checks if the provided string is a valid email address.
@@ -16,8 +40,7 @@ public class Regex4j {
         if (String4j.isEmpty(email)) {
             return false;
         }
-        Pattern pattern = Pattern.compile(ExpressionText.EMAIL_REGULAR_EXPRESSION);
-        return pattern.matcher(email).matches();
+        return matches(emailPattern, email);
     }
 
     /**
@@ -30,8 +53,7 @@ public class Regex4j {
         if (String4j.isEmpty(ip)) {
             return false;
         }
-        Pattern pattern = Pattern.compile(ExpressionText.IPV4_DIGITS_REGULAR_EXPRESSION);
-        return pattern.matcher(ip.trim()).matches();
+        return isIp4Digits(ip.trim());
     }
 
     /**
@@ -44,8 +66,8 @@ public class Regex4j {
         if (String4j.isEmpty(ip)) {
             return false;
         }
-        Pattern pattern = Pattern.compile(ExpressionText.IPV6_STD_DIGITS_REGULAR_EXPRESSION);
-        return pattern.matcher(ip.trim()).matches();
+        String trimmed = ip.trim();
+        return hexGroups(trimmed, 0, trimmed.length()) == 8;
     }
 
     /**
@@ -58,8 +80,9 @@ public class Regex4j {
         if (String4j.isEmpty(ip)) {
             return false;
         }
-        Pattern pattern = Pattern.compile(ExpressionText.IPV6_HEX_COMPRESSED_DIGITS_REGULAR_EXPRESSION);
-        return pattern.matcher(ip.trim()).matches();
+        String trimmed = ip.trim();
+        int separator = trimmed.indexOf("::");
+        return separator >= 0 && hexGroups(trimmed, 0, separator) >= 0 && hexGroups(trimmed, separator + 2, trimmed.length()) >= 0;
     }
 
     /**
@@ -73,7 +96,8 @@ public class Regex4j {
         if (String4j.isEmpty(ip)) {
             return false;
         }
-        return isIp6Std(ip.trim()) || isIp6HexCompressed(ip.trim());
+        String trimmed = ip.trim();
+        return isIp6Std(trimmed) || isIp6HexCompressed(trimmed);
     }
 
     /**
@@ -84,8 +108,11 @@ public class Regex4j {
      * @return true if the IP address is valid, false otherwise.
      */
     public static boolean isIp(String ip) {
-        Pattern pattern = Pattern.compile(ExpressionText.IP_DIGITS_REPEAT_REGULAR_EXPRESSION);
-        return pattern.matcher(ip.trim()).matches() && (isIp4(ip.trim()) || isIp6(ip.trim()));
+        if (String4j.isEmpty(ip)) {
+            return false;
+        }
+        // the dotted-quad precondition of IP_DIGITS_REPEAT_REGULAR_EXPRESSION already implies isIp4
+        return isIp4Digits(ip.trim());
     }
 
     /**
@@ -97,8 +124,7 @@ public class Regex4j {
      * @return true if the string is a valid identifier, false otherwise.
      */
     public static boolean isIdentifier(String identifier) {
-        Pattern pattern = Pattern.compile(ExpressionText.IDENTIFIER_REGULAR_EXPRESS);
-        return pattern.matcher(identifier).matches();
+        return matches(identifierPattern, identifier);
     }
 
     /**
@@ -109,8 +135,31 @@ public class Regex4j {
      * @return true if the string is a valid MAC address, false otherwise.
      */
     public static boolean isMAC(String mac) {
-        Pattern pattern = Pattern.compile(ExpressionText.MAC_REGULAR_EXPRESS);
-        return pattern.matcher(mac).matches();
+        if (mac == null) {
+            return false;
+        }
+        int length = mac.length();
+        if (length == 17) {
+            // six pairs separated by colons or hyphens
+            for (int i = 0; i < length; i++) {
+                char c = mac.charAt(i);
+                if (i % 3 == 2 ? c != ':' && c != '-' : !isHexDigit(c)) {
+                    return false;
+                }
+            }
+            return true;
+        }
+        if (length == 14) {
+            // three groups of four separated by dots
+            for (int i = 0; i < length; i++) {
+                char c = mac.charAt(i);
+                if (i % 5 == 4 ? c != '.' : !isHexDigit(c)) {
+                    return false;
+                }
+            }
+            return true;
+        }
+        return false;
     }
 
     /**
@@ -121,8 +170,41 @@ public class Regex4j {
      * @return true if the string is a valid CVV, false otherwise.
      */
     public static boolean isCVV(String cvv) {
-        Pattern pattern = Pattern.compile(ExpressionText.CVV_REGULAR_EXPRESS);
-        return pattern.matcher(cvv).matches();
+        if (cvv == null || cvv.length() < 3 || cvv.length() > 4) {
+            return false;
+        }
+        return skipDigits(cvv, 0) == cvv.length();
+    }
+
+    /**
+     * Checks if the provided string is a valid GUID (or UUID), as described by {@link ExpressionText#GUID_REGULAR_EXPRESS}.
+     * A GUID consists of 32 hexadecimal digits in groups of 8-4-4-4-12 separated by hyphens, optionally within braces.
+     *
+     * @param guid The string to be checked for GUID validity.
+     * @return true if the string is a valid GUID, false otherwise.
+     */
+    public static boolean isGUID(String guid) {
+        if (guid == null) {
+            return false;
+        }
+        int start = 0;
+        int end = guid.length();
+        if (start < end && guid.charAt(start) == '{') {
+            start++;
+        }
+        if (end > start && guid.charAt(end - 1) == '}') {
+            end--;
+        }
+        if (end - start != 36) {
+            return false;
+        }
+        for (int i = 0; i < 36; i++) {
+            char c = guid.charAt(start + i);
+            if (i == 8 || i == 13 || i == 18 || i == 23 ? c != '-' : !isHexDigit(c)) {
+                return false;
+            }
+        }
+        return true;
     }
 
     /**
@@ -133,8 +215,7 @@ public class Regex4j {
      * @return true if the string is in a valid 12-hour time format, false otherwise.
      */
     public static boolean isTime12H(String time) {
-        Pattern pattern = Pattern.compile(ExpressionText.TIME_12_HOUR_REGULAR_EXPRESS);
-        return pattern.matcher(time).matches();
+        return matches(time12HourPattern, time);
     }
 
     /**
@@ -145,8 +226,7 @@ public class Regex4j {
      * @return true if the string is in a valid full 12-hour time format, false otherwise.
      */
     public static boolean isTime12HFully(String time) {
-        Pattern pattern = Pattern.compile(ExpressionText.TIME_12_HOUR_FULL_REGULAR_EXPRESS);
-        return pattern.matcher(time).matches();
+        return matches(time12HourFullPattern, time);
     }
 
     /**
@@ -157,8 +237,7 @@ public class Regex4j {
      * @return true if the string is in a valid 24-hour time format, false otherwise.
      */
     public static boolean isTime24H(String time) {
-        Pattern pattern = Pattern.compile(ExpressionText.TIME_24_HOUR_REGULAR_EXPRESS);
-        return pattern.matcher(time).matches();
+        return matches(time24HourPattern, time);
     }
 
     /**
@@ -169,8 +248,7 @@ public class Regex4j {
      * @return true if the string is in a valid full 24-hour time format, false otherwise.
      */
     public static boolean isTime24HFully(String time) {
-        Pattern pattern = Pattern.compile(ExpressionText.TIME_24_HOUR_FULL_REGULAR_EXPRESS);
-        return pattern.matcher(time).matches();
+        return matches(time24HourFullPattern, time);
     }
 
     /**
@@ -181,8 +259,7 @@ public class Regex4j {
      * @return true if the string is in a valid date format, false otherwise.
      */
     public static boolean isDate(String date) {
-        Pattern pattern = Pattern.compile(ExpressionText.DATE_REGULAR_EXPRESS);
-        return pattern.matcher(date).matches();
+        return matches(datePattern, date);
     }
 
     /**
@@ -193,8 +270,7 @@ public class Regex4j {
      * @return true if the string is a valid domain name, false otherwise.
      */
     public static boolean isDomain(String domain) {
-        Pattern pattern = Pattern.compile(ExpressionText.DOMAIN_REGULAR_EXPRESS);
-        return pattern.matcher(domain).matches();
+        return matches(domainPattern, domain);
     }
 
     /**
@@ -205,8 +281,7 @@ public class Regex4j {
      * @return true if the string is a valid Mastercard number, false otherwise.
      */
     public static boolean isMastercard(String mastercard) {
-        Pattern pattern = Pattern.compile(ExpressionText.MASTERCARD_REGULAR_EXPRESS);
-        return pattern.matcher(mastercard).matches();
+        return matches(mastercardPattern, mastercard);
     }
 
     /**
@@ -217,8 +292,7 @@ public class Regex4j {
      * @return true if the string is a valid Visa card number, false otherwise.
      */
     public static boolean isVisaCard(String visaCard) {
-        Pattern pattern = Pattern.compile(ExpressionText.VISA_CARD_REGULAR_EXPRESS);
-        return pattern.matcher(visaCard).matches();
+        return matches(visaCardPattern, visaCard);
     }
 
     /**
@@ -229,8 +303,48 @@ public class Regex4j {
      * @return true if the string is a valid numeric value, false otherwise.
      */
     public static boolean isNumeric(String number) {
-        Pattern pattern = Pattern.compile(ExpressionText.NUMBER_REGULAR_EXPRESS);
-        return pattern.matcher(number).matches();
+        if (number == null) {
+            return false;
+        }
+        int length = number.length();
+        int i = 0;
+        if (i < length && (number.charAt(i) == '+' || number.charAt(i) == '-')) {
+            i++;
+        }
+        int end = skipDigits(number, i);
+        if (end == i) {
+            return false;
+        }
+        i = end;
+        if (i < length && number.charAt(i) == '.') {
+            end = skipDigits(number, i + 1);
+            if (end == i + 1) {
+                return false;
+            }
+            i = end;
+        }
+        if (i < length && (number.charAt(i) == 'e' || number.charAt(i) == 'E')) {
+            i++;
+            if (i < length && (number.charAt(i) == '+' || number.charAt(i) == '-')) {
+                i++;
+            }
+            end = skipDigits(number, i);
+            if (end == i) {
+                return false;
+            }
+            i = end;
+        }
+        return i == length;
+    }
+
+    /**
+     * Checks if the provided string is a valid phone number, such as 123-456-7890, (123) 456-7890 or +111 123 456 789.
+     *
+     * @param phone The string to be checked for phone number validity.
+     * @return true if the string is a valid phone number, false otherwise.
+     */
+    public static boolean isPhoneNumber(String phone) {
+        return matches(phoneNumberPattern, phone);
     }
 
     /**
@@ -241,8 +355,7 @@ public class Regex4j {
      * @return true if the string is a valid URL, false otherwise.
      */
     public static boolean isURL(String url) {
-        Pattern pattern = Pattern.compile(ExpressionText.URL_REGULAR_EXPRESS);
-        return pattern.matcher(url.trim()).matches();
+        return url != null && matches(urlPattern, url.trim());
     }
 
     /**
@@ -253,7 +366,291 @@ public class Regex4j {
      * @return true if the string is a valid API version number, false otherwise.
      */
     public static boolean isApiVersion(String version) {
-        Pattern pattern = Pattern.compile(ExpressionText.VERSION_NUMBER_REGULAR_EXPRESS);
-        return pattern.matcher(String4j.trimWhitespace(version)).matches();
+        return matches(versionPattern, String4j.trimWhitespace(version));
+    }
+
+    /**
+     * Checks whether a whole character sequence matches a pattern, reusing a Matcher cached for the pattern
+     * on the calling thread instead of creating one per call.
+     *
+     * @param pattern The pattern.
+     * @param value   The character sequence to be matched.
+     * @return true if the whole sequence matches, false otherwise or if either argument is null.
+     */
+    public static boolean matches(Pattern pattern, CharSequence value) {
+        if (pattern == null || value == null) {
+            return false;
+        }
+        Map<Pattern, Matcher> cached = matchers.get();
+        Matcher matcher = cached.get(pattern);
+        if (matcher == null) {
+            matcher = pattern.matcher(value);
+            if (cached.size() < MAX_MATCHERS) {
+                cached.put(pattern, matcher);
+            }
+        } else {
+            matcher.reset(value);
+        }
+        boolean matches = matcher.matches();
+        // do not keep the input reachable from the cache
+        matcher.reset("");
+        return matches;
+    }
+
+    /**
+     * Validates every value of an array.
+     *
+     * @param values    The values to be validated.
+     * @param validator The validator, such as {@code Regex4j::isEmail}.
+     * @return A bit set whose bit i is set if the value at index i is valid.
+     */
+    public static BitSet validate(String[] values, Predicate<String> validator) {
+        if (values == null || validator == null) {
+            return new BitSet();
+        }
+        long[] words = new long[(values.length + 63) >>> 6];
+        for (int word = 0; word < words.length; word++) {
+            words[word] = validateWord(values, word, validator);
+        }
+        return BitSet.valueOf(words);
+    }
+
+    /**
+     * Validates every value of an array in parallel on the supplied pool; the validator must be thread-safe,
+     * as the Regex4j validators are.
+     *
+     * @param values    The values to be validated.
+     * @param validator The validator, such as {@code Regex4j::isEmail}.
+     * @param pool      The pool running the validation.
+     * @return A bit set whose bit i is set if the value at index i is valid.
+     */
+    public static BitSet validate(String[] values, Predicate<String> validator, ForkJoinPool pool) {
+        if (values == null || validator == null) {
+            return new BitSet();
+        }
+        if (pool == null) {
+            return validate(values, validator);
+        }
+        // every task fills whole 64-bit words of its own, so no bit is shared between threads
+        long[] words = new long[(values.length + 63) >>> 6];
+        try {
+            pool.submit(() -> IntStream.range(0, words.length).parallel()
+                    .forEach(word -> words[word] = validateWord(values, word, validator))).get();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new RuntimeException("Interrupted while validating values", e);
+        } catch (ExecutionException e) {
+            Throwable cause = e.getCause();
+            if (cause instanceof RuntimeException) {
+                throw (RuntimeException) cause;
+            }
+            throw new RuntimeException("Error occurred while validating values: " + cause.getMessage(), cause);
+        }
+        return BitSet.valueOf(words);
+    }
+
+    /**
+     * Validates every value of a collection, in iteration order.
+     *
+     * @param values    The values to be validated.
+     * @param validator The validator, such as {@code Regex4j::isEmail}.
+     * @return A bit set whose bit i is set if the i-th value is valid.
+     */
+    public static BitSet validate(Collection<String> values, Predicate<String> validator) {
+        if (values == null) {
+            return new BitSet();
+        }
+        return validate(values.toArray(new String[0]), validator);
+    }
+
+    /**
+     * Validates every value of a collection, in iteration order, in parallel on the supplied pool.
+     *
+     * @param values    The values to be validated.
+     * @param validator The validator, such as {@code Regex4j::isEmail}.
+     * @param pool      The pool running the validation.
+     * @return A bit set whose bit i is set if the i-th value is valid.
+     */
+    public static BitSet validate(Collection<String> values, Predicate<String> validator, ForkJoinPool pool) {
+        if (values == null) {
+            return new BitSet();
+        }
+        return validate(values.toArray(new String[0]), validator, pool);
+    }
+
+    /**
+     * Validates every value of a stream, in encounter order, once collected into an array.
+     *
+     * @param values    The values to be validated.
+     * @param validator The validator, such as {@code Regex4j::isEmail}.
+     * @return A bit set whose bit i is set if the i-th value is valid.
+     */
+    public static BitSet validate(Stream<String> values, Predicate<String> validator) {
+        if (values == null) {
+            return new BitSet();
+        }
+        return validate(values.toArray(String[]::new), validator);
+    }
+
+    /**
+     * Validates every value of a collection against a pattern, reusing one Matcher per thread.
+     *
+     * @param values  The values to be validated.
+     * @param pattern The pattern the whole value must match.
+     * @return A bit set whose bit i is set if the i-th value matches.
+     */
+    public static BitSet validate(Collection<String> values, Pattern pattern) {
+        return validate(values, value -> matches(pattern, value));
+    }
+
+    /**
+     * Splits the values of a collection into valid and invalid ones, keeping their order.
+     *
+     * @param values    The values to be validated.
+     * @param validator The validator, such as {@code Regex4j::isEmail}.
+     * @return The valid values under true and the invalid ones under false.
+     */
+    public static Map<Boolean, List<String>> partition(Collection<String> values, Predicate<String> validator) {
+        if (values == null) {
+            return partition(Stream.empty(), validator);
+        }
+        return partition(values.stream(), validator);
+    }
+
+    /**
+     * Splits the values of a stream into valid and invalid ones, keeping their encounter order;
+     * a parallel stream is validated in parallel.
+     *
+     * @param values    The values to be validated.
+     * @param validator The validator, such as {@code Regex4j::isEmail}.
+     * @return The valid values under true and the invalid ones under false.
+     */
+    public static Map<Boolean, List<String>> partition(Stream<String> values, Predicate<String> validator) {
+        if (values == null) {
+            values = Stream.empty();
+        }
+        if (validator == null) {
+            validator = value -> false;
+        }
+        return values.collect(Collectors.partitioningBy(validator));
+    }
+
+    /**
+     * Validates the values of one 64-value block of an array.
+     *
+     * @param values    The values.
+     * @param word      The index of the block.
+     * @param validator The validator.
+     * @return The bits of the block, bit j standing for the value at index word * 64 + j.
+     */
+    private static long validateWord(String[] values, int word, Predicate<String> validator) {
+        long bits = 0L;
+        int from = word << 6;
+        int to = Math.min(values.length, from + 64);
+        for (int i = from; i < to; i++) {
+            if (validator.test(values[i])) {
+                bits |= 1L << (i - from);
+            }
+        }
+        return bits;
+    }
+
+    /**
+     * Checks whether a string is a dotted-quad IPv4 address: four decimal octets of one to three digits,
+     * leading zeros allowed, each at most 255.
+     *
+     * @param ip The trimmed string.
+     * @return true if the string is a dotted-quad IPv4 address, false otherwise.
+     */
+    private static boolean isIp4Digits(String ip) {
+        int length = ip.length();
+        int octets = 0;
+        int i = 0;
+        while (true) {
+            int start = i;
+            int value = 0;
+            while (i < length && i - start < 3 && isDigit(ip.charAt(i))) {
+                value = value * 10 + (ip.charAt(i++) - '0');
+            }
+            if (i == start || value > 255) {
+                return false;
+            }
+            octets++;
+            if (i == length) {
+                return octets == 4;
+            }
+            if (octets == 4 || ip.charAt(i) != '.') {
+                return false;
+            }
+            i++;
+        }
+    }
+
+    /**
+     * Counts the groups of a range holding colon-separated groups of one to four hexadecimal digits.
+     *
+     * @param value The string.
+     * @param from  The start of the range, inclusive.
+     * @param to    The end of the range, exclusive.
+     * @return The number of groups, 0 if the range is empty, or -1 if the range is not such a list.
+     */
+    private static int hexGroups(String value, int from, int to) {
+        if (from == to) {
+            return 0;
+        }
+        int groups = 0;
+        int i = from;
+        while (true) {
+            int start = i;
+            while (i < to && i - start < 4 && isHexDigit(value.charAt(i))) {
+                i++;
+            }
+            if (i == start) {
+                return -1;
+            }
+            groups++;
+            if (i == to) {
+                return groups;
+            }
+            if (value.charAt(i) != ':') {
+                return -1;
+            }
+            i++;
+        }
+    }
+
+    /**
+     * Skips the ASCII digits of a string from a position.
+     *
+     * @param value The string.
+     * @param from  The position to start from.
+     * @return The position of the first character that is not a digit, or the length of the string.
+     */
+    private static int skipDigits(String value, int from) {
+        int i = from;
+        while (i < value.length() && isDigit(value.charAt(i))) {
+            i++;
+        }
+        return i;
+    }
+
+    /**
+     * Checks whether a character is an ASCII digit, as {@code [0-9]} and {@code \d} in the expressions.
+     *
+     * @param c The character.
+     * @return true if the character is a digit, false otherwise.
+     */
+    private static boolean isDigit(char c) {
+        return c >= '0' && c <= '9';
+    }
+
+    /**
+     * Checks whether a character is an ASCII hexadecimal digit.
+     *
+     * @param c The character.
+     * @return true if the character is a hexadecimal digit, false otherwise.
+     */
+    private static boolean isHexDigit(char c) {
+        return (c >= '0' && c <= '9') || (c >= 'a' && c <= 'f') || (c >= 'A' && c <= 'F');
     }
 }
@@ -2,19 +2,25 @@ package org.unify4j.common;
 
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
+import org.unify4j.model.stream.CharRope;
 
+import java.io.IOException;
+import java.io.Writer;
 import java.nio.charset.Charset;
-import java.util.Collection;
-import java.util.Locale;
-import java.util.Map;
+import java.util.*;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
 import java.util.function.Function;
 import java.util.function.Predicate;
 import java.util.function.Supplier;
 
 public class StringBuilder4j {
     protected static final Logger logger = LoggerFactory.getLogger(StringBuilder4j.class);
+    protected static final int MAX_COMPILED_TEMPLATES = 1024;
+    protected static final ConcurrentMap<String, Template> templates = new ConcurrentHashMap<>();
 
     private final StringBuilder buffer;
+    private final CharRope rope;
     private Charset encoding = Charset.defaultCharset();
     private Locale locale = Locale.getDefault();
     private String separator = "";
@@ -30,6 +36,7 @@ public class StringBuilder4j {
      */
     protected StringBuilder4j() {
         this.buffer = new StringBuilder();
+        this.rope = null;
     }
 
     /**
@@ -37,6 +44,15 @@ public class StringBuilder4j {
      */
     protected StringBuilder4j(int capacity) {
         this.buffer = new StringBuilder(capacity);
+        this.rope = null;
+    }
+
+    /**
+     * Protected constructor for a rope-backed builder.
+     */
+    protected StringBuilder4j(CharRope rope) {
+        this.buffer = null;
+        this.rope = rope;
     }
 
     /**
@@ -58,6 +74,18 @@ public class StringBuilder4j {
         return new StringBuilder4j(capacity);
     }
 
+    /**
+     * Creates a new StringBuilder4j instance backed by a rope instead of a single buffer, for very large outputs.
+     * Appended strings are kept by reference, so the content is never copied while it grows, prepending and
+     * inserting split at most one segment, and {@link #writeTo(Writer)} streams the content without flattening it.
+     * Operations rewriting the whole content (replace, reverse, transform) still work on a flattened copy.
+     *
+     * @return A new rope-backed StringBuilder4j instance
+     */
+    public static StringBuilder4j rope() {
+        return new StringBuilder4j(new CharRope());
+    }
+
     /**
      * Creates a new StringBuilder4j instance from an existing string.
      *
@@ -67,7 +95,7 @@ public class StringBuilder4j {
     public static StringBuilder4j from(String initial) {
         StringBuilder4j builder = new StringBuilder4j();
         if (String4j.isNotEmpty(initial)) {
-            builder.buffer.append(initial);
+            builder.write(initial);
         }
         return builder;
     }
@@ -90,6 +118,7 @@ public class StringBuilder4j {
 
     /**
      * Builds a template string by replacing placeholders.
+     * The template is compiled once and cached, see {@link #compile(String)}.
      *
      * @param template The template string with placeholders
      * @param values   The values to replace placeholders
@@ -97,19 +126,50 @@ public class StringBuilder4j {
      */
     public StringBuilder4j from(String template, Map<String, String> values) {
         if (String4j.isNotEmpty(template)) {
-            String processed = template;
-            if (values != null) {
-                for (Map.Entry<String, String> entry : values.entrySet()) {
-                    String placeholder = "${" + entry.getKey() + "}";
-                    String value = entry.getValue() != null ? entry.getValue() : "";
-                    processed = processed.replace(placeholder, value);
-                }
-            }
-            this.append(processed);
+            this.append(compile(template).render(values));
+        }
+        return this;
+    }
+
+    /**
+     * Appends a compiled template rendered with the given values.
+     *
+     * @param template The compiled template
+     * @param values   The values to replace placeholders
+     * @return This builder instance for method chaining
+     */
+    public StringBuilder4j from(Template template, Map<String, String> values) {
+        if (template != null) {
+            this.append(template.render(values));
         }
         return this;
     }
 
+    /**
+     * Compiles a template with "${key}" placeholders, e.g. "Hello ${name}", into literal and placeholder segments.
+     * Templates are immutable and thread-safe; compiled templates are cached by template string so repeated calls reuse them.
+     *
+     * @param template The template string with placeholders
+     * @return The compiled template
+     */
+    public static Template compile(String template) {
+        if (template == null) {
+            throw new IllegalArgumentException("Template is required");
+        }
+        Template compiled = templates.get(template);
+        if (compiled != null) {
+            return compiled;
+        }
+        compiled = new Template(template);
+        if (templates.size() < MAX_COMPILED_TEMPLATES) {
+            Template existing = templates.putIfAbsent(template, compiled);
+            if (existing != null) {
+                return existing;
+            }
+        }
+        return compiled;
+    }
+
     /**
      * Sets the encoding for this builder.
      *
@@ -227,7 +287,7 @@ public class StringBuilder4j {
         String processed = this.processString(str);
         if (String4j.isNotEmpty(processed) && this.willExceedMaxLength(processed)) {
             logger.warn("Appending string would exceed max length {}, truncating", maxLength);
-            int remainingSpace = maxLength - buffer.length();
+            int remainingSpace = maxLength - this.length();
             if (remainingSpace > 0) {
                 processed = processed.substring(0, Math.min(processed.length(), remainingSpace));
             } else {
@@ -235,12 +295,12 @@ public class StringBuilder4j {
             }
         }
 
-        if (String4j.isNotEmpty(buffer) && String4j.isNotEmpty(separator)) {
-            buffer.append(separator);
+        if (this.isNotEmpty() && String4j.isNotEmpty(separator)) {
+            this.write(separator);
         }
 
         if (processed != null) {
-            buffer.append(processed);
+            this.write(processed);
         }
 
         return this;
@@ -396,7 +456,7 @@ public class StringBuilder4j {
      */
     @SuppressWarnings({"UnusedReturnValue"})
     public StringBuilder4j appendLine() {
-        buffer.append(System.lineSeparator());
+        this.write(System.lineSeparator());
         return this;
     }
 
@@ -807,9 +867,9 @@ public class StringBuilder4j {
         if (!this.shouldSkip(str)) {
             String processed = this.processString(str);
             if (String4j.isNotEmpty(processed)) {
-                buffer.insert(0, processed);
-                if (String4j.isNotEmpty(separator) && buffer.length() > processed.length()) {
-                    buffer.insert(processed.length(), separator);
+                this.write(0, processed);
+                if (String4j.isNotEmpty(separator) && this.length() > processed.length()) {
+                    this.write(processed.length(), separator);
                 }
             }
         }
@@ -824,10 +884,10 @@ public class StringBuilder4j {
      * @return This builder instance for method chaining
      */
     public StringBuilder4j insert(int index, String str) {
-        if (!this.shouldSkip(str) && index >= 0 && index <= buffer.length()) {
+        if (!this.shouldSkip(str) && index >= 0 && index <= this.length()) {
             String processed = this.processString(str);
             if (String4j.isNotEmpty(processed)) {
-                buffer.insert(index, processed);
+                this.write(index, processed);
             }
         }
         return this;
@@ -842,10 +902,9 @@ public class StringBuilder4j {
      */
     public StringBuilder4j replace(String target, String replacement) {
         if (String4j.isNotEmpty(target)) {
-            String content = buffer.toString();
+            String content = this.content().toString();
             String replaced = content.replace(target, String4j.isNotEmpty(replacement) ? replacement : "");
-            buffer.setLength(0);
-            buffer.append(replaced);
+            this.reset(replaced);
         }
         return this;
     }
@@ -899,7 +958,7 @@ public class StringBuilder4j {
      */
     public StringBuilder4j removeIf(Predicate<String> predicate) {
         if (predicate != null) {
-            String content = buffer.toString();
+            String content = this.content().toString();
             String[] parts = content.split(separator);
             StringBuilder lines = new StringBuilder();
 
@@ -912,8 +971,7 @@ public class StringBuilder4j {
                 }
             }
 
-            buffer.setLength(0);
-            buffer.append(lines);
+            this.reset(lines);
         }
         return this;
     }
@@ -924,7 +982,7 @@ public class StringBuilder4j {
      * @return This builder instance for method chaining
      */
     public StringBuilder4j clear() {
-        buffer.setLength(0);
+        this.reset(null);
         return this;
     }
 
@@ -934,7 +992,12 @@ public class StringBuilder4j {
      * @return This builder instance for method chaining
      */
     public StringBuilder4j reverse() {
-        buffer.reverse();
+        if (rope != null) {
+            // copied segment by segment, as StringBuilder(CharSequence) would read the rope one charAt at a time
+            this.reset(rope.appendTo(new StringBuilder(rope.length()), rope.length()).reverse());
+        } else {
+            buffer.reverse();
+        }
         return this;
     }
 
@@ -947,12 +1010,9 @@ public class StringBuilder4j {
     @SuppressWarnings({"UnusedReturnValue"})
     public StringBuilder4j transform(Function<String, String> transformer) {
         if (transformer != null) {
-            String current = buffer.toString();
+            String current = this.content().toString();
             String transformed = transformer.apply(current);
-            buffer.setLength(0);
-            if (String4j.isNotEmpty(transformed)) {
-                buffer.append(transformed);
-            }
+            this.reset(String4j.isNotEmpty(transformed) ? transformed : null);
         }
         return this;
     }
@@ -993,7 +1053,7 @@ public class StringBuilder4j {
      * @return The current length
      */
     public int length() {
-        return buffer.length();
+        return this.content().length();
     }
 
     /**
@@ -1002,7 +1062,7 @@ public class StringBuilder4j {
      * @return true if the builder is empty, false otherwise
      */
     public boolean isEmpty() {
-        return String4j.isEmpty(buffer);
+        return this.length() == 0;
     }
 
     /**
@@ -1016,29 +1076,80 @@ public class StringBuilder4j {
 
     /**
      * Builds and returns the final string.
+     * The result is sized up front and truncated to the max length before copying, so the content is copied once.
      *
      * @return The built string with prefix and suffix applied
      */
     public String build() {
-        StringBuilder result = new StringBuilder();
-
-        if (String4j.isNotEmpty(prefix)) {
-            result.append(prefix);
+        int length = this.builtLength();
+        int limit = length;
+        if (length > maxLength) {
+            logger.warn("Built string exceeds max length {}, truncating", maxLength);
+            limit = maxLength;
         }
+        StringBuilder result = new StringBuilder(limit);
+        this.appendBuilt(result, String4j.isNotEmpty(prefix) ? prefix : "", limit);
+        this.appendBuilt(result, this.content(), limit);
+        this.appendBuilt(result, String4j.isNotEmpty(suffix) ? suffix : "", limit);
+        return result.toString();
+    }
 
-        result.append(buffer);
+    /**
+     * Returns a range of the current content, without prefix and suffix.
+     * For a rope-backed builder, the range shares the segments of the rope and no characters are copied.
+     *
+     * @param start The start index, inclusive
+     * @param end   The end index, exclusive
+     * @return The range of the content
+     */
+    public CharSequence subSequence(int start, int end) {
+        return this.content().subSequence(start, end);
+    }
 
-        if (String4j.isNotEmpty(suffix)) {
-            result.append(suffix);
-        }
+    /**
+     * Checks if this builder is backed by a rope, see {@link #rope()}.
+     *
+     * @return true if the builder is rope-backed, false otherwise
+     */
+    public boolean isRope() {
+        return rope != null;
+    }
 
-        String finalResult = result.toString();
-        if (finalResult.length() > maxLength) {
+    /**
+     * Writes the built string (prefix, content and suffix, truncated to the max length) to a writer.
+     * A rope-backed builder streams its segments, so the content is never flattened into a single string.
+     *
+     * @param writer The writer to write to
+     * @return This builder instance for method chaining
+     */
+    public StringBuilder4j writeTo(Writer writer) {
+        if (writer == null) {
+            return this;
+        }
+        int length = this.builtLength();
+        int remaining = length;
+        if (length > maxLength) {
             logger.warn("Built string exceeds max length {}, truncating", maxLength);
-            finalResult = String4j.truncate(finalResult, maxLength);
+            remaining = maxLength;
         }
-
-        return finalResult;
+        try {
+            String head = String4j.isNotEmpty(prefix) ? prefix : "";
+            writer.write(head, 0, Math.min(head.length(), remaining));
+            remaining -= Math.min(head.length(), remaining);
+            int content = Math.min(this.length(), remaining);
+            if (rope != null) {
+                rope.writeTo(writer, content);
+            } else {
+                writer.append(buffer, 0, content);
+            }
+            remaining -= content;
+            String tail = String4j.isNotEmpty(suffix) ? suffix : "";
+            writer.write(tail, 0, Math.min(tail.length(), remaining));
+        } catch (IOException e) {
+            logger.error("Error occurred while writing string builder content: {}", e.getMessage(), e);
+            throw new RuntimeException("Error occurred while writing string builder content: " + e.getMessage(), e);
+        }
+        return this;
     }
 
     /**
@@ -1108,6 +1219,253 @@ public class StringBuilder4j {
         if (this.isNotEmpty() && String4j.isNotEmpty(separator)) {
             additionalLength += separator.length();
         }
-        return buffer.length() + additionalLength > maxLength;
+        return this.length() + additionalLength > maxLength;
+    }
+
+    /**
+     * Returns the current content, either the buffer or the rope.
+     *
+     * @return The current content
+     */
+    protected CharSequence content() {
+        return rope != null ? rope : buffer;
+    }
+
+    /**
+     * Appends to the current content.
+     *
+     * @param str The characters to append
+     */
+    protected void write(CharSequence str) {
+        if (rope != null) {
+            rope.append(str);
+        } else {
+            buffer.append(str);
+        }
+    }
+
+    /**
+     * Inserts into the current content.
+     *
+     * @param index The position to insert at
+     * @param str   The characters to insert
+     */
+    protected void write(int index, CharSequence str) {
+        if (rope != null) {
+            rope.insert(index, str);
+        } else {
+            buffer.insert(index, str);
+        }
+    }
+
+    /**
+     * Replaces the current content.
+     *
+     * @param str The new content, or null to clear it
+     */
+    protected void reset(CharSequence str) {
+        if (rope != null) {
+            rope.clear();
+        } else {
+            buffer.setLength(0);
+        }
+        if (str != null) {
+            this.write(str);
+        }
+    }
+
+    /**
+     * Returns the length of the built string before truncation.
+     *
+     * @return The length of prefix, content and suffix
+     */
+    protected int builtLength() {
+        int length = this.length();
+        if (String4j.isNotEmpty(prefix)) {
+            length += prefix.length();
+        }
+        if (String4j.isNotEmpty(suffix)) {
+            length += suffix.length();
+        }
+        return length;
+    }
+
+    /**
+     * Appends characters to a result, without exceeding the given limit.
+     *
+     * @param result The result being built
+     * @param str    The characters to append
+     * @param limit  The maximum length of the result
+     */
+    private void appendBuilt(StringBuilder result, CharSequence str, int limit) {
+        int count = Math.min(str.length(), limit - result.length());
+        if (count <= 0) {
+            return;
+        }
+        if (str instanceof CharRope) {
+            ((CharRope) str).appendTo(result, count);
+        } else {
+            result.append(str, 0, count);
+        }
+    }
+
+    /**
+     * A template compiled into literal and "${key}" placeholder segments.
+     * Rendering looks each key up once and copies the segments into a single buffer sized up front,
+     * so the template is never scanned again. A key missing from the values keeps its placeholder,
+     * and a null value renders as an empty string.
+     */
+    public static final class Template {
+        private final String pattern;
+        private final String[] literals;
+        private final String[] keys;
+        private final int literalLength;
+
+        private Template(String pattern) {
+            this.pattern = pattern;
+            List<String> literals = new ArrayList<>();
+            List<String> keys = new ArrayList<>();
+            int from = 0;
+            int start;
+            int literalLength = 0;
+            StringBuilder literal = new StringBuilder();
+            while ((start = pattern.indexOf("${", from)) >= 0) {
+                int end = pattern.indexOf('}', start + 2);
+                if (end < 0) {
+                    break;
+                }
+                literal.append(pattern, from, start);
+                literals.add(literal.toString());
+                literalLength += literal.length();
+                literal.setLength(0);
+                keys.add(pattern.substring(start + 2, end));
+                from = end + 1;
+            }
+            literal.append(pattern, from, pattern.length());
+            literals.add(literal.toString());
+            literalLength += literal.length();
+            this.literals = literals.toArray(new String[0]);
+            this.keys = keys.toArray(new String[0]);
+            this.literalLength = literalLength;
+        }
+
+        /**
+         * Returns the template string the template was compiled from.
+         *
+         * @return The template string
+         */
+        public String getPattern() {
+            return pattern;
+        }
+
+        /**
+         * Returns the placeholder keys of the template, in order of appearance.
+         *
+         * @return The placeholder keys
+         */
+        public List<String> keys() {
+            return Collections.unmodifiableList(Arrays.asList(keys));
+        }
+
+        /**
+         * Renders the template with the given values.
+         *
+         * @param values The values to replace placeholders
+         * @return The rendered string
+         */
+        public String render(Map<String, String> values) {
+            if (keys.length == 0) {
+                return pattern;
+            }
+            String[] resolved = this.resolve(values);
+            int length = literalLength;
+            for (String value : resolved) {
+                length += value.length();
+            }
+            StringBuilder out = new StringBuilder(length);
+            this.copy(out, resolved);
+            return out.toString();
+        }
+
+        /**
+         * Renders the template with the given values into the given buffer.
+         *
+         * @param out    The buffer receiving the rendered template
+         * @param values The values to replace placeholders
+         */
+        public void renderTo(StringBuilder out, Map<String, String> values) {
+            String[] resolved = this.resolve(values);
+            int length = literalLength;
+            for (String value : resolved) {
+                length += value.length();
+            }
+            out.ensureCapacity(out.length() + length);
+            this.copy(out, resolved);
+        }
+
+        /**
+         * Renders the template once for each value map.
+         *
+         * @param values The value maps, one per rendered string
+         * @return The rendered strings, in the order of the value maps
+         */
+        public List<String> renderAll(Collection<? extends Map<String, String>> values) {
+            if (Collection4j.isEmpty(values)) {
+                return Collections.emptyList();
+            }
+            List<String> rendered = new ArrayList<>(values.size());
+            for (Map<String, String> value : values) {
+                rendered.add(this.render(value));
+            }
+            return rendered;
+        }
+
+        /**
+         * Renders the template once for each value map into a single string, separated by the given delimiter.
+         *
+         * @param values    The value maps, one per rendered template
+         * @param delimiter The delimiter placed between two rendered templates, may be null
+         * @return The joined rendered templates
+         */
+        public String renderAll(Collection<? extends Map<String, String>> values, String delimiter) {
+            if (Collection4j.isEmpty(values)) {
+                return "";
+            }
+            String separator = delimiter == null ? "" : delimiter;
+            StringBuilder out = new StringBuilder(values.size() * (literalLength + 16 * keys.length + separator.length()));
+            boolean first = true;
+            for (Map<String, String> value : values) {
+                if (!first) {
+                    out.append(separator);
+                }
+                this.renderTo(out, value);
+                first = false;
+            }
+            return out.toString();
+        }
+
+        @Override
+        public String toString() {
+            return pattern;
+        }
+
+        private String[] resolve(Map<String, String> values) {
+            String[] resolved = new String[keys.length];
+            for (int i = 0; i < keys.length; i++) {
+                String value = values != null ? values.get(keys[i]) : null;
+                if (value == null) {
+                    value = values != null && values.containsKey(keys[i]) ? "" : "${" + keys[i] + "}";
+                }
+                resolved[i] = value;
+            }
+            return resolved;
+        }
+
+        private void copy(StringBuilder out, String[] resolved) {
+            out.append(literals[0]);
+            for (int i = 0; i < resolved.length; i++) {
+                out.append(resolved[i]).append(literals[i + 1]);
+            }
+        }
     }
-}
\ No newline at end of file
+}
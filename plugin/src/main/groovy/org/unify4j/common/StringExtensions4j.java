@@ -4,17 +4,30 @@ import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import org.unify4j.model.request.CharacterFreqRequest;
 import org.unify4j.model.response.StringStatsResponse;
+import org.unify4j.model.stream.ChunkedMatchIterator;
 
+import java.io.Reader;
 import java.util.*;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.function.Consumer;
 import java.util.regex.Matcher;
 import java.util.regex.Pattern;
 import java.util.stream.Collectors;
+import java.util.stream.Stream;
+import java.util.stream.StreamSupport;
 
 import static org.unify4j.text.ExpressionText.EMAIL_REGULAR_EXPRESSION;
 import static org.unify4j.text.ExpressionText.PHONE_NUMBER_REGULAR_EXPRESS;
 
 public class StringExtensions4j {
     protected static final Logger logger = LoggerFactory.getLogger(StringExtensions4j.class);
+    protected static final int MAX_CACHED_PATTERNS = 1024;
+    protected static final ConcurrentMap<String, Pattern> patterns = new ConcurrentHashMap<>();
+    protected static final String URL_EXTRACTION_REGEX = "https?://[\\w\\-]+(\\.[\\w\\-]+)+([\\w\\-\\.,@?^=%&:/~\\+#]*[\\w\\-\\@?^=%&/~\\+#])?";
+    protected static final Pattern emailPattern = patternOf(EMAIL_REGULAR_EXPRESSION);
+    protected static final Pattern urlPattern = patternOf(URL_EXTRACTION_REGEX);
+    protected static final Pattern phoneNumberPattern = patternOf(PHONE_NUMBER_REGULAR_EXPRESS);
 
     /**
      * Creates a StringDecorator for enhanced string operations.
@@ -153,24 +166,139 @@ public class StringExtensions4j {
      * @return A list of matched strings
      */
     public static List<String> extractMatches(String str, String regex) {
-        List<String> matches = new ArrayList<>();
         if (String4j.isEmpty(str) || String4j.isEmpty(regex)) {
-            return matches;
+            return new ArrayList<>();
         }
 
         try {
-            Pattern pattern = Pattern.compile(regex);
-            Matcher matcher = pattern.matcher(str);
-            while (matcher.find()) {
-                matches.add(matcher.group());
-            }
+            return extractMatches(str, patternOf(regex));
         } catch (Exception e) {
             logger.error("Error extracting matches with regex '{}': {}", regex, e.getMessage());
         }
 
+        return new ArrayList<>();
+    }
+
+    /**
+     * Extracts all matches of a compiled pattern from the given string.
+     *
+     * @param str     The string to search in
+     * @param pattern The compiled pattern
+     * @return A list of matched strings
+     */
+    public static List<String> extractMatches(String str, Pattern pattern) {
+        List<String> matches = new ArrayList<>();
+        if (String4j.isEmpty(str) || pattern == null) {
+            return matches;
+        }
+        Matcher matcher = pattern.matcher(str);
+        while (matcher.find()) {
+            matches.add(matcher.group());
+        }
         return matches;
     }
 
+    /**
+     * Streams the matches of a regex pattern in a character sequence lazily, without collecting them into a list.
+     *
+     * @param input The character sequence to search in
+     * @param regex The regex pattern
+     * @return A sequential stream of the matched strings, empty if either argument is empty or the pattern is invalid
+     */
+    public static Stream<String> streamMatches(CharSequence input, String regex) {
+        if (input == null || input.length() == 0 || String4j.isEmpty(regex)) {
+            return Stream.empty();
+        }
+        try {
+            Matcher matcher = patternOf(regex).matcher(input);
+            Iterator<String> iterator = new Iterator<String>() {
+                private Boolean found;
+
+                @Override
+                public boolean hasNext() {
+                    if (found == null) {
+                        found = matcher.find();
+                    }
+                    return found;
+                }
+
+                @Override
+                public String next() {
+                    if (!this.hasNext()) {
+                        throw new NoSuchElementException();
+                    }
+                    found = null;
+                    return matcher.group();
+                }
+            };
+            return StreamSupport.stream(Spliterators.spliteratorUnknownSize(iterator, Spliterator.ORDERED | Spliterator.NONNULL), false);
+        } catch (Exception e) {
+            logger.error("Error streaming matches with regex '{}': {}", regex, e.getMessage());
+            return Stream.empty();
+        }
+    }
+
+    /**
+     * Streams the matches of a regex pattern in a Reader lazily, reading it in chunks of
+     * {@link ChunkedMatchIterator#DEFAULT_CHUNK_SIZE} characters, so memory stays bounded whatever the size of the input.
+     * Matches are expected to be shorter than {@link ChunkedMatchIterator#DEFAULT_MAX_MATCH_LENGTH} characters.
+     * The Reader is not closed.
+     *
+     * @param reader The Reader to search in
+     * @param regex  The regex pattern
+     * @return A sequential stream of the matched strings, empty if either argument is empty or the pattern is invalid
+     */
+    public static Stream<String> streamMatches(Reader reader, String regex) {
+        if (reader == null || String4j.isEmpty(regex)) {
+            return Stream.empty();
+        }
+        try {
+            return streamMatches(reader, patternOf(regex), ChunkedMatchIterator.DEFAULT_CHUNK_SIZE);
+        } catch (Exception e) {
+            logger.error("Error streaming matches with regex '{}': {}", regex, e.getMessage());
+            return Stream.empty();
+        }
+    }
+
+    /**
+     * Streams the matches of a compiled pattern in a Reader lazily, reading it in chunks of the given size.
+     * The Reader is not closed.
+     *
+     * @param reader    The Reader to search in
+     * @param pattern   The compiled pattern
+     * @param chunkSize The number of characters held in memory, at least {@link ChunkedMatchIterator#MIN_CHUNK_SIZE}
+     * @return A sequential stream of the matched strings
+     */
+    public static Stream<String> streamMatches(Reader reader, Pattern pattern, int chunkSize) {
+        if (reader == null || pattern == null) {
+            return Stream.empty();
+        }
+        ChunkedMatchIterator iterator = new ChunkedMatchIterator(reader, pattern, chunkSize);
+        return StreamSupport.stream(Spliterators.spliteratorUnknownSize(iterator, Spliterator.ORDERED | Spliterator.NONNULL), false);
+    }
+
+    /**
+     * Passes every match of a regex pattern in a Reader to a consumer, reading it in chunks,
+     * see {@link #streamMatches(Reader, String)}. The Reader is not closed.
+     *
+     * @param reader   The Reader to search in
+     * @param regex    The regex pattern
+     * @param consumer The consumer receiving each matched string, in order
+     * @return The number of matches
+     */
+    public static long extractMatches(Reader reader, String regex, Consumer<String> consumer) {
+        if (consumer == null) {
+            return 0;
+        }
+        long count = 0;
+        Iterator<String> matches = streamMatches(reader, regex).iterator();
+        while (matches.hasNext()) {
+            consumer.accept(matches.next());
+            count++;
+        }
+        return count;
+    }
+
     /**
      * Extracts all email addresses from the given string.
      *
@@ -178,7 +306,17 @@ public class StringExtensions4j {
      * @return A list of email addresses found
      */
     public static List<String> extractEmails(String str) {
-        return extractMatches(str, EMAIL_REGULAR_EXPRESSION);
+        return extractMatches(str, emailPattern);
+    }
+
+    /**
+     * Streams the email addresses found in a Reader, reading it in chunks. The Reader is not closed.
+     *
+     * @param reader The Reader to search in
+     * @return A sequential stream of the email addresses found
+     */
+    public static Stream<String> streamEmails(Reader reader) {
+        return streamMatches(reader, emailPattern, ChunkedMatchIterator.DEFAULT_CHUNK_SIZE);
     }
 
     /**
@@ -188,8 +326,17 @@ public class StringExtensions4j {
      * @return A list of URLs found
      */
     public static List<String> extractUrls(String str) {
-        String urlRegex = "https?://[\\w\\-]+(\\.[\\w\\-]+)+([\\w\\-\\.,@?^=%&:/~\\+#]*[\\w\\-\\@?^=%&/~\\+#])?";
-        return extractMatches(str, urlRegex);
+        return extractMatches(str, urlPattern);
+    }
+
+    /**
+     * Streams the URL addresses found in a Reader, reading it in chunks. The Reader is not closed.
+     *
+     * @param reader The Reader to search in
+     * @return A sequential stream of the URLs found
+     */
+    public static Stream<String> streamUrls(Reader reader) {
+        return streamMatches(reader, urlPattern, ChunkedMatchIterator.DEFAULT_CHUNK_SIZE);
     }
 
     /**
@@ -199,7 +346,17 @@ public class StringExtensions4j {
      * @return A list of phone numbers found
      */
     public static List<String> extractPhoneNumbers(String str) {
-        return extractMatches(str, PHONE_NUMBER_REGULAR_EXPRESS);
+        return extractMatches(str, phoneNumberPattern);
+    }
+
+    /**
+     * Streams the phone numbers found in a Reader, reading it in chunks. The Reader is not closed.
+     *
+     * @param reader The Reader to search in
+     * @return A sequential stream of the phone numbers found
+     */
+    public static Stream<String> streamPhoneNumbers(Reader reader) {
+        return streamMatches(reader, phoneNumberPattern, ChunkedMatchIterator.DEFAULT_CHUNK_SIZE);
     }
 
     /**
@@ -506,4 +663,25 @@ public class StringExtensions4j {
         chars[i] = chars[j];
         chars[j] = temp;
     }
-}
\ No newline at end of file
+
+    /**
+     * Returns the compiled form of a regex pattern, cached up to {@link #MAX_CACHED_PATTERNS} patterns.
+     *
+     * @param regex The regex pattern
+     * @return The compiled pattern
+     * @throws java.util.regex.PatternSyntaxException if the pattern is invalid
+     */
+    protected static Pattern patternOf(String regex) {
+        Pattern pattern = patterns.get(regex);
+        if (pattern == null) {
+            pattern = Pattern.compile(regex);
+            if (patterns.size() < MAX_CACHED_PATTERNS) {
+                Pattern existing = patterns.putIfAbsent(regex, pattern);
+                if (existing != null) {
+                    return existing;
+                }
+            }
+        }
+        return pattern;
+    }
+}
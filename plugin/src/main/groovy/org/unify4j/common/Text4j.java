@@ -2,19 +2,122 @@ package org.unify4j.common;
 
 import org.unify4j.model.c.Ascii;
 import org.unify4j.model.enums.TimezoneType;
+import org.unify4j.model.stream.StringBuilderWriter;
 import org.unify4j.text.TimeFormatText;
 
-import java.util.Date;
-import java.util.TimeZone;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.OutputStreamWriter;
+import java.io.Writer;
+import java.nio.charset.Charset;
+import java.time.ZoneId;
+import java.util.*;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.function.BooleanSupplier;
+import java.util.function.Consumer;
+import java.util.function.Supplier;
 
 @SuppressWarnings({"GrazieInspection"})
 public class Text4j {
+    protected static final int RECYCLED_CAPACITY = 256;
+    protected static final int RECYCLED_MAX_CAPACITY = 8192;
+    protected static final ThreadLocal<Text4j> recycled = ThreadLocal.withInitial(() -> new Text4j(RECYCLED_CAPACITY));
+    protected static final int MAX_COMPILED_TEMPLATES = 1024;
+    protected static final ConcurrentMap<String, Template> templates = new ConcurrentHashMap<>();
     protected final StringBuilder message;
+    protected StringBuilderWriter sink;
+    protected boolean acquired;
+    protected boolean muted;
+    protected List<Deferred> deferred;
 
     public Text4j() {
         message = new StringBuilder();
     }
 
+    public Text4j(int capacity) {
+        message = new StringBuilder(capacity);
+    }
+
+    /**
+     * Creates a Text4j instance that only renders when the condition holds, e.g. {@code Text4j.when(logger.isDebugEnabled())}.
+     * A muted instance skips object marshalling, string formatting, timestamp formatting and deferred steps,
+     * and renders as an empty string, so building a message for a disabled log level costs almost nothing.
+     *
+     * @param condition Whether the message will be rendered.
+     * @return A new Text4j instance, muted if the condition is false.
+     */
+    public static Text4j when(boolean condition) {
+        Text4j text = new Text4j();
+        text.muted = !condition;
+        return text;
+    }
+
+    /**
+     * Creates a Text4j instance that only renders when the condition holds, e.g. {@code Text4j.when(logger::isDebugEnabled)}.
+     * The condition is evaluated once, when the instance is created.
+     *
+     * @param condition The condition deciding whether the message will be rendered.
+     * @return A new Text4j instance, muted if the condition is null or false.
+     */
+    public static Text4j when(BooleanSupplier condition) {
+        return when(condition != null && condition.getAsBoolean());
+    }
+
+    /**
+     * Compiles a message template with "{}" placeholders, e.g. "Order {} shipped to {}".
+     * Templates are immutable and thread-safe; compiled templates are cached by pattern so repeated calls reuse them.
+     *
+     * @param pattern The message pattern.
+     * @return The compiled template.
+     */
+    public static Template compile(String pattern) {
+        if (pattern == null) {
+            throw new IllegalArgumentException("Template pattern is required");
+        }
+        Template template = templates.get(pattern);
+        if (template != null) {
+            return template;
+        }
+        template = new Template(pattern);
+        if (templates.size() < MAX_COMPILED_TEMPLATES) {
+            Template existing = templates.putIfAbsent(pattern, template);
+            if (existing != null) {
+                return existing;
+            }
+        }
+        return template;
+    }
+
+    /**
+     * Returns the cleared Text4j instance of the current thread, to build messages on hot paths without allocating a new buffer.
+     * Call {@link #recycle()} once the message has been consumed so the instance can be handed out again.
+     * If the thread's instance is still in use (e.g. a nested call while building another message), a new instance is returned instead.
+     *
+     * @return a cleared Text4j instance
+     */
+    public static Text4j recycled() {
+        Text4j text = recycled.get();
+        if (text.acquired) {
+            return new Text4j();
+        }
+        text.acquired = true;
+        return text.clear();
+    }
+
+    /**
+     * Hands this instance back to its thread after {@link #recycled()}, clearing it and shrinking buffers that grew too large.
+     * Calling it on an instance that was not obtained from {@link #recycled()} only clears it.
+     */
+    public void recycle() {
+        this.clear();
+        if (message.capacity() > RECYCLED_MAX_CAPACITY) {
+            message.trimToSize();
+            message.ensureCapacity(RECYCLED_CAPACITY);
+        }
+        acquired = false;
+    }
+
     /**
      * Appends a non-empty string to the message.
      *
@@ -36,7 +139,7 @@ public class Text4j {
      * @return The current instance of Text4j.
      */
     public Text4j appendCompact(String format, Object... args) {
-        if (String4j.isEmpty(format) || Array4j.isEmpty(args)) {
+        if (muted || String4j.isEmpty(format) || Array4j.isEmpty(args)) {
             return this;
         }
         String formatted = String.format(format, args);
@@ -51,7 +154,7 @@ public class Text4j {
      */
     public Text4j appendCompact(Object o) {
         if (o != null) {
-            return this.appendCompact(Json4j.marshall(o));
+            this.marshall(o);
         }
         return this;
     }
@@ -79,7 +182,7 @@ public class Text4j {
      * @return The current instance of Text4j.
      */
     public Text4j appendCompactIf(boolean condition, String format, Object... args) {
-        if (condition && !String4j.isEmpty(format) && !Array4j.isEmpty(args)) {
+        if (condition && !muted && !String4j.isEmpty(format) && !Array4j.isEmpty(args)) {
             String formatted = String.format(format, args);
             return this.appendCompact(formatted);
         }
@@ -107,7 +210,8 @@ public class Text4j {
      */
     public Text4j append(Object o) {
         if (o != null) {
-            return this.append(Json4j.marshall(o));
+            this.marshall(o);
+            return this.space();
         }
         return this;
     }
@@ -145,7 +249,7 @@ public class Text4j {
      * @return The current instance of Text4j.
      */
     public Text4j append(String format, Object[] args) {
-        if (String4j.isEmpty(format) || Array4j.isEmpty(args)) {
+        if (muted || String4j.isEmpty(format) || Array4j.isEmpty(args)) {
             return this;
         }
         return this.append(String.format(format, args));
@@ -174,7 +278,7 @@ public class Text4j {
      * @return The current instance of Text4j.
      */
     public Text4j appendIf(boolean condition, String format, Object... args) {
-        if (condition && !String4j.isEmpty(format) && !Array4j.isEmpty(args)) {
+        if (condition && !muted && !String4j.isEmpty(format) && !Array4j.isEmpty(args)) {
             String formatted = String.format(format, args);
             return this.append(formatted);
         }
@@ -218,7 +322,10 @@ public class Text4j {
      * @return The current instance of Text4j.
      */
     public Text4j timestamp(Date date, TimeZone timezone) {
-        return this.append(Time4j.format(date, timezone));
+        if (muted) {
+            return this;
+        }
+        return this.timestamp(date, timezone, TimeFormatText.BIBLIOGRAPHY_EPOCH_PATTERN);
     }
 
     /**
@@ -230,6 +337,12 @@ public class Text4j {
      * @return The current instance of Text4j.
      */
     public Text4j timestamp(Date date, TimeZone timezone, String format) {
+        if (muted) {
+            return this;
+        }
+        if (timezone == null) {
+            return this.space();
+        }
         return this.append(Time4j.format(date, timezone, format));
     }
 
@@ -241,7 +354,10 @@ public class Text4j {
      * @return The current instance of Text4j.
      */
     public Text4j timestamp(Date date, TimezoneType timezone) {
-        return this.append(Time4j.format(date, timezone));
+        if (muted) {
+            return this;
+        }
+        return this.timestamp(date, timezone, TimeFormatText.BIBLIOGRAPHY_EPOCH_PATTERN);
     }
 
     /**
@@ -253,7 +369,30 @@ public class Text4j {
      * @return The current instance of Text4j.
      */
     public Text4j timestamp(Date date, TimezoneType timezone, String format) {
-        return this.append(Time4j.format(date, timezone, format));
+        if (muted) {
+            return this;
+        }
+        if (timezone == null) {
+            return this.space();
+        }
+        return this.timestamp(date, timezone.getZoneId(), format);
+    }
+
+    /**
+     * Appends a formatted timestamp of the given date, zone, and custom format, formatted straight into the message
+     * with the shared formatter of {@link TimeFormatter4j}.
+     *
+     * @param date   The date to format.
+     * @param zone   The zone to use for formatting, or null for the system zone.
+     * @param format The custom format string to use for formatting.
+     * @return The current instance of Text4j.
+     */
+    public Text4j timestamp(Date date, ZoneId zone, String format) {
+        if (muted) {
+            return this;
+        }
+        TimeFormatter4j.formatTo(date, format, zone, null, message);
+        return this.space();
     }
 
     /**
@@ -264,7 +403,10 @@ public class Text4j {
      * @return The current instance of Text4j.
      */
     public Text4j timestamp(Date date, String format) {
-        return this.append(Time4j.format(date, format));
+        if (muted) {
+            return this;
+        }
+        return this.timestamp(date, (ZoneId) null, format);
     }
 
     /**
@@ -274,7 +416,10 @@ public class Text4j {
      * @return The current instance of Text4j.
      */
     public Text4j timestamp(Date date) {
-        return this.append(Time4j.format(date, TimeFormatText.BIBLIOGRAPHY_COMPLETE_EPOCH_PATTERN));
+        if (muted) {
+            return this;
+        }
+        return this.timestamp(date, (ZoneId) null, TimeFormatText.BIBLIOGRAPHY_COMPLETE_EPOCH_PATTERN);
     }
 
     /**
@@ -292,11 +437,13 @@ public class Text4j {
      * @return The current instance of Text4j.
      */
     public Text4j timestampParenthesis() {
-        String f = String.format("%s%s%s",
-                Ascii.Punctuation.LEFT_PARENTHESIS,
-                Time4j.format(new Date(), TimeFormatText.BIBLIOGRAPHY_COMPLETE_EPOCH_PATTERN),
-                Ascii.Punctuation.RIGHT_PARENTHESIS);
-        return this.append(f);
+        if (muted) {
+            return this;
+        }
+        message.append(Ascii.Punctuation.LEFT_PARENTHESIS);
+        TimeFormatter4j.formatTo(new Date(), TimeFormatText.BIBLIOGRAPHY_COMPLETE_EPOCH_PATTERN, null, null, message);
+        message.append(Ascii.Punctuation.RIGHT_PARENTHESIS);
+        return this.space();
     }
 
     /**
@@ -306,9 +453,9 @@ public class Text4j {
      * @return The current instance of Text4j.
      */
     public Text4j vertical(String text) {
-        message.append(String4j.repeat(Ascii.Symbol.VERTICAL_LINE, 1))
+        message.append(Ascii.Symbol.VERTICAL_LINE)
                 .append(text)
-                .append(String4j.repeat(Ascii.Symbol.VERTICAL_LINE, 1));
+                .append(Ascii.Symbol.VERTICAL_LINE);
         return this.space();
     }
 
@@ -323,7 +470,10 @@ public class Text4j {
         if (o == null) {
             return this;
         }
-        return this.vertical(Json4j.marshall(o));
+        message.append(Ascii.Symbol.VERTICAL_LINE);
+        this.marshall(o);
+        message.append(Ascii.Symbol.VERTICAL_LINE);
+        return this.space();
     }
 
     /**
@@ -380,11 +530,10 @@ public class Text4j {
         if (String4j.isEmpty(str)) {
             return this;
         }
-        String f = String.format("%s%s%s",
-                Ascii.Punctuation.LEFT_PARENTHESIS,
-                str,
-                Ascii.Punctuation.RIGHT_PARENTHESIS);
-        return this.append(f);
+        message.append(Ascii.Punctuation.LEFT_PARENTHESIS)
+                .append(str)
+                .append(Ascii.Punctuation.RIGHT_PARENTHESIS);
+        return this.space();
     }
 
     /**
@@ -398,7 +547,10 @@ public class Text4j {
         if (o == null) {
             return this;
         }
-        return this.parenthesis(Json4j.marshall(o));
+        message.append(Ascii.Punctuation.LEFT_PARENTHESIS);
+        this.marshall(o);
+        message.append(Ascii.Punctuation.RIGHT_PARENTHESIS);
+        return this.space();
     }
 
     /**
@@ -470,11 +622,10 @@ public class Text4j {
         if (String4j.isEmpty(str)) {
             return this;
         }
-        String f = String.format("%s%s%s",
-                Ascii.Punctuation.LEFT_SQUARE_BRACKET,
-                str,
-                Ascii.Punctuation.RIGHT_SQUARE_BRACKET);
-        return this.append(f);
+        message.append(Ascii.Punctuation.LEFT_SQUARE_BRACKET)
+                .append(str)
+                .append(Ascii.Punctuation.RIGHT_SQUARE_BRACKET);
+        return this.space();
     }
 
     /**
@@ -488,7 +639,10 @@ public class Text4j {
         if (o == null) {
             return this;
         }
-        return this.bracket(Json4j.marshall(o));
+        message.append(Ascii.Punctuation.LEFT_SQUARE_BRACKET);
+        this.marshall(o);
+        message.append(Ascii.Punctuation.RIGHT_SQUARE_BRACKET);
+        return this.space();
     }
 
     /**
@@ -560,11 +714,10 @@ public class Text4j {
         if (String4j.isEmpty(str)) {
             return this;
         }
-        String f = String.format("%s%s%s",
-                Ascii.Punctuation.LEFT_CURLY_BRACKET,
-                str,
-                Ascii.Punctuation.RIGHT_CURLY_BRACKET);
-        return this.append(f);
+        message.append(Ascii.Punctuation.LEFT_CURLY_BRACKET)
+                .append(str)
+                .append(Ascii.Punctuation.RIGHT_CURLY_BRACKET);
+        return this.space();
     }
 
     /**
@@ -578,7 +731,10 @@ public class Text4j {
         if (o == null) {
             return this;
         }
-        return this.curlyBracket(Json4j.marshall(o));
+        message.append(Ascii.Punctuation.LEFT_CURLY_BRACKET);
+        this.marshall(o);
+        message.append(Ascii.Punctuation.RIGHT_CURLY_BRACKET);
+        return this.space();
     }
 
     /**
@@ -650,11 +806,10 @@ public class Text4j {
         if (String4j.isEmpty(str)) {
             return this;
         }
-        String f = String.format("%s%s%s",
-                Ascii.Punctuation.QUOTATION_MARK,
-                str,
-                Ascii.Punctuation.QUOTATION_MARK);
-        return this.append(f);
+        message.append(Ascii.Punctuation.QUOTATION_MARK)
+                .append(str)
+                .append(Ascii.Punctuation.QUOTATION_MARK);
+        return this.space();
     }
 
     /**
@@ -668,7 +823,10 @@ public class Text4j {
         if (o == null) {
             return this;
         }
-        return this.quotation(Json4j.marshall(o));
+        message.append(Ascii.Punctuation.QUOTATION_MARK);
+        this.marshall(o);
+        message.append(Ascii.Punctuation.QUOTATION_MARK);
+        return this.space();
     }
 
     /**
@@ -740,10 +898,9 @@ public class Text4j {
         if (String4j.isEmpty(str)) {
             return this;
         }
-        String f = String.format("%s%s",
-                Ascii.Punctuation.HYPHEN_MINUS,
-                str);
-        return this.append(f);
+        message.append(Ascii.Punctuation.HYPHEN_MINUS)
+                .append(str);
+        return this.space();
     }
 
     /**
@@ -757,7 +914,9 @@ public class Text4j {
         if (o == null) {
             return this;
         }
-        return this.hyphenMinus(Json4j.marshall(o));
+        message.append(Ascii.Punctuation.HYPHEN_MINUS);
+        this.marshall(o);
+        return this.space();
     }
 
     /**
@@ -829,10 +988,9 @@ public class Text4j {
         if (String4j.isEmpty(str)) {
             return this;
         }
-        String f = String.format("%s%s",
-                Ascii.Symbol.EQUALS_SIGN,
-                str);
-        return this.append(f);
+        message.append(Ascii.Symbol.EQUALS_SIGN)
+                .append(str);
+        return this.space();
     }
 
     /**
@@ -846,7 +1004,9 @@ public class Text4j {
         if (o == null) {
             return this;
         }
-        return this.equal(Json4j.marshall(o));
+        message.append(Ascii.Symbol.EQUALS_SIGN);
+        this.marshall(o);
+        return this.space();
     }
 
     /**
@@ -918,10 +1078,9 @@ public class Text4j {
         if (String4j.isEmpty(str)) {
             return this;
         }
-        String f = String.format("%s%s",
-                str,
-                Ascii.Symbol.EQUALS_SIGN);
-        return this.append(f);
+        message.append(str)
+                .append(Ascii.Symbol.EQUALS_SIGN);
+        return this.space();
     }
 
     /**
@@ -935,7 +1094,9 @@ public class Text4j {
         if (o == null) {
             return this;
         }
-        return this.endingEqual(Json4j.marshall(o));
+        this.marshall(o);
+        message.append(Ascii.Symbol.EQUALS_SIGN);
+        return this.space();
     }
 
     /**
@@ -1168,10 +1329,10 @@ public class Text4j {
         if (String4j.isEmpty(str)) {
             return this;
         }
-        String f = String.format("%s %s",
-                Ascii.Punctuation.COMMA,
-                str);
-        return this.append(f);
+        message.append(Ascii.Punctuation.COMMA)
+                .append(Ascii.Punctuation.SPACE)
+                .append(str);
+        return this.space();
     }
 
     /**
@@ -1185,7 +1346,9 @@ public class Text4j {
         if (o == null) {
             return this;
         }
-        return this.beginningComma(Json4j.marshall(o));
+        message.append(Ascii.Punctuation.COMMA).append(Ascii.Punctuation.SPACE);
+        this.marshall(o);
+        return this.space();
     }
 
     /**
@@ -1261,10 +1424,9 @@ public class Text4j {
         if (String4j.isEmpty(str)) {
             return this;
         }
-        String f = String.format("%s%s",
-                str,
-                Ascii.Punctuation.COMMA);
-        return this.append(f);
+        message.append(str)
+                .append(Ascii.Punctuation.COMMA);
+        return this.space();
     }
 
     /**
@@ -1278,7 +1440,9 @@ public class Text4j {
         if (o == null) {
             return this;
         }
-        return this.endingComma(Json4j.marshall(o));
+        this.marshall(o);
+        message.append(Ascii.Punctuation.COMMA);
+        return this.space();
     }
 
     /**
@@ -1438,10 +1602,10 @@ public class Text4j {
         if (String4j.isEmpty(str)) {
             return this;
         }
-        String f = String.format("%s %s",
-                Ascii.Punctuation.COLON,
-                str);
-        return this.append(f);
+        message.append(Ascii.Punctuation.COLON)
+                .append(Ascii.Punctuation.SPACE)
+                .append(str);
+        return this.space();
     }
 
     /**
@@ -1455,7 +1619,9 @@ public class Text4j {
         if (o == null) {
             return this;
         }
-        return this.beginningColon(Json4j.marshall(o));
+        message.append(Ascii.Punctuation.COLON).append(Ascii.Punctuation.SPACE);
+        this.marshall(o);
+        return this.space();
     }
 
     /**
@@ -1531,10 +1697,9 @@ public class Text4j {
         if (String4j.isEmpty(str)) {
             return this;
         }
-        String f = String.format("%s%s",
-                str,
-                Ascii.Punctuation.COLON);
-        return this.append(f);
+        message.append(str)
+                .append(Ascii.Punctuation.COLON);
+        return this.space();
     }
 
     /**
@@ -1548,7 +1713,9 @@ public class Text4j {
         if (o == null) {
             return this;
         }
-        return this.endingColon(Json4j.marshall(o));
+        this.marshall(o);
+        message.append(Ascii.Punctuation.COLON);
+        return this.space();
     }
 
     /**
@@ -1630,7 +1797,12 @@ public class Text4j {
      * @return The current instance of Text4j.
      */
     public Text4j space(int repeat) {
-        message.append(String4j.repeat(Ascii.Punctuation.SPACE, repeat));
+        if (repeat < 0) {
+            throw new IllegalArgumentException("Repeat count must be non-negative");
+        }
+        for (int i = 0; i < repeat; i++) {
+            message.append(Ascii.Punctuation.SPACE);
+        }
         return this;
     }
 
@@ -1727,11 +1899,292 @@ public class Text4j {
      */
     public Text4j clear() {
         message.setLength(0);
+        deferred = null;
+        return this;
+    }
+
+    /**
+     * Checks whether this instance is muted, i.e. it was created by {@link #when(boolean)} with a false condition.
+     *
+     * @return true if the message will not be rendered, false otherwise.
+     */
+    public boolean isMuted() {
+        return muted;
+    }
+
+    /**
+     * Records a step that appends to the message only when the message is rendered (by toString or writeTo).
+     * The step's output is placed where it was recorded, between the fragments appended before and after it.
+     * Steps of a muted instance are dropped without being run.
+     *
+     * @param step The step appending to the message.
+     * @return The current instance of Text4j.
+     */
+    public Text4j defer(Consumer<Text4j> step) {
+        if (muted || step == null) {
+            return this;
+        }
+        if (deferred == null) {
+            deferred = new ArrayList<>();
+        }
+        deferred.add(new Deferred(message.length(), step));
         return this;
     }
 
+    /**
+     * Appends the value supplied at render time followed by a space, the supplier is only called if the message is rendered.
+     *
+     * @param supplier The supplier of the value to append.
+     * @return The current instance of Text4j.
+     */
+    public Text4j appendLazy(Supplier<?> supplier) {
+        if (supplier == null) {
+            return this;
+        }
+        return this.defer(text -> text.append(supplier.get()));
+    }
+
+    /**
+     * Appends a formatted string followed by a space, formatting only happens if the message is rendered.
+     *
+     * @param format The format string.
+     * @param args   The arguments to format.
+     * @return The current instance of Text4j.
+     */
+    public Text4j appendLazy(String format, Object... args) {
+        if (String4j.isEmpty(format) || Array4j.isEmpty(args)) {
+            return this;
+        }
+        return this.defer(text -> text.append(format, args));
+    }
+
+    /**
+     * Appends the template rendered with the given arguments, followed by a space.
+     *
+     * @param template The compiled template.
+     * @param args     The arguments replacing the placeholders, in order.
+     * @return The current instance of Text4j.
+     */
+    public Text4j render(Template template, Object... args) {
+        if (muted || template == null) {
+            return this;
+        }
+        template.renderTo(this, args);
+        return this.space();
+    }
+
+    /**
+     * Appends the template rendered with the given arguments followed by a space, rendering only happens if the message is rendered.
+     *
+     * @param template The compiled template.
+     * @param args     The arguments replacing the placeholders, in order.
+     * @return The current instance of Text4j.
+     */
+    public Text4j renderLazy(Template template, Object... args) {
+        if (template == null) {
+            return this;
+        }
+        return this.defer(text -> text.render(template, args));
+    }
+
+    /**
+     * Runs the deferred steps, each at the position it was recorded at.
+     */
+    protected void flushDeferred() {
+        while (deferred != null && !deferred.isEmpty()) {
+            List<Deferred> steps = deferred;
+            deferred = null;
+            String eager = message.toString();
+            message.setLength(0);
+            int from = 0;
+            for (Deferred d : steps) {
+                message.append(eager, from, d.offset);
+                d.step.accept(this);
+                from = d.offset;
+            }
+            message.append(eager, from, eager.length());
+        }
+    }
+
+    /**
+     * Returns the number of characters of the message.
+     *
+     * @return The length of the message.
+     */
+    public int length() {
+        if (muted) {
+            return 0;
+        }
+        this.flushDeferred();
+        return message.length();
+    }
+
+    /**
+     * Writes the message to the given sink without building an intermediate string.
+     * Writers receive the message in chunks, other Appendable sinks receive it as one CharSequence.
+     *
+     * @param out The sink receiving the message.
+     * @param <A> The type of the sink.
+     * @return The given sink.
+     * @throws IOException if the sink fails to accept the characters.
+     */
+    public <A extends Appendable> A writeTo(A out) throws IOException {
+        if (muted) {
+            return out;
+        }
+        this.flushDeferred();
+        if (out instanceof Writer) {
+            Writer writer = (Writer) out;
+            char[] chunk = new char[Math.min(Math.max(message.length(), 1), 4096)];
+            for (int start = 0; start < message.length(); start += chunk.length) {
+                int end = Math.min(message.length(), start + chunk.length);
+                message.getChars(start, end, chunk, 0);
+                writer.write(chunk, 0, end - start);
+            }
+        } else {
+            out.append(message);
+        }
+        return out;
+    }
+
+    /**
+     * Encodes the message with the given charset into the output stream without building an intermediate string.
+     * The stream is flushed but not closed.
+     *
+     * @param out     The output stream receiving the encoded message.
+     * @param charset The charset used to encode the message.
+     * @throws IOException if the stream fails to accept the bytes.
+     */
+    public void writeTo(OutputStream out, Charset charset) throws IOException {
+        Writer writer = new OutputStreamWriter(out, charset);
+        this.writeTo(writer);
+        writer.flush();
+    }
+
+    /**
+     * Appends the string representation of the object straight into the message:
+     * primitives are appended as text, other objects are written as JSON through the message buffer.
+     *
+     * @param o The object to append, must not be null.
+     */
+    protected void marshall(Object o) {
+        if (muted) {
+            return;
+        }
+        if (o instanceof Integer || o instanceof Long || o instanceof Short || o instanceof Byte) {
+            message.append(((Number) o).longValue());
+        } else if (o instanceof Boolean) {
+            message.append(((Boolean) o).booleanValue());
+        } else if (o instanceof Character) {
+            message.append(((Character) o).charValue());
+        } else if (Class4j.isPrimitive(o.getClass())) {
+            message.append(o);
+        } else {
+            if (sink == null) {
+                sink = new StringBuilderWriter(message);
+            }
+            Json4j.toJson(o, sink);
+        }
+    }
+
     @Override
     public String toString() {
+        if (muted) {
+            return "";
+        }
+        this.flushDeferred();
         return message.toString();
     }
+
+    // Inner class representing a step recorded by defer, with the message position it renders at.
+    protected static class Deferred {
+        final int offset;
+        final Consumer<Text4j> step;
+
+        Deferred(int offset, Consumer<Text4j> step) {
+            this.offset = offset;
+            this.step = step;
+        }
+    }
+
+    /**
+     * A message pattern with "{}" placeholders, split once into its literal parts so rendering is a linear copy.
+     * Character sequences replace placeholders as is, other values are appended like {@link #append(Object)} does
+     * (primitives as text, objects as JSON). Missing arguments leave their placeholder as "{}", extra arguments are ignored.
+     */
+    public static final class Template {
+        private final String pattern;
+        private final String[] literals;
+
+        private Template(String pattern) {
+            this.pattern = pattern;
+            List<String> parts = new ArrayList<>();
+            int from = 0;
+            int index;
+            while ((index = pattern.indexOf("{}", from)) >= 0) {
+                parts.add(pattern.substring(from, index));
+                from = index + 2;
+            }
+            parts.add(pattern.substring(from));
+            this.literals = parts.toArray(new String[0]);
+        }
+
+        /**
+         * Returns the pattern the template was compiled from.
+         *
+         * @return The pattern.
+         */
+        public String getPattern() {
+            return pattern;
+        }
+
+        /**
+         * Returns the number of placeholders of the template.
+         *
+         * @return The number of placeholders.
+         */
+        public int placeholders() {
+            return literals.length - 1;
+        }
+
+        /**
+         * Renders the template with the given arguments.
+         *
+         * @param args The arguments replacing the placeholders, in order.
+         * @return The rendered message.
+         */
+        public String render(Object... args) {
+            Text4j text = new Text4j(pattern.length() + 16 * placeholders());
+            this.renderTo(text, args);
+            return text.toString();
+        }
+
+        /**
+         * Renders the template with the given arguments into the message of the given Text4j, without a trailing space.
+         *
+         * @param text The Text4j receiving the rendered template.
+         * @param args The arguments replacing the placeholders, in order.
+         */
+        public void renderTo(Text4j text, Object... args) {
+            text.message.append(literals[0]);
+            for (int i = 1; i < literals.length; i++) {
+                int arg = i - 1;
+                if (args == null || arg >= args.length) {
+                    text.message.append("{}");
+                } else if (args[arg] == null) {
+                    text.message.append((Object) null);
+                } else if (args[arg] instanceof CharSequence) {
+                    text.message.append((CharSequence) args[arg]);
+                } else {
+                    text.marshall(args[arg]);
+                }
+                text.message.append(literals[i]);
+            }
+        }
+
+        @Override
+        public String toString() {
+            return pattern;
+        }
+    }
 }
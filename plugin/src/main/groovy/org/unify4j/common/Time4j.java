@@ -6,7 +6,6 @@ import org.unify4j.model.enums.TimezoneType;
 import org.unify4j.text.TimeFormatText;
 
 import java.sql.Timestamp;
-import java.text.DateFormat;
 import java.text.ParseException;
 import java.text.SimpleDateFormat;
 import java.time.*;
@@ -589,9 +588,7 @@ public class Time4j {
         if (date == null) {
             return "";
         }
-        DateFormat rfc1123Format = new SimpleDateFormat(TimeFormatText.BIBLIOGRAPHY_LEGACY_EPOCH_PATTERN, Locale.getDefault());
-        rfc1123Format.setTimeZone(TimeZone.getTimeZone("UTC"));
-        return rfc1123Format.format(date);
+        return TimeFormatter4j.format(date, TimeFormatText.BIBLIOGRAPHY_LEGACY_EPOCH_PATTERN, TimeFormatter4j.UTC, Locale.getDefault());
     }
 
     /**
@@ -973,12 +970,12 @@ public class Time4j {
                 return null;
             }
             if (String4j.isEmpty(format)) {
-                return new SimpleDateFormat(TimeFormatText.BIBLIOGRAPHY_EPOCH_PATTERN).parse(date);
+                return TimeFormatter4j.parse(date, TimeFormatText.BIBLIOGRAPHY_EPOCH_PATTERN, null);
             }
-            return new SimpleDateFormat(format).parse(date);
+            return TimeFormatter4j.parse(date, format, null);
         } catch (ParseException e) {
             try {
-                return new SimpleDateFormat(TimeFormatText.SHORT_BIBLIOGRAPHY_EPOCH_PATTERN).parse(date);
+                return TimeFormatter4j.parse(date, TimeFormatText.SHORT_BIBLIOGRAPHY_EPOCH_PATTERN, null);
             } catch (ParseException ee) {
                 logger.error("Parsing time got an exception: {} by date: {} and format: {}", ee.getMessage(), date, format, ee);
                 return null;
@@ -1009,18 +1006,12 @@ public class Time4j {
             if (String4j.isEmpty(timezone)) {
                 timezone = "UTC";
             }
-            // Create a SimpleDateFormat object with the specified format
-            SimpleDateFormat formatter = new SimpleDateFormat(format);
-            // Set the timezone for the SimpleDateFormat object
-            formatter.setTimeZone(TimeZone.getTimeZone(timezone));
-            // Parse the date string using the format and timezone
-            return formatter.parse(date);
+            // Parse the date string using the format and timezone, with the shared formatter of the current thread
+            return TimeFormatter4j.parse(date, format, timezone);
         } catch (ParseException e) {
             try {
                 // Attempt to parse with secondary format if the first attempt fails
-                SimpleDateFormat formatterSecondary = new SimpleDateFormat(TimeFormatText.SHORT_BIBLIOGRAPHY_EPOCH_PATTERN);
-                formatterSecondary.setTimeZone(TimeZone.getTimeZone(timezone)); // Apply timezone
-                return formatterSecondary.parse(date);
+                return TimeFormatter4j.parse(date, TimeFormatText.SHORT_BIBLIOGRAPHY_EPOCH_PATTERN, timezone);
             } catch (ParseException ee) {
                 logger.error("Parsing time got an exception: {} by date: {} and format: {}", ee.getMessage(), date, format, ee);
                 return null;
@@ -1072,7 +1063,7 @@ public class Time4j {
         if (date == null || String4j.isEmpty(format)) {
             return "";
         }
-        return new SimpleDateFormat(format).format(date);
+        return TimeFormatter4j.format(date, format, null, null);
     }
 
     /**
@@ -1100,9 +1091,32 @@ public class Time4j {
         if (date == null || timezone == null || String4j.isEmpty(format)) {
             return "";
         }
-        SimpleDateFormat sdf = new SimpleDateFormat(format);
-        sdf.setTimeZone(timezone);
-        return sdf.format(date);
+        ZoneId zone;
+        try {
+            zone = timezone.toZoneId();
+        } catch (DateTimeException e) {
+            // custom time zones without a ZoneId equivalent keep the SimpleDateFormat path
+            SimpleDateFormat sdf = new SimpleDateFormat(format);
+            sdf.setTimeZone(timezone);
+            return sdf.format(date);
+        }
+        return TimeFormatter4j.format(date, format, zone, null);
+    }
+
+    /**
+     * Formats a Date object into a string representation using the specified zone.
+     *
+     * @param date     The Date object to be formatted.
+     * @param timezone The zone.
+     * @param format   The format string used to format the date.
+     * @return A string representation of the formatted date with the specified zone.
+     * @throws IllegalArgumentException if the format is null or invalid.
+     */
+    public static String format(Date date, ZoneId timezone, String format) {
+        if (date == null || timezone == null || String4j.isEmpty(format)) {
+            return "";
+        }
+        return TimeFormatter4j.format(date, format, timezone, null);
     }
 
     /**
@@ -1118,7 +1132,7 @@ public class Time4j {
         if (date == null || timezone == null || String4j.isEmpty(format)) {
             return "";
         }
-        return format(date, TimeZone.getTimeZone(timezone.getTimeZoneId()), format);
+        return TimeFormatter4j.format(date, format, timezone.getZoneId(), null);
     }
 
     /**
@@ -1178,7 +1192,7 @@ public class Time4j {
                 ZonedDateTime sourceZone = locality.atZone(zoneId);
                 // Convert to UTC
                 ZonedDateTime utc = sourceZone.withZoneSameInstant(ZoneId.of("UTC"));
-                return utc.format(DateTimeFormatter.ofPattern(TimeFormatText.ISO_DATE_TIME_WITH_TIMEZONE_OFFSET));
+                return utc.format(TimeFormatter4j.formatter(TimeFormatText.ISO_DATE_TIME_WITH_TIMEZONE_OFFSET, TimeFormatter4j.UTC));
             } catch (DateTimeParseException e) {
                 // Continue to the next format
                 logger.error("Formatting date-time to UTC got en exception: {} by date-time: {}, source timezone: {} and format(s): {}",
@@ -1528,6 +1542,8 @@ public class Time4j {
      * the corresponding TimeZone instance, and its ZoneId is returned. If the TimeZone instance has
      * a raw offset of 0 (indicating an unknown or invalid time zone), an exception is thrown.
      *
+     * Resolved zones are cached in the {@link TimeFormatter4j} zone registry.
+     *
      * @param tz The time zone identifier string.
      * @return The corresponding ZoneId for the given time zone identifier.
      * @throws IllegalArgumentException if the time zone identifier is invalid or cannot be recognized.
@@ -1536,6 +1552,17 @@ public class Time4j {
         if (String4j.isEmpty(tz)) {
             return ZoneId.systemDefault();
         }
+        return TimeFormatter4j.registeredZoneOf(tz);
+    }
+
+    /**
+     * Resolves a time zone identifier as described in {@link #parseTimeZone(String)}, without the cache.
+     *
+     * @param tz The time zone identifier string, not empty.
+     * @return The corresponding ZoneId for the given time zone identifier.
+     * @throws IllegalArgumentException if the time zone identifier is invalid or cannot be recognized.
+     */
+    protected static ZoneId resolveTimeZone(String tz) {
         if (tz.startsWith("-") || tz.startsWith("+")) {
             ZoneOffset offset = ZoneOffset.of(tz); // If the time zone identifier starts with '+' or '-', treat it as an offset and convert it to a ZoneId.
             return ZoneId.ofOffset("GMT", offset);
@@ -1660,8 +1687,7 @@ public class Time4j {
         if (calendar == null) {
             return "";
         }
-        SimpleDateFormat format = new SimpleDateFormat("EEEE");
-        return format.format(calendar.getTime());
+        return TimeFormatter4j.format(calendar.getTime(), "EEEE", null, null);
     }
 
     /**
@@ -1674,8 +1700,7 @@ public class Time4j {
         if (date == null) {
             return "";
         }
-        SimpleDateFormat format = new SimpleDateFormat("EEEE");
-        return format.format(date);
+        return TimeFormatter4j.format(date, "EEEE", null, null);
     }
 
     /**
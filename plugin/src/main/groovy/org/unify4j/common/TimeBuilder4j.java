@@ -10,7 +10,6 @@ import java.time.temporal.TemporalAdjusters;
 import java.util.ArrayList;
 import java.util.Date;
 import java.util.List;
-import java.util.TimeZone;
 
 public class TimeBuilder4j {
     protected static final Logger logger = LoggerFactory.getLogger(TimeBuilder4j.class);
@@ -235,7 +234,7 @@ public class TimeBuilder4j {
      */
     public TimeBuilder4j timezone(TimezoneType timezone) {
         if (timezone != null) {
-            this.timezone = ZoneId.of(timezone.getTimeZoneId());
+            this.timezone = timezone.getZoneId();
         }
         return this;
     }
@@ -299,11 +298,8 @@ public class TimeBuilder4j {
      * @return This builder instance for method chaining
      */
     public TimeBuilder4j addDays(int days) {
-        LocalDate current = LocalDate.of(year, month, day);
-        LocalDate newDate = current.plusDays(days);
-        this.year = newDate.getYear();
-        this.month = newDate.getMonthValue();
-        this.day = newDate.getDayOfMonth();
+        this.checkDate();
+        this.setEpochDay(Epoch4j.epochDay(year, month, day) + days);
         return this;
     }
 
@@ -314,11 +310,11 @@ public class TimeBuilder4j {
      * @return This builder instance for method chaining
      */
     public TimeBuilder4j addMonths(int months) {
-        LocalDate current = LocalDate.of(year, month, day);
-        LocalDate newDate = current.plusMonths(months);
-        this.year = newDate.getYear();
-        this.month = newDate.getMonthValue();
-        this.day = newDate.getDayOfMonth();
+        this.checkDate();
+        long total = year * 12L + (month - 1) + months;
+        this.year = (int) Math.floorDiv(total, 12L);
+        this.month = (int) Math.floorMod(total, 12L) + 1;
+        this.day = Math.min(day, Epoch4j.lengthOfMonth(year, month));
         return this;
     }
 
@@ -349,8 +345,7 @@ public class TimeBuilder4j {
      * @return This builder instance for method chaining
      */
     public TimeBuilder4j lastDayOfMonth() {
-        LocalDate date = LocalDate.of(year, month, 1);
-        this.day = date.lengthOfMonth();
+        this.day = Epoch4j.lengthOfMonth(year, month);
         return this;
     }
 
@@ -361,9 +356,10 @@ public class TimeBuilder4j {
      */
     public Date build() {
         try {
-            ZonedDateTime zoned = ZonedDateTime.of(year, month, day, hour, minute, second,
-                    millisecond * 1_000_000, timezone);
-            return Date.from(zoned.toInstant());
+            this.checkDate();
+            long local = Epoch4j.epochDay(year, month, day) * Epoch4j.MILLIS_PER_DAY + hour * Epoch4j.MILLIS_PER_HOUR
+                    + minute * Epoch4j.MILLIS_PER_MINUTE + second * Epoch4j.MILLIS_PER_SECOND + millisecond;
+            return new Date(Epoch4j.fromLocalMillis(local, timezone));
         } catch (Exception e) {
             logger.error("Error building date with configuration: year={}, month={}, day={}, hour={}, minute={}, second={}, millisecond={}, timeZone={}",
                     year, month, day, hour, minute, second, millisecond, timezone, e);
@@ -409,7 +405,7 @@ public class TimeBuilder4j {
     public String buildFormatted() {
         Date date = build();
         if (date != null) {
-            return Time4j.format(date, TimeZone.getTimeZone(timezone), formatPattern);
+            return Time4j.format(date, timezone, formatPattern);
         }
         return "";
     }
@@ -423,7 +419,7 @@ public class TimeBuilder4j {
     public String buildFormatted(String customFormat) {
         Date date = build();
         if (date != null && String4j.isNotEmpty(customFormat)) {
-            return Time4j.format(date, TimeZone.getTimeZone(timezone), customFormat);
+            return Time4j.format(date, timezone, customFormat);
         }
         return "";
     }
@@ -657,6 +653,29 @@ public class TimeBuilder4j {
         return this;
     }
 
+    /**
+     * Checks that the configured date exists, as LocalDate.of would.
+     *
+     * @throws DateTimeException if the day is beyond the length of the month
+     */
+    protected void checkDate() {
+        if (day > Epoch4j.lengthOfMonth(year, month)) {
+            throw new DateTimeException(String.format("Invalid date: %d-%02d-%02d", year, month, day));
+        }
+    }
+
+    /**
+     * Sets the configured date from an epoch day, without allocating a LocalDate.
+     *
+     * @param epochDay The days since 1970-01-01
+     */
+    protected void setEpochDay(long epochDay) {
+        long date = Epoch4j.civil(epochDay);
+        this.year = Epoch4j.yearOf(date);
+        this.month = Epoch4j.monthOf(date);
+        this.day = Epoch4j.dayOf(date);
+    }
+
     /**
      * Calculates Easter Sunday for the given year using the anonymous Gregorian algorithm.
      *
@@ -5,15 +5,14 @@ import org.slf4j.LoggerFactory;
 import org.unify4j.model.enums.TimezoneType;
 import org.unify4j.text.TimeFormatText;
 
-import java.text.SimpleDateFormat;
 import java.time.Duration;
 import java.time.LocalDate;
 import java.time.LocalDateTime;
 import java.time.ZoneId;
 import java.time.temporal.ChronoUnit;
+import java.time.temporal.UnsupportedTemporalTypeException;
 import java.util.Date;
 import java.util.Locale;
-import java.util.TimeZone;
 import java.util.function.Function;
 
 public class TimeDecorator4j {
@@ -72,7 +71,7 @@ public class TimeDecorator4j {
      */
     public TimeDecorator4j withTimezone(TimezoneType timezone) {
         if (timezone != null) {
-            this.timezone = ZoneId.of(timezone.getTimeZoneId());
+            this.timezone = timezone.getZoneId();
         }
         return this;
     }
@@ -168,16 +167,24 @@ public class TimeDecorator4j {
         return transform(Time4j::ofEndDay);
     }
 
+    /**
+     * Starts a fused pipeline from the decorated date, timezone and format.
+     * The operations chained on the pipeline are only recorded, then applied in one pass on the epoch milliseconds
+     * when a terminal method such as {@link Pipeline#format()} or {@link Pipeline#getDate()} is called.
+     *
+     * @return A new pipeline starting from the decorated date
+     */
+    public Pipeline fused() {
+        return new Pipeline(this.baseDate, this.timezone, this.format);
+    }
+
     /**
      * Formats the decorated date using the configured format and timezone.
      *
      * @return A formatted string representation of the date
      */
     public String format() {
-        if (this.timezone.equals(ZoneId.systemDefault())) {
-            return Time4j.format(this.baseDate, this.format);
-        }
-        return Time4j.format(this.baseDate, TimeZone.getTimeZone(this.timezone), this.format);
+        return Time4j.format(this.baseDate, this.timezone, this.format);
     }
 
     /**
@@ -187,7 +194,7 @@ public class TimeDecorator4j {
      * @return A formatted string representation of the date
      */
     public String format(String customFormat) {
-        return Time4j.format(this.baseDate, TimeZone.getTimeZone(this.timezone), customFormat);
+        return Time4j.format(this.baseDate, this.timezone, customFormat);
     }
 
     /**
@@ -300,11 +307,8 @@ public class TimeDecorator4j {
         if (targetTimezone == null) {
             return this;
         }
-        return transform(date -> {
-            TimeZone fromTz = TimeZone.getTimeZone(this.timezone);
-            TimeZone toTz = TimeZone.getTimeZone(targetTimezone);
-            return TimeExtensions4j.convertTimezone(date, fromTz, toTz);
-        }).withTimezone(targetTimezone);
+        ZoneId fromTimezone = this.timezone;
+        return transform(date -> TimeExtensions4j.convertTimezone(date, fromTimezone, targetTimezone)).withTimezone(targetTimezone);
     }
 
     /**
@@ -317,7 +321,7 @@ public class TimeDecorator4j {
         if (targetTimezone == null) {
             return this;
         }
-        return convertToTimezone(ZoneId.of(targetTimezone.getTimeZoneId()));
+        return convertToTimezone(targetTimezone.getZoneId());
     }
 
     /**
@@ -362,9 +366,7 @@ public class TimeDecorator4j {
             return "";
         }
         try {
-            SimpleDateFormat formatter = new SimpleDateFormat(pattern, locale);
-            formatter.setTimeZone(TimeZone.getTimeZone(this.timezone));
-            return formatter.format(this.baseDate);
+            return TimeFormatter4j.format(this.baseDate, pattern, this.timezone, locale);
         } catch (Exception e) {
             logger.error("Error formatting date with locale: {}", e.getMessage(), e);
             return "";
@@ -505,4 +507,374 @@ public class TimeDecorator4j {
             return Time4j.transform(truncated);
         });
     }
-}
\ No newline at end of file
+
+    /**
+     * A fused chain of date operations with the same results as the equivalent {@link TimeDecorator4j} chain.
+     * <p>
+     * A decorator creates a new decorator, a new Date and often a Calendar or LocalDateTime on every step;
+     * a pipeline records each step in a small immutable node instead, so branching off any step is safe,
+     * and the terminal method applies the whole chain on a single epoch millisecond value, allocating
+     * one Date at most. Consecutive hour and minute shifts are merged into one step while recording.
+     * Like the decorator, calendar operations work in the system default time zone, and resolve daylight saving
+     * transitions the same way: adding days follows Calendar.add, keeping the offset of the date in an overlap
+     * and moving a local time in a gap back by the gap, while rounding and truncation follow LocalDateTime
+     * conversion, taking the earlier offset in an overlap and moving a local time in a gap forward.
+     * <p>
+     * Calendar operations on a missing date leave it missing, while {@link #transform(Function)} still
+     * receives null, so a pipeline never fails on a null base date where the decorator would.
+     */
+    public static final class Pipeline {
+        private static final int START = 0;
+        private static final int ADD_MILLIS = 1;
+        private static final int ADD_DAYS = 2;
+        private static final int ROUND_DOWN_HOUR = 3;
+        private static final int ROUND_UP_HOUR = 4;
+        private static final int BEGIN_DAY = 5;
+        private static final int END_DAY = 6;
+        private static final int TRUNCATE = 7;
+        private static final int CONVERT = 8;
+        private static final int TRANSFORM = 9;
+        private final Pipeline previous;
+        private final int depth;
+        private final int operation;
+        private final long amount;
+        private final Object argument;
+        private final ZoneId timezone;
+        private final String format;
+
+        private Pipeline(Date base, ZoneId timezone, String format) {
+            this(null, START, base == null ? 0L : base.getTime(), base == null ? null : Boolean.TRUE, timezone, format);
+        }
+
+        private Pipeline(Pipeline previous, int operation, long amount, Object argument, ZoneId timezone, String format) {
+            this.previous = previous;
+            this.depth = previous == null ? 1 : previous.depth + 1;
+            this.operation = operation;
+            this.amount = amount;
+            this.argument = argument;
+            this.timezone = timezone;
+            this.format = format;
+        }
+
+        /**
+         * Records a step after this one, keeping the timezone and format.
+         *
+         * @param operation The operation of the step
+         * @param amount    The numeric argument of the step
+         * @param argument  The object argument of the step
+         * @return A new pipeline ending with the step
+         */
+        private Pipeline then(int operation, long amount, Object argument) {
+            return new Pipeline(this, operation, amount, argument, this.timezone, this.format);
+        }
+
+        /**
+         * Records a shift of the instant, merged into the previous step if it is a shift too.
+         *
+         * @param millis The milliseconds to add
+         * @return A new pipeline ending with the shift
+         */
+        private Pipeline shift(long millis) {
+            if (millis == 0) {
+                return this;
+            }
+            if (this.operation == ADD_MILLIS) {
+                return new Pipeline(this.previous, ADD_MILLIS, this.amount + millis, null, this.timezone, this.format);
+            }
+            return this.then(ADD_MILLIS, millis, null);
+        }
+
+        /**
+         * Sets the time zone used by the terminal format methods.
+         *
+         * @param timezone The time zone to apply
+         * @return A new pipeline with the time zone
+         */
+        public Pipeline withTimezone(ZoneId timezone) {
+            return new Pipeline(this.previous, this.operation, this.amount, this.argument, timezone, this.format);
+        }
+
+        /**
+         * Sets the time zone used by the terminal format methods using TimezoneType enum.
+         *
+         * @param timezone The timezone type to apply
+         * @return A new pipeline with the time zone, or this pipeline if the timezone type is null
+         */
+        public Pipeline withTimezone(TimezoneType timezone) {
+            if (timezone == null) {
+                return this;
+            }
+            return this.withTimezone(timezone.getZoneId());
+        }
+
+        /**
+         * Sets the format pattern used by the terminal format methods.
+         *
+         * @param format The format pattern to apply
+         * @return A new pipeline with the format, or this pipeline if the format is empty
+         */
+        public Pipeline withFormat(String format) {
+            if (String4j.isEmpty(format)) {
+                return this;
+            }
+            return new Pipeline(this.previous, this.operation, this.amount, this.argument, this.timezone, format);
+        }
+
+        /**
+         * Records a custom transformation function, applied to a Date when the pipeline runs.
+         *
+         * @param transformer The transformation function to apply
+         * @return A new pipeline ending with the transformation
+         */
+        public Pipeline transform(Function<Date, Date> transformer) {
+            return this.then(TRANSFORM, 0L, transformer);
+        }
+
+        /**
+         * Records the addition of days, keeping the local time of day.
+         *
+         * @param days The number of days to add
+         * @return A new pipeline ending with the addition
+         */
+        public Pipeline addDays(int days) {
+            return days == 0 ? this : this.then(ADD_DAYS, days, null);
+        }
+
+        /**
+         * Records the addition of hours.
+         *
+         * @param hours The number of hours to add
+         * @return A new pipeline ending with the addition
+         */
+        public Pipeline addHours(int hours) {
+            return this.shift(hours * Epoch4j.MILLIS_PER_HOUR);
+        }
+
+        /**
+         * Records the addition of minutes.
+         *
+         * @param minutes The number of minutes to add
+         * @return A new pipeline ending with the addition
+         */
+        public Pipeline addMinutes(int minutes) {
+            return this.shift(minutes * Epoch4j.MILLIS_PER_MINUTE);
+        }
+
+        /**
+         * Records rounding down to the hour, as {@link Time4j#roundDownToNearestHour(Date)}.
+         *
+         * @return A new pipeline ending with the rounding
+         */
+        public Pipeline roundDownToNearestHour() {
+            return this.then(ROUND_DOWN_HOUR, 0L, null);
+        }
+
+        /**
+         * Records rounding up to the next hour, as {@link Time4j#roundUpToNextHour(Date, int)}.
+         *
+         * @param hours The number of hours to round up
+         * @return A new pipeline ending with the rounding
+         */
+        public Pipeline roundUpToNextHour(int hours) {
+            return hours < 0 ? this : this.then(ROUND_UP_HOUR, hours, null);
+        }
+
+        /**
+         * Records moving to the beginning of the day.
+         *
+         * @return A new pipeline ending with the move
+         */
+        public Pipeline toBeginOfDay() {
+            return this.then(BEGIN_DAY, 0L, null);
+        }
+
+        /**
+         * Records moving to the end of the day (23:59:59).
+         *
+         * @return A new pipeline ending with the move
+         */
+        public Pipeline toEndOfDay() {
+            return this.then(END_DAY, 0L, null);
+        }
+
+        /**
+         * Records truncating the local date and time to a unit.
+         *
+         * @param unit The temporal unit to truncate to
+         * @return A new pipeline ending with the truncation, or this pipeline if the unit is null
+         * @throws UnsupportedTemporalTypeException if the unit cannot truncate a local date and time
+         */
+        public Pipeline truncateTo(ChronoUnit unit) {
+            if (unit == null) {
+                return this;
+            }
+            Duration duration = unit.getDuration();
+            if (duration.getSeconds() > Epoch4j.MILLIS_PER_DAY / 1000L) {
+                throw new UnsupportedTemporalTypeException("Unit is too large to be used for truncation");
+            }
+            if (Duration.ofDays(1).toNanos() % duration.toNanos() != 0) {
+                throw new UnsupportedTemporalTypeException("Unit must divide into a standard day without remainder");
+            }
+            return this.then(TRUNCATE, duration.toMillis(), null);
+        }
+
+        /**
+         * Records converting the date to another time zone, then sets it as the time zone of the pipeline.
+         *
+         * @param targetTimezone The target time zone
+         * @return A new pipeline ending with the conversion, or this pipeline if the target is null
+         */
+        public Pipeline convertToTimezone(ZoneId targetTimezone) {
+            if (targetTimezone == null) {
+                return this;
+            }
+            if (this.timezone == null) {
+                return this.withTimezone(targetTimezone);
+            }
+            return new Pipeline(this, CONVERT, 0L, new ZoneId[]{this.timezone, targetTimezone}, targetTimezone, this.format);
+        }
+
+        /**
+         * Records converting the date to another time zone using TimezoneType.
+         *
+         * @param targetTimezone The target timezone type
+         * @return A new pipeline ending with the conversion, or this pipeline if the target is null
+         */
+        public Pipeline convertToTimezone(TimezoneType targetTimezone) {
+            if (targetTimezone == null) {
+                return this;
+            }
+            return this.convertToTimezone(targetTimezone.getZoneId());
+        }
+
+        /**
+         * Applies the pipeline and returns the resulting date.
+         *
+         * @return The resulting date, or null if the date is missing
+         */
+        public Date getDate() {
+            Pipeline[] steps = new Pipeline[this.depth];
+            for (Pipeline step = this; step != null; step = step.previous) {
+                steps[step.depth - 1] = step;
+            }
+            ZoneId zone = ZoneId.systemDefault();
+            boolean present = steps[0].argument != null;
+            long millis = steps[0].amount;
+            for (int i = 1; i < steps.length; i++) {
+                Pipeline step = steps[i];
+                if (step.operation == TRANSFORM) {
+                    @SuppressWarnings("unchecked")
+                    Function<Date, Date> transformer = (Function<Date, Date>) step.argument;
+                    Date applied = transformer.apply(present ? new Date(millis) : null);
+                    present = applied != null;
+                    millis = present ? applied.getTime() : 0L;
+                } else if (present) {
+                    millis = apply(step, millis, zone);
+                }
+            }
+            return present ? new Date(millis) : null;
+        }
+
+        /**
+         * Applies the pipeline and returns the epoch milliseconds of the resulting date.
+         *
+         * @return The epoch milliseconds, or 0 if the date is missing
+         */
+        public long getEpochMillis() {
+            Date date = this.getDate();
+            return date != null ? date.getTime() : 0L;
+        }
+
+        /**
+         * Applies the pipeline and formats the result using the configured format and timezone.
+         *
+         * @return A formatted string representation of the resulting date
+         */
+        public String format() {
+            return Time4j.format(this.getDate(), this.timezone, this.format);
+        }
+
+        /**
+         * Applies the pipeline and formats the result using a custom format pattern.
+         *
+         * @param customFormat The custom format pattern to use
+         * @return A formatted string representation of the resulting date
+         */
+        public String format(String customFormat) {
+            return Time4j.format(this.getDate(), this.timezone, customFormat);
+        }
+
+        /**
+         * Applies the pipeline and wraps the result in a decorator with the same timezone and format.
+         *
+         * @return A new TimeDecorator of the resulting date
+         */
+        public TimeDecorator4j decorate() {
+            return TimeDecorator4j.of(this.getDate()).withTimezone(this.timezone).withFormat(this.format);
+        }
+
+        /**
+         * Applies a calendar step to a present date.
+         *
+         * @param step   The step
+         * @param millis The epoch milliseconds of the date
+         * @param zone   The system default zone
+         * @return The epoch milliseconds after the step
+         */
+        private static long apply(Pipeline step, long millis, ZoneId zone) {
+            long local;
+            switch (step.operation) {
+                case ADD_MILLIS:
+                    return millis + step.amount;
+                case ADD_DAYS:
+                    return addDays(millis, step.amount, zone);
+                case ROUND_DOWN_HOUR:
+                    local = Epoch4j.toLocalMillis(millis, zone);
+                    // as LocalDateTime.withMinute(0).withSecond(0), which keeps the milliseconds
+                    return Epoch4j.fromLocalMillis(local - Math.floorMod(local, Epoch4j.MILLIS_PER_HOUR)
+                            + Math.floorMod(local, Epoch4j.MILLIS_PER_SECOND), zone);
+                case ROUND_UP_HOUR:
+                    local = Epoch4j.toLocalMillis(millis, zone) + step.amount * Epoch4j.MILLIS_PER_HOUR;
+                    return Epoch4j.fromLocalMillis(local - Math.floorMod(local, Epoch4j.MILLIS_PER_HOUR)
+                            + Math.floorMod(local, Epoch4j.MILLIS_PER_SECOND), zone);
+                case BEGIN_DAY:
+                    return Epoch4j.startOfDay(millis, zone);
+                case END_DAY:
+                    return Epoch4j.fromLocalMillis(Epoch4j.localDay(millis, zone) * Epoch4j.MILLIS_PER_DAY
+                            + Epoch4j.MILLIS_PER_DAY - Epoch4j.MILLIS_PER_SECOND, zone);
+                case TRUNCATE:
+                    // units below a millisecond still resolve the local time again, moving an overlap to its earlier offset
+                    local = Epoch4j.toLocalMillis(millis, zone);
+                    return Epoch4j.fromLocalMillis(local - Math.floorMod(local, Math.max(step.amount, 1L)), zone);
+                case CONVERT:
+                    ZoneId[] zones = (ZoneId[]) step.argument;
+                    long utc = millis - Epoch4j.offsetMillis(millis, zones[0]);
+                    return utc + Epoch4j.offsetMillis(utc, zones[1]);
+                default:
+                    return millis;
+            }
+        }
+
+        /**
+         * Adds days keeping the local time of day, as Calendar.add does: the local time is first resolved with
+         * the offset of the date, which also keeps that offset in an overlap, then with the offset found there
+         * unless that moves it to another day. Unlike java.time, a local time in a gap is moved back by the gap.
+         *
+         * @param millis The instant in milliseconds since the epoch
+         * @param days   The days to add, may be negative
+         * @param zone   The zone
+         * @return The resulting instant in milliseconds since the epoch
+         */
+        private static long addDays(long millis, long days, ZoneId zone) {
+            long offset = Epoch4j.offsetMillis(millis, zone);
+            long local = millis + offset + days * Epoch4j.MILLIS_PER_DAY;
+            long shifted = local - offset;
+            long found = Epoch4j.offsetMillis(shifted, zone);
+            if (found == offset) {
+                return shifted;
+            }
+            long adjusted = local - found;
+            return Epoch4j.localDay(adjusted, zone) == Math.floorDiv(local, Epoch4j.MILLIS_PER_DAY) ? adjusted : shifted;
+        }
+    }
+}
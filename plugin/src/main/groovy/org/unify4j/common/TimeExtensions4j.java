@@ -2,21 +2,29 @@ package org.unify4j.common;
 
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
+import org.unify4j.model.c.DateIndex;
 import org.unify4j.model.enums.TimePeriodType;
+import org.unify4j.model.enums.TimezoneType;
 import org.unify4j.model.request.TimeframeRequest;
 import org.unify4j.model.response.DateStatsResponse;
+import org.unify4j.model.stream.EpochStatistics;
 
 import java.time.DayOfWeek;
 import java.time.LocalDate;
 import java.time.Year;
 import java.time.YearMonth;
+import java.time.ZoneId;
 import java.time.temporal.ChronoUnit;
 import java.time.temporal.TemporalAdjusters;
 import java.util.*;
 import java.util.stream.Collectors;
+import java.util.stream.LongStream;
+import java.util.stream.Stream;
 
 public class TimeExtensions4j {
     protected static final Logger logger = LoggerFactory.getLogger(TimeExtensions4j.class);
+    // Saturday and Sunday weekend, 9 AM to 5 PM, no holidays, system zone; never reconfigured
+    protected static final BusinessCalendar4j BUSINESS_CALENDAR = BusinessCalendar4j.create();
 
     /**
      * Creates a TimeDecorator for enhanced date operations.
@@ -133,34 +141,91 @@ public class TimeExtensions4j {
      * @return A list of all dates within the specified range
      */
     public static List<Date> getDateRange(Date startDate, Date endDate) {
+        return toDates(streamEpochDays(startDate, endDate));
+    }
+
+    /**
+     * Streams the epoch days (days since 1970-01-01) of the dates within a date range, inclusive, in the system zone.
+     * The days are generated on demand and the stream splits evenly for parallel processing.
+     *
+     * @param startDate The start date of the range
+     * @param endDate   The end date of the range
+     * @return The epoch days of the range, empty if a date is null or the start is after the end
+     */
+    public static LongStream streamEpochDays(Date startDate, Date endDate) {
         if (startDate == null || endDate == null || startDate.after(endDate)) {
-            return new ArrayList<>();
+            return LongStream.empty();
         }
-        List<Date> intervals = new ArrayList<>();
-        Calendar start = Calendar.getInstance();
-        Calendar end = Calendar.getInstance();
+        ZoneId zone = ZoneId.systemDefault();
+        return LongStream.rangeClosed(Epoch4j.localDay(startDate.getTime(), zone), Epoch4j.localDay(endDate.getTime(), zone));
+    }
 
-        start.setTime(startDate);
-        end.setTime(endDate);
+    /**
+     * Streams the dates within a date range, inclusive, in the system zone, generated on demand.
+     *
+     * @param startDate The start date of the range
+     * @param endDate   The end date of the range
+     * @return The dates of the range, empty if a date is null or the start is after the end
+     */
+    public static Stream<LocalDate> streamDateRange(Date startDate, Date endDate) {
+        return streamEpochDays(startDate, endDate).mapToObj(LocalDate::ofEpochDay);
+    }
 
-        // Reset time components to ensure we're working with dates only
-        start.set(Calendar.HOUR_OF_DAY, 0);
-        start.set(Calendar.MINUTE, 0);
-        start.set(Calendar.SECOND, 0);
-        start.set(Calendar.MILLISECOND, 0);
+    /**
+     * Streams the weekdays (Monday to Friday) within a date range, inclusive, generated on demand.
+     *
+     * @param startDate The start date of the range
+     * @param endDate   The end date of the range
+     * @return The weekdays of the range, empty if a date is null or the start is after the end
+     */
+    public static Stream<LocalDate> streamWeekdaysInRange(Date startDate, Date endDate) {
+        return streamEpochDays(startDate, endDate).filter(day -> !isWeekendDay(day)).mapToObj(LocalDate::ofEpochDay);
+    }
 
-        end.set(Calendar.HOUR_OF_DAY, 0);
-        end.set(Calendar.MINUTE, 0);
-        end.set(Calendar.SECOND, 0);
-        end.set(Calendar.MILLISECOND, 0);
+    /**
+     * Streams the weekend days (Saturday and Sunday) within a date range, inclusive, generated on demand.
+     *
+     * @param startDate The start date of the range
+     * @param endDate   The end date of the range
+     * @return The weekend days of the range, empty if a date is null or the start is after the end
+     */
+    public static Stream<LocalDate> streamWeekendsInRange(Date startDate, Date endDate) {
+        return streamEpochDays(startDate, endDate).filter(TimeExtensions4j::isWeekendDay).mapToObj(LocalDate::ofEpochDay);
+    }
 
-        // Iterate through each day and add to the list
-        while (!start.after(end)) {
-            intervals.add(start.getTime());
-            start.add(Calendar.DAY_OF_MONTH, 1);
+    /**
+     * Streams the epoch days falling on a day of the week within a date range, inclusive.
+     * The days are stepped a week at a time rather than filtered, so the stream holds only matching days.
+     *
+     * @param startDate The start date of the range
+     * @param endDate   The end date of the range
+     * @param dayOfWeek The day of the week to find
+     * @return The matching epoch days, empty if an argument is null or the start is after the end
+     */
+    public static LongStream streamEpochDaysForDayOfWeek(Date startDate, Date endDate, DayOfWeek dayOfWeek) {
+        if (startDate == null || endDate == null || dayOfWeek == null || startDate.after(endDate)) {
+            return LongStream.empty();
+        }
+        ZoneId zone = ZoneId.systemDefault();
+        long start = Epoch4j.localDay(startDate.getTime(), zone);
+        long end = Epoch4j.localDay(endDate.getTime(), zone);
+        long first = start + Math.floorMod(dayOfWeek.getValue() - Epoch4j.dayOfWeek(start), 7L);
+        if (first > end) {
+            return LongStream.empty();
         }
+        return LongStream.rangeClosed(0, (end - first) / 7).map(week -> first + week * 7);
+    }
 
-        return intervals;
+    /**
+     * Streams the dates falling on a day of the week within a date range, inclusive, generated on demand.
+     *
+     * @param startDate The start date of the range
+     * @param endDate   The end date of the range
+     * @param dayOfWeek The day of the week to find
+     * @return The matching dates, empty if an argument is null or the start is after the end
+     */
+    public static Stream<LocalDate> streamDatesForDayOfWeek(Date startDate, Date endDate, DayOfWeek dayOfWeek) {
+        return streamEpochDaysForDayOfWeek(startDate, endDate, dayOfWeek).mapToObj(LocalDate::ofEpochDay);
     }
 
     /**
@@ -172,9 +237,7 @@ public class TimeExtensions4j {
      * @return A list of all weekdays within the specified range
      */
     public static List<Date> getWeekdaysInRange(Date startDate, Date endDate) {
-        return getDateRange(startDate, endDate).stream()
-                .filter(TimeExtensions4j::isWeekday)
-                .collect(Collectors.toList());
+        return toDates(streamEpochDays(startDate, endDate).filter(day -> !isWeekendDay(day)));
     }
 
     /**
@@ -186,9 +249,7 @@ public class TimeExtensions4j {
      * @return A list of all weekend days within the specified range
      */
     public static List<Date> getWeekendsInRange(Date startDate, Date endDate) {
-        return getDateRange(startDate, endDate).stream()
-                .filter(TimeExtensions4j::isWeekend)
-                .collect(Collectors.toList());
+        return toDates(streamEpochDays(startDate, endDate).filter(TimeExtensions4j::isWeekendDay));
     }
 
     /**
@@ -229,11 +290,7 @@ public class TimeExtensions4j {
             return null;
         }
 
-        Date nextDay = Time4j.addDays(date, 1);
-        while (isWeekend(nextDay)) {
-            nextDay = Time4j.addDays(nextDay, 1);
-        }
-        return nextDay;
+        return BUSINESS_CALENDAR.addBusinessDays(date, 1);
     }
 
     /**
@@ -248,11 +305,7 @@ public class TimeExtensions4j {
             return null;
         }
 
-        Date previousDay = Time4j.minusDays(date, 1);
-        while (isWeekend(previousDay)) {
-            previousDay = Time4j.minusDays(previousDay, 1);
-        }
-        return previousDay;
+        return BUSINESS_CALENDAR.addBusinessDays(date, -1);
     }
 
     /**
@@ -267,7 +320,7 @@ public class TimeExtensions4j {
         if (startDate == null || endDate == null) {
             return 0;
         }
-        return getWeekdaysInRange(startDate, endDate).size();
+        return BUSINESS_CALENDAR.businessDaysBetween(startDate, endDate);
     }
 
     /**
@@ -337,6 +390,20 @@ public class TimeExtensions4j {
         return timezone.getOffset(date.getTime()) / (1000 * 60 * 60);
     }
 
+    /**
+     * Gets the time zone offset in hours for a specific date, using the pre-resolved zone of a TimezoneType.
+     *
+     * @param date     The date to check
+     * @param timezone The timezone type
+     * @return The offset in hours from UTC
+     */
+    public static int getTimezoneOffset(Date date, TimezoneType timezone) {
+        if (date == null || timezone == null) {
+            return 0;
+        }
+        return (int) (timezone.getOffsetMillis(date.getTime()) / (1000 * 60 * 60));
+    }
+
     /**
      * Converts a date from one time zone to another.
      * This function adjusts the date to represent the same moment in a different time zone.
@@ -357,6 +424,37 @@ public class TimeExtensions4j {
         return new Date(targetTime);
     }
 
+    /**
+     * Converts a date from one zone to another, with offsets read from the per-zone transition cache of {@link Epoch4j}.
+     *
+     * @param date         The date to convert
+     * @param fromTimezone The source zone
+     * @param toTimezone   The target zone
+     * @return The date adjusted to the target zone
+     */
+    public static Date convertTimezone(Date date, ZoneId fromTimezone, ZoneId toTimezone) {
+        if (date == null || fromTimezone == null || toTimezone == null) {
+            return date;
+        }
+        long utcTime = date.getTime() - Epoch4j.offsetMillis(date.getTime(), fromTimezone);
+        return new Date(utcTime + Epoch4j.offsetMillis(utcTime, toTimezone));
+    }
+
+    /**
+     * Converts a date from one time zone to another, using the pre-resolved zones of TimezoneTypes.
+     *
+     * @param date         The date to convert
+     * @param fromTimezone The source timezone type
+     * @param toTimezone   The target timezone type
+     * @return The date adjusted to the target time zone
+     */
+    public static Date convertTimezone(Date date, TimezoneType fromTimezone, TimezoneType toTimezone) {
+        if (date == null || fromTimezone == null || toTimezone == null) {
+            return date;
+        }
+        return convertTimezone(date, fromTimezone.getZoneId(), toTimezone.getZoneId());
+    }
+
     /**
      * Gets the ISO week number for the specified date.
      * This function returns the week number according to ISO 8601 standard.
@@ -413,15 +511,31 @@ public class TimeExtensions4j {
      * @return A list of dates that fall on the specified day of the week
      */
     public static List<Date> getDatesForDayOfWeek(Date startDate, Date endDate, DayOfWeek dayOfWeek) {
-        if (startDate == null || endDate == null || dayOfWeek == null) {
-            return new ArrayList<>();
-        }
+        return toDates(streamEpochDaysForDayOfWeek(startDate, endDate, dayOfWeek));
+    }
 
-        return getDateRange(startDate, endDate).stream()
-                .filter(date -> Time4j.getDayOfWeek(Time4j.transformLocal(date)) == dayOfWeek)
+    /**
+     * Collects epoch days into dates at the start of each day in the system zone.
+     *
+     * @param days The epoch days
+     * @return The dates, in stream order
+     */
+    protected static List<Date> toDates(LongStream days) {
+        ZoneId zone = ZoneId.systemDefault();
+        return days.mapToObj(day -> new Date(Epoch4j.fromLocalMillis(day * Epoch4j.MILLIS_PER_DAY, zone)))
                 .collect(Collectors.toList());
     }
 
+    /**
+     * Checks whether an epoch day falls on a Saturday or a Sunday.
+     *
+     * @param day The epoch day
+     * @return true if the day is a weekend day, false otherwise
+     */
+    protected static boolean isWeekendDay(long day) {
+        return Epoch4j.dayOfWeek(day) >= DayOfWeek.SATURDAY.getValue();
+    }
+
     /**
      * Calculates the number of working hours between two dates.
      * Assumes standard working hours (9 AM to 5 PM) on weekdays only.
@@ -431,27 +545,7 @@ public class TimeExtensions4j {
      * @return The number of working hours between the dates
      */
     public static long getWorkingHoursBetween(Date startDate, Date endDate) {
-        if (startDate == null || endDate == null || startDate.after(endDate)) {
-            return 0;
-        }
-
-        long workingHours = 0;
-        List<Date> weekdays = getWeekdaysInRange(startDate, endDate);
-
-        for (Date day : weekdays) {
-            Date workStart = TimeBuilder4j.from(day).hour(9).minute(0).second(0).build();
-            Date workEnd = TimeBuilder4j.from(day).hour(17).minute(0).second(0).build();
-
-            Date effectiveStart = startDate.after(workStart) ? startDate : workStart;
-            Date effectiveEnd = endDate.before(workEnd) ? endDate : workEnd;
-
-            if (effectiveStart.before(effectiveEnd)) {
-                long millisBetween = effectiveEnd.getTime() - effectiveStart.getTime();
-                workingHours += millisBetween / (1000 * 60 * 60); // Convert to hours
-            }
-        }
-
-        return workingHours;
+        return BUSINESS_CALENDAR.workingHoursBetween(startDate, endDate);
     }
 
     /**
@@ -534,6 +628,21 @@ public class TimeExtensions4j {
         return closest;
     }
 
+    /**
+     * Finds the date closest to the target within a prebuilt index, with a binary search instead of a scan.
+     * On a tie the earlier date is returned.
+     *
+     * @param targetDate The target date
+     * @param candidates The index of candidate dates
+     * @return The closest date, or null if the target is null or the index is empty
+     */
+    public static Date findClosestDate(Date targetDate, DateIndex candidates) {
+        if (targetDate == null || candidates == null) {
+            return null;
+        }
+        return candidates.nearest(targetDate);
+    }
+
     /**
      * Checks if a date matches a specific pattern (day of week, week of month, etc.).
      *
@@ -581,53 +690,47 @@ public class TimeExtensions4j {
      */
     public static List<Date> findDatesMatchingPattern(Date startDate, Date endDate,
                                                       DayOfWeek dayOfWeek, Integer weekOfMonth, Integer month) {
-        return getDateRange(startDate, endDate).stream()
-                .filter(date -> matchesPattern(date, dayOfWeek, weekOfMonth, month))
-                .collect(Collectors.toList());
+        LongStream days = dayOfWeek != null
+                ? streamEpochDaysForDayOfWeek(startDate, endDate, dayOfWeek)
+                : streamEpochDays(startDate, endDate);
+        if (month == null && weekOfMonth == null) {
+            return toDates(days);
+        }
+        return toDates(days.filter(day -> {
+            LocalDate local = LocalDate.ofEpochDay(day);
+            return (month == null || local.getMonthValue() == month)
+                    && (weekOfMonth == null || (local.getDayOfMonth() - 1) / 7 + 1 == weekOfMonth);
+        }));
     }
 
     /**
      * Calculates basic statistics for a collection of dates.
      *
+     * The instants are copied into a primitive array and sorted, so the median is exact for any number of dates;
+     * approximate percentiles over unbounded inputs are available from {@link EpochStatistics}.
+     *
      * @param dates The collection of dates to analyze
      * @return A DateStatistics object containing min, max, average, etc.
      */
-    @SuppressWarnings({"SimplifyStreamApiCallChains"})
     public static DateStatsResponse calculateDateStats(Collection<Date> dates) {
         if (Collection4j.isEmpty(dates)) {
             return new DateStatsResponse();
         }
-
-        List<Date> validDates = dates.stream()
-                .filter(Objects::nonNull)
-                .sorted()
-                .collect(Collectors.toList());
-
-        if (validDates.isEmpty()) {
-            return new DateStatsResponse();
+        long[] millis = new long[dates.size()];
+        int size = 0;
+        for (Date date : dates) {
+            if (date != null) {
+                millis[size++] = date.getTime();
+            }
         }
-
-        Date min = validDates.get(0);
-        Date max = validDates.get(validDates.size() - 1);
-
-        // Calculate average
-        long totalMillis = validDates.stream()
-                .mapToLong(Date::getTime)
-                .sum();
-        Date average = new Date(totalMillis / validDates.size());
-
-        // Calculate median
-        Date median;
-        int size = validDates.size();
-        if (size % 2 == 0) {
-            long medianMillis = (validDates.get(size / 2 - 1).getTime() +
-                    validDates.get(size / 2).getTime()) / 2;
-            median = new Date(medianMillis);
-        } else {
-            median = validDates.get(size / 2);
+        if (size == 0) {
+            return new DateStatsResponse();
         }
-
-        return new DateStatsResponse(min, max, average, median, validDates.size());
+        Arrays.sort(millis, 0, size);
+        long median = size % 2 == 0
+                ? millis[size / 2 - 1] + (millis[size / 2] - millis[size / 2 - 1]) / 2
+                : millis[size / 2];
+        return new DateStatsResponse(new Date(millis[0]), new Date(millis[size - 1]), new Date(EpochStatistics.mean(millis, size)), new Date(median), size);
     }
 
     /**
@@ -639,22 +742,7 @@ public class TimeExtensions4j {
      * @return The date after applying the business day offset
      */
     public static Date getBusinessDayOffset(Date startDate, int businessDayOffset) {
-        if (startDate == null || businessDayOffset == 0) {
-            return startDate;
-        }
-
-        Date current = new Date(startDate.getTime());
-        int remaining = Math.abs(businessDayOffset);
-        boolean forward = businessDayOffset > 0;
-
-        while (remaining > 0) {
-            current = forward ? Time4j.addDays(current, 1) : Time4j.minusDays(current, 1);
-            if (isWeekday(current)) {
-                remaining--;
-            }
-        }
-
-        return current;
+        return BUSINESS_CALENDAR.addBusinessDays(startDate, businessDayOffset);
     }
 
     /**
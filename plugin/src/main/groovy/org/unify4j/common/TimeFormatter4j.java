@@ -0,0 +1,384 @@
+package org.unify4j.common;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.unify4j.text.TimeFormatText;
+
+import java.lang.reflect.Field;
+import java.lang.reflect.Modifier;
+import java.text.DecimalFormatSymbols;
+import java.text.ParseException;
+import java.text.SimpleDateFormat;
+import java.time.DateTimeException;
+import java.time.Instant;
+import java.time.ZoneId;
+import java.time.format.DateTimeFormatter;
+import java.util.*;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+
+/**
+ * A shared registry of date formatters keyed by pattern, zone and locale.
+ * <p>
+ * Formatting goes through immutable, thread-safe {@link DateTimeFormatter}s built once per key, with the
+ * {@link TimeFormatText} patterns prebuilt for UTC and the system zone. Patterns whose output would differ
+ * from {@link SimpleDateFormat} (e.g. "u", "G", "S" or "SSSS", optional sections) and non-Gregorian or non-ASCII-digit
+ * locales keep the SimpleDateFormat output, using an instance cached per thread instead of a new one per call.
+ * So do instants outside the years 1900 to 9999, and instants whose offset is not a whole
+ * number of hours when the pattern holds a single "X", which SimpleDateFormat prints as hours only.
+ * Parsing keeps the lenient SimpleDateFormat semantics the Time4j parsers have always had, on the same per-thread cache.
+ */
+public class TimeFormatter4j {
+    protected static final Logger logger = LoggerFactory.getLogger(TimeFormatter4j.class);
+    protected static final int MAX_FORMATTERS = 1024;
+    protected static final int MAX_LEGACY_FORMATS = 64;
+    // Pattern letters producing the same output with SimpleDateFormat and DateTimeFormatter
+    protected static final String COMPATIBLE_LETTERS = "yYMLwWdDEaHkKhmsSzZX";
+    // Results of compatibility(String)
+    protected static final int INCOMPATIBLE = 0;
+    protected static final int COMPATIBLE = 1;
+    protected static final int COMPATIBLE_WITH_WHOLE_HOUR_OFFSETS = 2;
+    // Instants formatted alike by both formatters, a day inside 1900-01-01 and 10000-01-01 so that any offset fits:
+    // before 1900 TimeZone ignores local mean time offsets and before 1582-10-15 SimpleDateFormat uses the Julian calendar
+    protected static final long MIN_COMPATIBLE_MILLIS = -2208988800000L + Epoch4j.MILLIS_PER_DAY;
+    protected static final long MAX_COMPATIBLE_MILLIS = 253402300800000L - Epoch4j.MILLIS_PER_DAY;
+    protected static final ConcurrentMap<Key, Entry> formatters = new ConcurrentHashMap<>();
+    protected static final ConcurrentMap<String, ZoneId> zones = new ConcurrentHashMap<>();
+    protected static final ThreadLocal<Map<Key, SimpleDateFormat>> legacyFormats = ThreadLocal.withInitial(HashMap::new);
+    public static final ZoneId UTC = zoneOf("UTC");
+
+    static {
+        Locale locale = Locale.getDefault(Locale.Category.FORMAT);
+        ZoneId system = ZoneId.systemDefault();
+        for (Field field : TimeFormatText.class.getFields()) {
+            if (!Modifier.isStatic(field.getModifiers()) || field.getType() != String.class) {
+                continue;
+            }
+            try {
+                String pattern = (String) field.get(null);
+                entry(pattern, UTC, locale);
+                entry(pattern, system, locale);
+            } catch (IllegalAccessException | IllegalArgumentException e) {
+                logger.warn("Prebuilding date formatter {} got an exception: {}", field.getName(), e.getMessage());
+            }
+        }
+    }
+
+    /**
+     * Returns the shared formatter for the pattern in the system zone and default locale.
+     *
+     * @param pattern The date-time pattern, as accepted by {@link DateTimeFormatter#ofPattern(String)}.
+     * @return The cached formatter.
+     * @throws IllegalArgumentException if the pattern is invalid.
+     */
+    public static DateTimeFormatter formatter(String pattern) {
+        return formatter(pattern, null, null);
+    }
+
+    /**
+     * Returns the shared formatter for the pattern in the given zone and default locale.
+     *
+     * @param pattern The date-time pattern, as accepted by {@link DateTimeFormatter#ofPattern(String)}.
+     * @param zone    The zone applied to formatted instants, or null for the system zone.
+     * @return The cached formatter.
+     * @throws IllegalArgumentException if the pattern is invalid.
+     */
+    public static DateTimeFormatter formatter(String pattern, ZoneId zone) {
+        return formatter(pattern, zone, null);
+    }
+
+    /**
+     * Returns the shared formatter for the pattern, zone and locale.
+     * The formatter is built once per key and is safe to share between threads.
+     *
+     * @param pattern The date-time pattern, as accepted by {@link DateTimeFormatter#ofPattern(String)}.
+     * @param zone    The zone applied to formatted instants, or null for the system zone.
+     * @param locale  The locale, or null for the default format locale.
+     * @return The cached formatter.
+     * @throws IllegalArgumentException if the pattern is invalid.
+     */
+    public static DateTimeFormatter formatter(String pattern, ZoneId zone, Locale locale) {
+        if (String4j.isEmpty(pattern)) {
+            throw new IllegalArgumentException("Pattern is required");
+        }
+        Entry entry = entry(pattern, zone, locale);
+        if (entry.formatter != null) {
+            return entry.formatter;
+        }
+        return DateTimeFormatter.ofPattern(pattern, entry.key.locale).withZone(entry.key.zone);
+    }
+
+    /**
+     * Formats a date with the pattern, zone and locale, producing the same text as SimpleDateFormat.
+     *
+     * @param date    The date to format.
+     * @param pattern The SimpleDateFormat pattern.
+     * @param zone    The zone, or null for the system zone.
+     * @param locale  The locale, or null for the default format locale.
+     * @return The formatted date, or an empty string if the date or pattern is missing.
+     * @throws IllegalArgumentException if the pattern is invalid.
+     */
+    public static String format(Date date, String pattern, ZoneId zone, Locale locale) {
+        if (date == null || String4j.isEmpty(pattern)) {
+            return "";
+        }
+        Entry entry = entry(pattern, zone, locale);
+        if (entry.formats(date.getTime())) {
+            return entry.formatter.format(Instant.ofEpochMilli(date.getTime()));
+        }
+        return entry.legacy().format(date);
+    }
+
+    /**
+     * Formats a date with the pattern, zone and locale straight into the given buffer, producing the same text as SimpleDateFormat.
+     * Nothing is appended if the date or pattern is missing.
+     *
+     * @param date    The date to format.
+     * @param pattern The SimpleDateFormat pattern.
+     * @param zone    The zone, or null for the system zone.
+     * @param locale  The locale, or null for the default format locale.
+     * @param out     The buffer receiving the formatted date.
+     * @throws IllegalArgumentException if the pattern is invalid.
+     */
+    public static void formatTo(Date date, String pattern, ZoneId zone, Locale locale, StringBuilder out) {
+        if (date == null || String4j.isEmpty(pattern) || out == null) {
+            return;
+        }
+        Entry entry = entry(pattern, zone, locale);
+        if (entry.formats(date.getTime())) {
+            entry.formatter.formatTo(Instant.ofEpochMilli(date.getTime()), out);
+        } else {
+            out.append(entry.legacy().format(date));
+        }
+    }
+
+    /**
+     * Parses a text with the pattern in the given zone, with the lenient SimpleDateFormat semantics.
+     *
+     * @param text     The text to parse.
+     * @param pattern  The SimpleDateFormat pattern.
+     * @param timezone The zone identifier, or null or empty for the system zone.
+     * @return The parsed date.
+     * @throws ParseException           if the beginning of the text cannot be parsed.
+     * @throws IllegalArgumentException if the pattern is invalid.
+     */
+    public static Date parse(String text, String pattern, String timezone) throws ParseException {
+        ZoneId zone = String4j.isEmpty(timezone) ? null : zoneOf(timezone);
+        return entry(pattern, zone, null).legacy().parse(text);
+    }
+
+    /**
+     * Returns the cached zone for an identifier, resolved like {@link Time4j#parseTimeZone(String)},
+     * except that an unknown identifier resolves to GMT, as with {@link TimeZone#getTimeZone(String)}, instead of failing.
+     *
+     * @param id The zone identifier.
+     * @return The zone.
+     */
+    public static ZoneId zoneOf(String id) {
+        if (String4j.isEmpty(id)) {
+            return ZoneId.systemDefault();
+        }
+        try {
+            return registeredZoneOf(id);
+        } catch (DateTimeException e) {
+            // unknown identifiers are not cached, so they cannot fill the registry
+            return TimeZone.getTimeZone(id).toZoneId();
+        }
+    }
+
+    /**
+     * Returns the zone for an identifier from the registry shared by every Time4j zone lookup,
+     * resolving it with {@link Time4j#resolveTimeZone(String)} and caching it on first use.
+     *
+     * @param id The zone identifier, not empty.
+     * @return The zone.
+     * @throws DateTimeException if the identifier is invalid or cannot be recognized.
+     */
+    protected static ZoneId registeredZoneOf(String id) {
+        ZoneId zone = zones.get(id);
+        if (zone == null) {
+            zone = Time4j.resolveTimeZone(id);
+            if (zones.size() < MAX_FORMATTERS) {
+                zones.putIfAbsent(id, zone);
+            }
+        }
+        return zone;
+    }
+
+    /**
+     * Returns the registry entry for the pattern, zone and locale, building and caching it on first use.
+     *
+     * @param pattern The pattern.
+     * @param zone    The zone, or null for the system zone.
+     * @param locale  The locale, or null for the default format locale.
+     * @return The entry.
+     */
+    protected static Entry entry(String pattern, ZoneId zone, Locale locale) {
+        Key key = new Key(pattern, zone != null ? zone : ZoneId.systemDefault(), locale != null ? locale : Locale.getDefault(Locale.Category.FORMAT));
+        Entry entry = formatters.get(key);
+        if (entry != null) {
+            return entry;
+        }
+        entry = new Entry(key, compile(key));
+        if (formatters.size() < MAX_FORMATTERS) {
+            Entry existing = formatters.putIfAbsent(key, entry);
+            if (existing != null) {
+                return existing;
+            }
+        }
+        return entry;
+    }
+
+    /**
+     * Builds the DateTimeFormatter of a key, or returns null if its output could differ from SimpleDateFormat.
+     *
+     * @param key The key.
+     * @return The formatter, or null if the key must be formatted with SimpleDateFormat.
+     */
+    protected static DateTimeFormatter compile(Key key) {
+        if (!isCompatible(key.pattern)
+                || !"gregory".equals(Calendar.getInstance(key.locale).getCalendarType())
+                || DecimalFormatSymbols.getInstance(key.locale).getZeroDigit() != '0') {
+            return null;
+        }
+        try {
+            return DateTimeFormatter.ofPattern(key.pattern, key.locale).withZone(key.zone);
+        } catch (IllegalArgumentException e) {
+            return null;
+        }
+    }
+
+    /**
+     * Checks whether a SimpleDateFormat pattern formats to the same text with DateTimeFormatter,
+     * at least for the instants of {@link Entry#formats(long)}.
+     *
+     * @param pattern The pattern.
+     * @return true if both formatters produce the same text, false otherwise.
+     */
+    protected static boolean isCompatible(String pattern) {
+        return compatibility(pattern) != INCOMPATIBLE;
+    }
+
+    /**
+     * Checks how far a SimpleDateFormat pattern formats to the same text with DateTimeFormatter.
+     * A single "X" prints the hours of the offset only with SimpleDateFormat, but also its minutes with DateTimeFormatter.
+     *
+     * @param pattern The pattern.
+     * @return {@link #COMPATIBLE}, {@link #COMPATIBLE_WITH_WHOLE_HOUR_OFFSETS} or {@link #INCOMPATIBLE}.
+     */
+    protected static int compatibility(String pattern) {
+        int compatibility = COMPATIBLE;
+        boolean quoted = false;
+        int length = pattern.length();
+        for (int i = 0; i < length; ) {
+            char ch = pattern.charAt(i);
+            if (ch == '\'') {
+                quoted = !quoted;
+                i++;
+                continue;
+            }
+            if (quoted || !((ch >= 'a' && ch <= 'z') || (ch >= 'A' && ch <= 'Z'))) {
+                if (!quoted && (ch == '[' || ch == ']' || ch == '{' || ch == '}' || ch == '#')) {
+                    return INCOMPATIBLE;
+                }
+                i++;
+                continue;
+            }
+            if (COMPATIBLE_LETTERS.indexOf(ch) < 0) {
+                return INCOMPATIBLE;
+            }
+            int run = 1;
+            while (i + run < length && pattern.charAt(i + run) == ch) {
+                run++;
+            }
+            if ((ch == 'S' && run != 3) || (ch == 'Z' && run > 3) || ("EML".indexOf(ch) >= 0 && run > 4)) {
+                return INCOMPATIBLE;
+            }
+            if (ch == 'X' && run == 1) {
+                compatibility = COMPATIBLE_WITH_WHOLE_HOUR_OFFSETS;
+            }
+            i += run;
+        }
+        return compatibility;
+    }
+
+    // Inner class identifying a formatter by pattern, zone and locale
+    protected static final class Key {
+        final String pattern;
+        final ZoneId zone;
+        final Locale locale;
+        final int hash;
+
+        Key(String pattern, ZoneId zone, Locale locale) {
+            this.pattern = pattern;
+            this.zone = zone;
+            this.locale = locale;
+            this.hash = (pattern.hashCode() * 31 + zone.hashCode()) * 31 + locale.hashCode();
+        }
+
+        @Override
+        public boolean equals(Object o) {
+            if (this == o) {
+                return true;
+            }
+            if (!(o instanceof Key)) {
+                return false;
+            }
+            Key other = (Key) o;
+            return hash == other.hash && pattern.equals(other.pattern) && zone.equals(other.zone) && locale.equals(other.locale);
+        }
+
+        @Override
+        public int hashCode() {
+            return hash;
+        }
+    }
+
+    // Inner class holding the formatter of a key, null when the key is formatted with SimpleDateFormat
+    protected static final class Entry {
+        final Key key;
+        final DateTimeFormatter formatter;
+        final TimeZone timezone;
+        final boolean wholeHourOffsets;
+
+        Entry(Key key, DateTimeFormatter formatter) {
+            this.key = key;
+            this.formatter = formatter;
+            this.timezone = TimeZone.getTimeZone(key.zone);
+            this.wholeHourOffsets = formatter != null && compatibility(key.pattern) == COMPATIBLE_WITH_WHOLE_HOUR_OFFSETS;
+        }
+
+        /**
+         * Checks whether an instant can be formatted with the DateTimeFormatter of this key, producing the SimpleDateFormat text.
+         *
+         * @param epochMillis The instant in milliseconds since the epoch.
+         * @return true to use the DateTimeFormatter, false to use SimpleDateFormat.
+         */
+        boolean formats(long epochMillis) {
+            if (formatter == null || epochMillis < MIN_COMPATIBLE_MILLIS || epochMillis >= MAX_COMPATIBLE_MILLIS) {
+                return false;
+            }
+            return !wholeHourOffsets || Epoch4j.offsetMillis(epochMillis, key.zone) % Epoch4j.MILLIS_PER_HOUR == 0;
+        }
+
+        /**
+         * Returns the SimpleDateFormat of this key for the current thread, with its zone reset,
+         * since parsing a zone name changes it.
+         *
+         * @return The SimpleDateFormat of the current thread.
+         */
+        SimpleDateFormat legacy() {
+            Map<Key, SimpleDateFormat> formats = legacyFormats.get();
+            SimpleDateFormat format = formats.get(key);
+            if (format == null) {
+                format = new SimpleDateFormat(key.pattern, key.locale);
+                if (formats.size() >= MAX_LEGACY_FORMATS) {
+                    formats.clear();
+                }
+                formats.put(key, format);
+            }
+            format.setTimeZone(timezone);
+            return format;
+        }
+    }
+}
@@ -0,0 +1,345 @@
+package org.unify4j.model.c;
+
+import org.unify4j.model.filter.DateTimeFilter;
+
+import java.util.*;
+
+/**
+ * An immutable, sorted index of instants held as a primitive long[] of epoch milliseconds.
+ * Built once from a collection of dates, it answers nearest, floor, ceiling and window queries
+ * with binary searches, without boxing or scanning the dates again.
+ * <p>
+ * Duplicate instants are kept. An index is safe to share between threads.
+ */
+public class DateIndex {
+    private static final DateIndex EMPTY = new DateIndex(new long[0]);
+    private final long[] millis;
+
+    protected DateIndex(long[] sortedMillis) {
+        this.millis = sortedMillis;
+    }
+
+    /**
+     * Builds an index of the given dates; null dates are skipped.
+     *
+     * @param dates the dates to index
+     * @return the index
+     */
+    public static DateIndex of(Collection<Date> dates) {
+        if (dates == null || dates.isEmpty()) {
+            return EMPTY;
+        }
+        long[] values = new long[dates.size()];
+        int count = 0;
+        for (Date date : dates) {
+            if (date != null) {
+                values[count++] = date.getTime();
+            }
+        }
+        return ofUnsorted(values, count);
+    }
+
+    /**
+     * Builds an index of the given instants; the array is copied.
+     *
+     * @param epochMillis the instants in milliseconds since the epoch
+     * @return the index
+     */
+    public static DateIndex of(long... epochMillis) {
+        if (epochMillis == null || epochMillis.length == 0) {
+            return EMPTY;
+        }
+        return ofUnsorted(epochMillis.clone(), epochMillis.length);
+    }
+
+    /**
+     * Sorts the leading values of an owned array into an index.
+     *
+     * @param values the array, owned by the index afterwards
+     * @param count  the number of leading values to keep
+     * @return the index
+     */
+    private static DateIndex ofUnsorted(long[] values, int count) {
+        long[] sorted = count == values.length ? values : Arrays.copyOf(values, count);
+        Arrays.sort(sorted);
+        return new DateIndex(sorted);
+    }
+
+    /**
+     * Returns the number of indexed instants.
+     *
+     * @return the size of the index
+     */
+    public int size() {
+        return millis.length;
+    }
+
+    /**
+     * Checks whether the index holds no instant.
+     *
+     * @return true if the index is empty, false otherwise
+     */
+    public boolean isEmpty() {
+        return millis.length == 0;
+    }
+
+    /**
+     * Returns the instant at a position of the sorted order.
+     *
+     * @param index the position, from 0 to size() - 1
+     * @return the instant in milliseconds since the epoch
+     * @throws IndexOutOfBoundsException if the position is out of range
+     */
+    public long get(int index) {
+        return millis[index];
+    }
+
+    /**
+     * Returns the position of the greatest instant less than or equal to the target.
+     *
+     * @param epochMillis the target instant
+     * @return the position, or -1 if every instant is after the target
+     */
+    public int floorIndex(long epochMillis) {
+        return this.upperBound(epochMillis) - 1;
+    }
+
+    /**
+     * Returns the position of the least instant greater than or equal to the target.
+     *
+     * @param epochMillis the target instant
+     * @return the position, or -1 if every instant is before the target
+     */
+    public int ceilingIndex(long epochMillis) {
+        int position = this.lowerBound(epochMillis);
+        return position < millis.length ? position : -1;
+    }
+
+    /**
+     * Returns the position of the instant nearest to the target; on a tie the earlier instant wins.
+     *
+     * @param epochMillis the target instant
+     * @return the position, or -1 if the index is empty
+     */
+    public int nearestIndex(long epochMillis) {
+        if (millis.length == 0) {
+            return -1;
+        }
+        int ceiling = this.lowerBound(epochMillis);
+        if (ceiling == millis.length) {
+            return ceiling - 1;
+        }
+        if (ceiling == 0 || millis[ceiling] == epochMillis) {
+            return ceiling;
+        }
+        // both distances are non-negative, so comparing them unsigned stays exact on extreme instants
+        return Long.compareUnsigned(epochMillis - millis[ceiling - 1], millis[ceiling] - epochMillis) <= 0 ? ceiling - 1 : ceiling;
+    }
+
+    /**
+     * Returns the greatest indexed date less than or equal to the target.
+     *
+     * @param date the target date
+     * @return the floor date, or null if the target is null or every instant is after it
+     */
+    public Date floor(Date date) {
+        return date == null ? null : this.dateAt(this.floorIndex(date.getTime()));
+    }
+
+    /**
+     * Returns the least indexed date greater than or equal to the target.
+     *
+     * @param date the target date
+     * @return the ceiling date, or null if the target is null or every instant is before it
+     */
+    public Date ceiling(Date date) {
+        return date == null ? null : this.dateAt(this.ceilingIndex(date.getTime()));
+    }
+
+    /**
+     * Returns the indexed date nearest to the target; on a tie the earlier date wins.
+     *
+     * @param date the target date
+     * @return the nearest date, or null if the target is null or the index is empty
+     */
+    public Date nearest(Date date) {
+        return date == null ? null : this.dateAt(this.nearestIndex(date.getTime()));
+    }
+
+    /**
+     * Finds the nearest indexed instant of each target.
+     *
+     * @param targets the target instants
+     * @return the nearest instant of each target, in target order; empty if the index is empty
+     */
+    public long[] nearestAll(long... targets) {
+        if (targets == null || millis.length == 0) {
+            return new long[0];
+        }
+        long[] nearest = new long[targets.length];
+        for (int i = 0; i < targets.length; i++) {
+            nearest[i] = millis[this.nearestIndex(targets[i])];
+        }
+        return nearest;
+    }
+
+    /**
+     * Counts the instants within an inclusive window.
+     *
+     * @param fromMillis the start of the window, inclusive
+     * @param toMillis   the end of the window, inclusive
+     * @return the number of instants in the window, 0 if the window is empty
+     */
+    public int count(long fromMillis, long toMillis) {
+        if (fromMillis > toMillis) {
+            return 0;
+        }
+        return this.upperBound(toMillis) - this.lowerBound(fromMillis);
+    }
+
+    /**
+     * Counts the instants within the window of a filter; a missing bound leaves that side open.
+     *
+     * @param filter the window
+     * @return the number of instants in the window, or the size of the index if the filter is null
+     */
+    public int count(DateTimeFilter filter) {
+        return this.count(fromOf(filter), toOf(filter));
+    }
+
+    /**
+     * Counts the instants within the window of each filter.
+     *
+     * @param filters the windows
+     * @return the count of each filter, in iteration order
+     */
+    public int[] countAll(Collection<DateTimeFilter> filters) {
+        if (filters == null) {
+            return new int[0];
+        }
+        int[] counts = new int[filters.size()];
+        int i = 0;
+        for (DateTimeFilter filter : filters) {
+            counts[i++] = this.count(filter);
+        }
+        return counts;
+    }
+
+    /**
+     * Returns the instants within an inclusive window, sorted.
+     *
+     * @param fromMillis the start of the window, inclusive
+     * @param toMillis   the end of the window, inclusive
+     * @return a copy of the instants in the window
+     */
+    public long[] between(long fromMillis, long toMillis) {
+        if (fromMillis > toMillis) {
+            return new long[0];
+        }
+        return Arrays.copyOfRange(millis, this.lowerBound(fromMillis), this.upperBound(toMillis));
+    }
+
+    /**
+     * Returns the dates within the window of a filter, sorted; a missing bound leaves that side open.
+     *
+     * @param filter the window
+     * @return the dates in the window
+     */
+    public List<Date> between(DateTimeFilter filter) {
+        long from = fromOf(filter);
+        long to = toOf(filter);
+        if (from > to) {
+            return new ArrayList<>();
+        }
+        int end = this.upperBound(to);
+        List<Date> dates = new ArrayList<>(Math.max(0, end - this.lowerBound(from)));
+        for (int i = this.lowerBound(from); i < end; i++) {
+            dates.add(new Date(millis[i]));
+        }
+        return dates;
+    }
+
+    /**
+     * Returns a copy of the indexed instants, sorted.
+     *
+     * @return the instants in milliseconds since the epoch
+     */
+    public long[] toArray() {
+        return millis.clone();
+    }
+
+    @Override
+    public String toString() {
+        return String.format("DateIndex { size: %d }", millis.length);
+    }
+
+    /**
+     * Returns the date at a position.
+     *
+     * @param index the position, or -1
+     * @return the date, or null if the position is -1
+     */
+    private Date dateAt(int index) {
+        return index < 0 ? null : new Date(millis[index]);
+    }
+
+    /**
+     * Finds the first position holding an instant not less than a value.
+     *
+     * @param value the value
+     * @return the position, size() if every instant is less
+     */
+    private int lowerBound(long value) {
+        int low = 0;
+        int high = millis.length;
+        while (low < high) {
+            int middle = (low + high) >>> 1;
+            if (millis[middle] < value) {
+                low = middle + 1;
+            } else {
+                high = middle;
+            }
+        }
+        return low;
+    }
+
+    /**
+     * Finds the first position holding an instant greater than a value.
+     *
+     * @param value the value
+     * @return the position, size() if no instant is greater
+     */
+    private int upperBound(long value) {
+        int low = 0;
+        int high = millis.length;
+        while (low < high) {
+            int middle = (low + high) >>> 1;
+            if (millis[middle] <= value) {
+                low = middle + 1;
+            } else {
+                high = middle;
+            }
+        }
+        return low;
+    }
+
+    /**
+     * Returns the start of the window of a filter.
+     *
+     * @param filter the window
+     * @return the start in milliseconds since the epoch, Long.MIN_VALUE if open
+     */
+    private static long fromOf(DateTimeFilter filter) {
+        return filter == null || filter.getFrom() == null ? Long.MIN_VALUE : filter.getFrom().getTime();
+    }
+
+    /**
+     * Returns the end of the window of a filter.
+     *
+     * @param filter the window
+     * @return the end in milliseconds since the epoch, Long.MAX_VALUE if open
+     */
+    private static long toOf(DateTimeFilter filter) {
+        return filter == null || filter.getTo() == null ? Long.MAX_VALUE : filter.getTo().getTime();
+    }
+}
@@ -0,0 +1,294 @@
+package org.unify4j.model.c;
+
+import org.unify4j.model.request.TimeframeRequest;
+
+import java.util.*;
+
+/**
+ * An immutable interval index over {@link TimeframeRequest} periods, built in one batch.
+ * <p>
+ * Periods are sorted by start and laid out as an implicit balanced tree in which every node carries the
+ * greatest end of its subtree, so overlap queries prune whole subtrees and cost O(log n + k) for k matches.
+ * The union of the periods is merged once at build time to answer free-gap queries with binary searches.
+ * <p>
+ * Periods are closed, as in {@code TimeExtensions4j.getOverlapPeriod}: two periods sharing a single instant overlap.
+ * Periods with a missing bound or a start after their end are not indexed. An index is safe to share between threads.
+ */
+public class TimeframeIndex {
+    private final TimeframeRequest[] periods;
+    private final long[] starts;
+    private final long[] ends;
+    // maxEnds[m]: the greatest end within the subtree rooted at m, the middle of its range
+    private final long[] maxEnds;
+    // The merged union of the periods, as disjoint closed ranges sorted by start
+    private final long[] busyStarts;
+    private final long[] busyEnds;
+
+    protected TimeframeIndex(TimeframeRequest[] periods, long[] starts, long[] ends) {
+        this.periods = periods;
+        this.starts = starts;
+        this.ends = ends;
+        this.maxEnds = new long[starts.length];
+        this.build(0, starts.length);
+        long[] unionStarts = new long[starts.length];
+        long[] unionEnds = new long[starts.length];
+        int count = 0;
+        for (int i = 0; i < starts.length; i++) {
+            if (count > 0 && starts[i] <= unionEnds[count - 1]) {
+                unionEnds[count - 1] = Math.max(unionEnds[count - 1], ends[i]);
+            } else {
+                unionStarts[count] = starts[i];
+                unionEnds[count] = ends[i];
+                count++;
+            }
+        }
+        this.busyStarts = Arrays.copyOf(unionStarts, count);
+        this.busyEnds = Arrays.copyOf(unionEnds, count);
+    }
+
+    /**
+     * Builds an index of the given periods, sorting them once.
+     *
+     * @param timeframes the periods to index; null and invalid periods are skipped
+     * @return the index
+     */
+    public static TimeframeIndex of(Collection<TimeframeRequest> timeframes) {
+        List<TimeframeRequest> valid = new ArrayList<>(timeframes == null ? 0 : timeframes.size());
+        if (timeframes != null) {
+            for (TimeframeRequest timeframe : timeframes) {
+                if (timeframe != null && timeframe.getStart() != null && timeframe.getEnd() != null
+                        && !timeframe.getStart().after(timeframe.getEnd())) {
+                    valid.add(timeframe);
+                }
+            }
+        }
+        valid.sort(Comparator.comparingLong((TimeframeRequest timeframe) -> timeframe.getStart().getTime())
+                .thenComparingLong(timeframe -> timeframe.getEnd().getTime()));
+        TimeframeRequest[] periods = valid.toArray(new TimeframeRequest[0]);
+        long[] starts = new long[periods.length];
+        long[] ends = new long[periods.length];
+        for (int i = 0; i < periods.length; i++) {
+            starts[i] = periods[i].getStart().getTime();
+            ends[i] = periods[i].getEnd().getTime();
+        }
+        return new TimeframeIndex(periods, starts, ends);
+    }
+
+    /**
+     * Returns the number of indexed periods.
+     *
+     * @return the size of the index
+     */
+    public int size() {
+        return periods.length;
+    }
+
+    /**
+     * Returns the indexed periods overlapping a window, sorted by start.
+     *
+     * @param startMillis the start of the window, inclusive
+     * @param endMillis   the end of the window, inclusive
+     * @return the overlapping periods, empty if the window is empty
+     */
+    public List<TimeframeRequest> overlapping(long startMillis, long endMillis) {
+        List<TimeframeRequest> matches = new ArrayList<>();
+        if (startMillis <= endMillis) {
+            this.collect(0, periods.length, startMillis, endMillis, matches);
+        }
+        return matches;
+    }
+
+    /**
+     * Returns the indexed periods overlapping a period, sorted by start.
+     *
+     * @param timeframe the period
+     * @return the overlapping periods, empty if the period is null or has a missing bound
+     */
+    public List<TimeframeRequest> overlapping(TimeframeRequest timeframe) {
+        if (!isBounded(timeframe)) {
+            return new ArrayList<>();
+        }
+        return this.overlapping(timeframe.getStart().getTime(), timeframe.getEnd().getTime());
+    }
+
+    /**
+     * Checks whether any indexed period overlaps a window, stopping at the first match.
+     *
+     * @param startMillis the start of the window, inclusive
+     * @param endMillis   the end of the window, inclusive
+     * @return true if a period overlaps the window, false otherwise
+     */
+    public boolean overlapsAny(long startMillis, long endMillis) {
+        return startMillis <= endMillis && this.find(0, periods.length, startMillis, endMillis);
+    }
+
+    /**
+     * Checks whether any indexed period conflicts with a period.
+     *
+     * @param timeframe the period
+     * @return true if a period overlaps it, false otherwise or if the period is null or has a missing bound
+     */
+    public boolean overlapsAny(TimeframeRequest timeframe) {
+        return isBounded(timeframe) && this.overlapsAny(timeframe.getStart().getTime(), timeframe.getEnd().getTime());
+    }
+
+    /**
+     * Checks whether any two indexed periods overlap each other; answered from the union merged at build time.
+     *
+     * @return true if the index holds a conflict, false otherwise
+     */
+    public boolean hasConflicts() {
+        return busyStarts.length < periods.length;
+    }
+
+    /**
+     * Returns the free gaps within a window, i.e. the stretches covered by no indexed period.
+     * Each gap is bounded by the window or by the instants where the neighbouring busy periods end and start.
+     * Like periods, the window is closed: a single-instant window covered by no period is a single-instant gap.
+     *
+     * @param startMillis the start of the window
+     * @param endMillis   the end of the window
+     * @return the gaps sorted by start, empty if the window is empty or fully busy
+     */
+    public List<TimeframeRequest> freeGaps(long startMillis, long endMillis) {
+        List<TimeframeRequest> gaps = new ArrayList<>();
+        if (startMillis > endMillis) {
+            return gaps;
+        }
+        // the first busy range that could reach into the window
+        int first = lowerBound(busyEnds, startMillis);
+        int i = first;
+        long cursor = startMillis;
+        for (; i < busyStarts.length && busyStarts[i] <= endMillis; i++) {
+            if (busyStarts[i] > cursor) {
+                gaps.add(new TimeframeRequest(new Date(cursor), new Date(busyStarts[i])));
+            }
+            cursor = Math.max(cursor, busyEnds[i]);
+        }
+        // the cursor only stays uncovered if no busy range reached into the window
+        if (cursor < endMillis || (cursor == endMillis && i == first)) {
+            gaps.add(new TimeframeRequest(new Date(cursor), new Date(endMillis)));
+        }
+        return gaps;
+    }
+
+    /**
+     * Returns the free gaps within the window of a period.
+     *
+     * @param window the window
+     * @return the gaps sorted by start, empty if the window is null or has a missing bound
+     */
+    public List<TimeframeRequest> freeGaps(TimeframeRequest window) {
+        if (!isBounded(window)) {
+            return new ArrayList<>();
+        }
+        return this.freeGaps(window.getStart().getTime(), window.getEnd().getTime());
+    }
+
+    @Override
+    public String toString() {
+        return String.format("TimeframeIndex { size: %d, busy ranges: %d }", periods.length, busyStarts.length);
+    }
+
+    /**
+     * Fills the subtree greatest ends of a range of the sorted periods.
+     *
+     * @param low  the first position of the range, inclusive
+     * @param high the last position of the range, exclusive
+     * @return the greatest end of the range, Long.MIN_VALUE if empty
+     */
+    private long build(int low, int high) {
+        if (low >= high) {
+            return Long.MIN_VALUE;
+        }
+        int middle = (low + high) >>> 1;
+        long max = Math.max(ends[middle], Math.max(this.build(low, middle), this.build(middle + 1, high)));
+        maxEnds[middle] = max;
+        return max;
+    }
+
+    /**
+     * Collects the periods of a subtree overlapping a window, in start order.
+     *
+     * @param low     the first position of the subtree, inclusive
+     * @param high    the last position of the subtree, exclusive
+     * @param from    the start of the window
+     * @param to      the end of the window
+     * @param matches the list receiving the overlapping periods
+     */
+    private void collect(int low, int high, long from, long to, List<TimeframeRequest> matches) {
+        while (low < high) {
+            int middle = (low + high) >>> 1;
+            if (maxEnds[middle] < from) {
+                return;
+            }
+            this.collect(low, middle, from, to, matches);
+            if (starts[middle] > to) {
+                return;
+            }
+            if (ends[middle] >= from) {
+                matches.add(periods[middle]);
+            }
+            low = middle + 1;
+        }
+    }
+
+    /**
+     * Checks whether a subtree holds a period overlapping a window.
+     *
+     * @param low  the first position of the subtree, inclusive
+     * @param high the last position of the subtree, exclusive
+     * @param from the start of the window
+     * @param to   the end of the window
+     * @return true if a period overlaps the window, false otherwise
+     */
+    private boolean find(int low, int high, long from, long to) {
+        while (low < high) {
+            int middle = (low + high) >>> 1;
+            if (maxEnds[middle] < from) {
+                return false;
+            }
+            if (starts[middle] > to) {
+                high = middle;
+                continue;
+            }
+            if (ends[middle] >= from || this.find(low, middle, from, to)) {
+                return true;
+            }
+            low = middle + 1;
+        }
+        return false;
+    }
+
+    /**
+     * Finds the first position of a sorted array holding a value not less than the given one.
+     *
+     * @param sorted the sorted array
+     * @param value  the value
+     * @return the position, the length of the array if every value is less
+     */
+    private static int lowerBound(long[] sorted, long value) {
+        int low = 0;
+        int high = sorted.length;
+        while (low < high) {
+            int middle = (low + high) >>> 1;
+            if (sorted[middle] < value) {
+                low = middle + 1;
+            } else {
+                high = middle;
+            }
+        }
+        return low;
+    }
+
+    /**
+     * Checks whether a period has both bounds, with the start not after the end.
+     *
+     * @param timeframe the period
+     * @return true if the period is bounded, false otherwise
+     */
+    private static boolean isBounded(TimeframeRequest timeframe) {
+        return timeframe != null && timeframe.getStart() != null && timeframe.getEnd() != null
+                && !timeframe.getStart().after(timeframe.getEnd());
+    }
+}
@@ -0,0 +1,5 @@
+package org.unify4j.model.enums;
+
+public enum DataFormatType {
+    JSON, SMILE, CBOR
+}
@@ -1,5 +1,9 @@
 package org.unify4j.model.enums;
 
+import org.unify4j.common.Epoch4j;
+
+import java.time.ZoneId;
+import java.time.zone.ZoneRules;
 import java.util.TimeZone;
 
 // @formatter:off
@@ -41,17 +45,51 @@ public enum TimezoneType {
     DefaultTimezoneSuva("Pacific/Fiji");
 
     private final String timeZoneId;
+    // Resolved once per constant instead of on every conversion
+    private final ZoneId zoneId;
+    private final ZoneRules zoneRules;
+    private final TimeZone timeZone;
 
     TimezoneType(String timeZoneId) {
         this.timeZoneId = timeZoneId;
+        this.zoneId = ZoneId.of(timeZoneId);
+        this.zoneRules = zoneId.getRules();
+        this.timeZone = TimeZone.getTimeZone(zoneId);
     }
 
     public String getTimeZoneId() {
         return timeZoneId;
     }
 
+    public ZoneId getZoneId() {
+        return zoneId;
+    }
+
+    public ZoneRules getZoneRules() {
+        return zoneRules;
+    }
+
+    /**
+     * Returns a copy of the pre-resolved TimeZone, since TimeZone instances are mutable.
+     *
+     * @return the time zone
+     */
+    public TimeZone getTimeZone() {
+        return (TimeZone) timeZone.clone();
+    }
+
+    /**
+     * Returns the offset from UTC at an instant, through the per-zone transition cache of {@link Epoch4j}.
+     *
+     * @param epochMillis the instant in milliseconds since the epoch
+     * @return the offset in milliseconds
+     */
+    public long getOffsetMillis(long epochMillis) {
+        return Epoch4j.offsetMillis(epochMillis, zoneId);
+    }
+
     public static TimeZone getTimeZone(TimezoneType timezone) {
-        return TimeZone.getTimeZone(timezone.getTimeZoneId());
+        return timezone.getTimeZone();
     }
 }
 // @formatter:on
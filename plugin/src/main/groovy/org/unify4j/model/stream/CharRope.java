@@ -0,0 +1,371 @@
+package org.unify4j.model.stream;
+
+import java.io.IOException;
+import java.io.Writer;
+
+/**
+ * A CharSequence made of a list of segments instead of one contiguous char[].
+ * Strings are appended and inserted by reference, small pieces are packed into shared chunks,
+ * so growing the rope never copies the content already held. Sub-sequences share the segments
+ * of their rope, and the content can be written to a Writer segment by segment without being flattened.
+ * <p>
+ * A rope is not thread-safe.
+ */
+public class CharRope implements CharSequence {
+    // Pieces shorter than this are copied into the open chunk instead of being referenced
+    protected static final int COPY_THRESHOLD = 64;
+    // The capacity of a chunk packing small pieces
+    protected static final int CHUNK_CAPACITY = 1024;
+    private Segment[] segments = new Segment[16];
+    private int count;
+    private int length;
+    // The start offset of each segment, rebuilt lazily after an insert or truncation
+    private int[] offsets;
+    // The chunk receiving small pieces; it backs the last segment, null once sealed
+    private StringBuilder chunk;
+
+    /**
+     * Appends a character sequence; a null sequence is appended as "null", as StringBuilder does.
+     *
+     * @param cs the character sequence to append
+     * @return this rope
+     */
+    public CharRope append(CharSequence cs) {
+        if (cs == null) {
+            return this.append("null", 0, 4);
+        }
+        return this.append(cs, 0, cs.length());
+    }
+
+    /**
+     * Appends a range of a character sequence.
+     * Strings longer than the copy threshold are kept by reference; other sequences are copied, since they may change later.
+     *
+     * @param cs    the character sequence to append
+     * @param start the start index of the range, inclusive
+     * @param end   the end index of the range, exclusive
+     * @return this rope
+     */
+    public CharRope append(CharSequence cs, int start, int end) {
+        int size = end - start;
+        if (size <= 0) {
+            return this;
+        }
+        if (size < COPY_THRESHOLD) {
+            if (chunk == null || chunk.length() + size > CHUNK_CAPACITY) {
+                chunk = new StringBuilder(CHUNK_CAPACITY);
+                this.add(count, new Segment(chunk, 0, 0));
+            }
+            chunk.append(cs, start, end);
+            segments[count - 1].end += size;
+        } else {
+            chunk = null;
+            this.add(count, this.segmentOf(cs, start, end));
+        }
+        length += size;
+        return this;
+    }
+
+    /**
+     * Inserts a character sequence at the given index, splitting at most one segment.
+     *
+     * @param index the index to insert at, between 0 and the length of the rope
+     * @param cs    the character sequence to insert
+     * @return this rope
+     * @throws IndexOutOfBoundsException if the index is out of range
+     */
+    public CharRope insert(int index, CharSequence cs) {
+        if (index < 0 || index > length) {
+            throw new IndexOutOfBoundsException("index " + index + ", length " + length);
+        }
+        if (cs == null) {
+            cs = "null";
+        }
+        if (cs.length() == 0) {
+            return this;
+        }
+        if (index == length) {
+            return this.append(cs);
+        }
+        chunk = null;
+        Segment inserted = this.segmentOf(cs, 0, cs.length());
+        int at = this.locate(index);
+        int offset = index - offsets[at];
+        if (offset == 0) {
+            this.add(at, inserted);
+        } else {
+            Segment segment = segments[at];
+            Segment rest = new Segment(segment.source, segment.start + offset, segment.end);
+            segment.end = segment.start + offset;
+            this.add(at + 1, rest);
+            this.add(at + 1, inserted);
+        }
+        length += inserted.length();
+        return this;
+    }
+
+    /**
+     * Shortens the rope to the given length, dropping the segments past it.
+     *
+     * @param newLength the new length, between 0 and the current length
+     * @throws IndexOutOfBoundsException if the new length is out of range
+     */
+    public void truncate(int newLength) {
+        if (newLength < 0 || newLength > length) {
+            throw new IndexOutOfBoundsException("length " + newLength + ", current length " + length);
+        }
+        if (newLength == length) {
+            return;
+        }
+        chunk = null;
+        if (newLength == 0) {
+            this.clear();
+            return;
+        }
+        int at = this.locate(newLength - 1);
+        segments[at].end = segments[at].start + newLength - offsets[at];
+        for (int i = at + 1; i < count; i++) {
+            segments[i] = null;
+        }
+        count = at + 1;
+        length = newLength;
+    }
+
+    /**
+     * Removes every segment.
+     */
+    public void clear() {
+        for (int i = 0; i < count; i++) {
+            segments[i] = null;
+        }
+        count = 0;
+        length = 0;
+        offsets = null;
+        chunk = null;
+    }
+
+    /**
+     * Returns the number of segments held by the rope.
+     *
+     * @return the number of segments
+     */
+    public int segments() {
+        return count;
+    }
+
+    @Override
+    public int length() {
+        return length;
+    }
+
+    @Override
+    public char charAt(int index) {
+        if (index < 0 || index >= length) {
+            throw new IndexOutOfBoundsException("index " + index + ", length " + length);
+        }
+        int at = this.locate(index);
+        Segment segment = segments[at];
+        return segment.source.charAt(segment.start + index - offsets[at]);
+    }
+
+    /**
+     * Returns a rope sharing the segments of this rope over the given range; no characters are copied.
+     *
+     * @param start the start index, inclusive
+     * @param end   the end index, exclusive
+     * @return the sub-sequence as a rope
+     */
+    @Override
+    public CharRope subSequence(int start, int end) {
+        if (start < 0 || end > length || start > end) {
+            throw new IndexOutOfBoundsException("start " + start + ", end " + end + ", length " + length);
+        }
+        CharRope rope = new CharRope();
+        if (start == end) {
+            return rope;
+        }
+        for (int at = this.locate(start); at < count && offsets[at] < end; at++) {
+            Segment segment = segments[at];
+            int from = segment.start + Math.max(0, start - offsets[at]);
+            int to = segment.start + Math.min(segment.length(), end - offsets[at]);
+            rope.add(rope.count, new Segment(segment.source, from, to));
+            rope.length += to - from;
+        }
+        return rope;
+    }
+
+    /**
+     * Writes the content to the writer segment by segment, without building a single string.
+     *
+     * @param writer the writer to write to
+     * @throws IOException if an I/O error occurs
+     */
+    public void writeTo(Writer writer) throws IOException {
+        this.writeTo(writer, length);
+    }
+
+    /**
+     * Writes at most the given number of leading characters to the writer, segment by segment.
+     *
+     * @param writer the writer to write to
+     * @param limit  the maximum number of characters to write
+     * @throws IOException if an I/O error occurs
+     */
+    public void writeTo(Writer writer, int limit) throws IOException {
+        char[] buffer = null;
+        int remaining = Math.min(limit, length);
+        for (int i = 0; i < count && remaining > 0; i++) {
+            Segment segment = segments[i];
+            int end = segment.start + Math.min(segment.length(), remaining);
+            remaining -= end - segment.start;
+            if (segment.source instanceof String) {
+                writer.write((String) segment.source, segment.start, end - segment.start);
+                continue;
+            }
+            if (buffer == null) {
+                buffer = new char[CHUNK_CAPACITY];
+            }
+            for (int from = segment.start; from < end; ) {
+                int to = Math.min(end, from + buffer.length);
+                this.copy(segment.source, from, to, buffer, 0);
+                writer.write(buffer, 0, to - from);
+                from = to;
+            }
+        }
+    }
+
+    /**
+     * Appends at most the given number of leading characters to a StringBuilder, segment by segment.
+     *
+     * @param target the StringBuilder to append to
+     * @param limit  the maximum number of characters to append
+     * @return the target StringBuilder
+     */
+    public StringBuilder appendTo(StringBuilder target, int limit) {
+        int remaining = Math.min(limit, length);
+        target.ensureCapacity(target.length() + Math.max(remaining, 0));
+        for (int i = 0; i < count && remaining > 0; i++) {
+            Segment segment = segments[i];
+            int end = segment.start + Math.min(segment.length(), remaining);
+            target.append(segment.source, segment.start, end);
+            remaining -= end - segment.start;
+        }
+        return target;
+    }
+
+    /**
+     * Copies the content into a single string; this is the only operation that flattens the rope.
+     *
+     * @return the content of the rope
+     */
+    @Override
+    public String toString() {
+        char[] chars = new char[length];
+        int position = 0;
+        for (int i = 0; i < count; i++) {
+            Segment segment = segments[i];
+            this.copy(segment.source, segment.start, segment.end, chars, position);
+            position += segment.length();
+        }
+        return new String(chars);
+    }
+
+    /**
+     * Creates a segment for a range of a character sequence, copying the range unless the sequence is an immutable String.
+     *
+     * @param cs    the character sequence
+     * @param start the start index of the range, inclusive
+     * @param end   the end index of the range, exclusive
+     * @return the segment
+     */
+    protected Segment segmentOf(CharSequence cs, int start, int end) {
+        if (cs instanceof String) {
+            return new Segment(cs, start, end);
+        }
+        return new Segment(cs.subSequence(start, end).toString(), 0, end - start);
+    }
+
+    /**
+     * Copies a range of a character sequence into a char array, using getChars where the sequence offers it.
+     *
+     * @param source   the character sequence
+     * @param start    the start index of the range, inclusive
+     * @param end      the end index of the range, exclusive
+     * @param target   the char array to copy into
+     * @param position the position in the char array of the first copied character
+     */
+    protected void copy(CharSequence source, int start, int end, char[] target, int position) {
+        if (source instanceof String) {
+            ((String) source).getChars(start, end, target, position);
+        } else if (source instanceof StringBuilder) {
+            ((StringBuilder) source).getChars(start, end, target, position);
+        } else {
+            for (int i = start; i < end; i++) {
+                target[position++] = source.charAt(i);
+            }
+        }
+    }
+
+    /**
+     * Finds the segment holding the given index, rebuilding the offsets if they are stale.
+     *
+     * @param index the character index
+     * @return the position of the segment
+     */
+    protected int locate(int index) {
+        if (offsets == null || offsets.length < count) {
+            offsets = new int[segments.length];
+            int offset = 0;
+            for (int i = 0; i < count; i++) {
+                offsets[i] = offset;
+                offset += segments[i].length();
+            }
+        }
+        int low = 0;
+        int high = count - 1;
+        while (low < high) {
+            int middle = (low + high + 1) >>> 1;
+            if (offsets[middle] <= index) {
+                low = middle;
+            } else {
+                high = middle - 1;
+            }
+        }
+        return low;
+    }
+
+    /**
+     * Adds a segment at the given position, shifting the following segments.
+     *
+     * @param position the position of the new segment
+     * @param segment  the segment to add
+     */
+    private void add(int position, Segment segment) {
+        if (count == segments.length) {
+            Segment[] grown = new Segment[count * 2];
+            System.arraycopy(segments, 0, grown, 0, count);
+            segments = grown;
+        }
+        System.arraycopy(segments, position, segments, position + 1, count - position);
+        segments[position] = segment;
+        count++;
+        offsets = null;
+    }
+
+    // Inner class holding a range of a character sequence
+    protected static final class Segment {
+        final CharSequence source;
+        final int start;
+        int end;
+
+        Segment(CharSequence source, int start, int end) {
+            this.source = source;
+            this.start = start;
+            this.end = end;
+        }
+
+        int length() {
+            return end - start;
+        }
+    }
+}
@@ -0,0 +1,147 @@
+package org.unify4j.model.stream;
+
+import java.io.IOException;
+import java.io.Reader;
+import java.nio.CharBuffer;
+import java.util.Iterator;
+import java.util.NoSuchElementException;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+/**
+ * Iterates over the matches of a pattern in a Reader, reading it in chunks through one fixed buffer,
+ * so memory stays bounded by the chunk size whatever the length of the input.
+ * <p>
+ * A match that may still grow, or change, with the characters of the next chunk (the matcher hit the end
+ * of the buffer) is not emitted until more input has been read. In that case the unmatched tail is kept as an overlap
+ * with the next chunk, together with a little context before it for lookbehinds, word boundaries and anchors.
+ * The results are those of {@link Matcher#find()} over the whole input, provided no match, and no failed
+ * attempt that must be retried, is longer than the maximum match length, which is also the overlap rescanned
+ * with every chunk. Longer matches may be cut at the end of the buffer.
+ * <p>
+ * The Reader is not closed. An iterator is not thread-safe.
+ */
+public class ChunkedMatchIterator implements Iterator<String> {
+    public static final int DEFAULT_CHUNK_SIZE = 64 * 1024;
+    public static final int MIN_CHUNK_SIZE = 256;
+    public static final int DEFAULT_MAX_MATCH_LENGTH = 4096;
+    // Characters kept before the search position for lookbehinds, \b and ^
+    protected static final int CONTEXT = 64;
+    private final Reader reader;
+    private final Matcher matcher;
+    private final char[] buffer;
+    private final int maxMatchLength;
+    private int limit;
+    private int searchFrom;
+    private boolean eof;
+    private boolean scanned;
+    private String next;
+
+    public ChunkedMatchIterator(Reader reader, Pattern pattern) {
+        this(reader, pattern, DEFAULT_CHUNK_SIZE);
+    }
+
+    public ChunkedMatchIterator(Reader reader, Pattern pattern, int chunkSize) {
+        this(reader, pattern, chunkSize, Math.min(DEFAULT_MAX_MATCH_LENGTH, chunkSize / 2));
+    }
+
+    public ChunkedMatchIterator(Reader reader, Pattern pattern, int chunkSize, int maxMatchLength) {
+        if (reader == null || pattern == null) {
+            throw new IllegalArgumentException("Reader and pattern are required");
+        }
+        if (chunkSize < MIN_CHUNK_SIZE) {
+            throw new IllegalArgumentException("Chunk size must be at least " + MIN_CHUNK_SIZE);
+        }
+        if (maxMatchLength <= 0 || maxMatchLength > chunkSize / 2) {
+            throw new IllegalArgumentException("Maximum match length must be between 1 and half the chunk size");
+        }
+        this.reader = reader;
+        this.buffer = new char[chunkSize];
+        this.maxMatchLength = maxMatchLength;
+        this.matcher = pattern.matcher("");
+        this.matcher.useTransparentBounds(true);
+        this.matcher.useAnchoringBounds(false);
+    }
+
+    @Override
+    public boolean hasNext() {
+        if (next == null) {
+            next = this.advance();
+        }
+        return next != null;
+    }
+
+    @Override
+    public String next() {
+        if (!this.hasNext()) {
+            throw new NoSuchElementException();
+        }
+        String match = next;
+        next = null;
+        return match;
+    }
+
+    /**
+     * Finds the next match, reading more chunks as needed.
+     *
+     * @return the next match, or null once the input is exhausted
+     */
+    private String advance() {
+        while (true) {
+            if (!scanned) {
+                this.fill();
+                if (searchFrom > limit) {
+                    return null;
+                }
+                matcher.reset(CharBuffer.wrap(buffer, 0, limit));
+                matcher.region(searchFrom, limit);
+                scanned = true;
+            }
+            if (searchFrom <= limit && matcher.find()) {
+                boolean pending = !eof && (matcher.hitEnd() || matcher.requireEnd());
+                int restart = Math.max(searchFrom, limit - maxMatchLength);
+                if (!pending || matcher.start() < restart) {
+                    // as Matcher.find, the search resumes after an empty match one character further
+                    searchFrom = matcher.end() == matcher.start() ? matcher.end() + 1 : matcher.end();
+                    return matcher.group();
+                }
+                searchFrom = restart;
+            } else if (eof) {
+                searchFrom = limit + 1;
+                return null;
+            } else if (matcher.hitEnd()) {
+                searchFrom = Math.max(searchFrom, limit - maxMatchLength);
+            } else {
+                searchFrom = limit;
+            }
+            scanned = false;
+        }
+    }
+
+    /**
+     * Drops the characters before the search position, except some context, then fills the buffer.
+     */
+    private void fill() {
+        if (eof) {
+            return;
+        }
+        int keepFrom = Math.max(0, Math.min(searchFrom, limit) - CONTEXT);
+        if (keepFrom > 0) {
+            System.arraycopy(buffer, keepFrom, buffer, 0, limit - keepFrom);
+            limit -= keepFrom;
+            searchFrom -= keepFrom;
+        }
+        try {
+            while (limit < buffer.length) {
+                int read = reader.read(buffer, limit, buffer.length - limit);
+                if (read < 0) {
+                    eof = true;
+                    break;
+                }
+                limit += read;
+            }
+        } catch (IOException e) {
+            throw new RuntimeException("Error occurred while reading matches: " + e.getMessage(), e);
+        }
+    }
+}
@@ -0,0 +1,421 @@
+package org.unify4j.model.stream;
+
+import org.unify4j.model.response.DateStatsResponse;
+
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Date;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.function.LongConsumer;
+import java.util.stream.Collector;
+import java.util.stream.LongStream;
+
+/**
+ * A one-pass statistics accumulator over epoch milliseconds, in the manner of {@link java.util.LongSummaryStatistics}.
+ * <p>
+ * Count, min, max, mean and span are exact. The mean is kept as separate sums of whole seconds and leftover
+ * milliseconds, so it does not overflow on billions of present-day instants. Gaps between consecutive instants
+ * (smallest and largest) are tracked while the instants arrive in ascending order. Percentiles come from a bounded
+ * uniform sample (reservoir) of the instants: they are exact while no more instants than the sample capacity have
+ * been seen, and approximate beyond it.
+ * <p>
+ * Accumulators can be fed incrementally and merged, so they work as a parallel stream collector:
+ * {@code longStream.collect(EpochStatistics::new, EpochStatistics::accept, EpochStatistics::combine)}.
+ * An accumulator is not thread-safe.
+ */
+public class EpochStatistics implements LongConsumer {
+    public static final int DEFAULT_SAMPLE_CAPACITY = 8192;
+    // Collections at least this large are summarised with a parallel stream
+    public static final int PARALLEL_THRESHOLD = 10_000;
+    private final int capacity;
+    private long[] samples = new long[16];
+    private int sampled;
+    private boolean sorted = true;
+    private long count;
+    private long min = Long.MAX_VALUE;
+    private long max = Long.MIN_VALUE;
+    private long sumSeconds;
+    private long sumMillis;
+    private long first;
+    private long last;
+    private boolean ascending = true;
+    private long minGap = Long.MAX_VALUE;
+    private long maxGap = -1;
+
+    public EpochStatistics() {
+        this(DEFAULT_SAMPLE_CAPACITY);
+    }
+
+    public EpochStatistics(int sampleCapacity) {
+        if (sampleCapacity <= 0) {
+            throw new IllegalArgumentException("Sample capacity must be positive");
+        }
+        this.capacity = sampleCapacity;
+    }
+
+    /**
+     * Summarises the instants of a stream, in parallel if the stream is parallel.
+     *
+     * @param epochMillis the instants in milliseconds since the epoch
+     * @return the statistics
+     */
+    public static EpochStatistics of(LongStream epochMillis) {
+        return epochMillis.collect(EpochStatistics::new, EpochStatistics::accept, EpochStatistics::combine);
+    }
+
+    /**
+     * Summarises a collection of dates, in parallel once the collection reaches {@link #PARALLEL_THRESHOLD}; null dates are skipped.
+     *
+     * @param dates the dates
+     * @return the statistics, empty if the collection is null
+     */
+    public static EpochStatistics of(Collection<Date> dates) {
+        if (dates == null) {
+            return new EpochStatistics();
+        }
+        return (dates.size() >= PARALLEL_THRESHOLD ? dates.parallelStream() : dates.stream()).collect(collector());
+    }
+
+    /**
+     * Returns a collector summarising dates; null dates are skipped.
+     *
+     * @return the collector
+     */
+    public static Collector<Date, EpochStatistics, EpochStatistics> collector() {
+        return Collector.of(EpochStatistics::new, EpochStatistics::accept, EpochStatistics::combine, Collector.Characteristics.IDENTITY_FINISH);
+    }
+
+    /**
+     * Records an instant.
+     *
+     * @param value the instant in milliseconds since the epoch
+     */
+    @Override
+    public void accept(long value) {
+        if (count == 0) {
+            first = value;
+        } else if (ascending) {
+            if (value < last) {
+                ascending = false;
+            } else {
+                this.gap(value - last);
+            }
+        }
+        last = value;
+        count++;
+        min = Math.min(min, value);
+        max = Math.max(max, value);
+        sumSeconds += Math.floorDiv(value, 1000L);
+        sumMillis += Math.floorMod(value, 1000L);
+        this.sample(value);
+    }
+
+    /**
+     * Records a date; a null date is ignored.
+     *
+     * @param date the date
+     */
+    public void accept(Date date) {
+        if (date != null) {
+            this.accept(date.getTime());
+        }
+    }
+
+    /**
+     * Merges the statistics of the instants recorded by another accumulator after the ones of this accumulator.
+     *
+     * @param other the other accumulator
+     * @return this accumulator
+     */
+    public EpochStatistics combine(EpochStatistics other) {
+        if (other == null || other.count == 0) {
+            return this;
+        }
+        if (count == 0) {
+            first = other.first;
+            ascending = other.ascending;
+            minGap = other.minGap;
+            maxGap = other.maxGap;
+        } else {
+            ascending = ascending && other.ascending && other.first >= last;
+            if (ascending) {
+                this.gap(other.first - last);
+            }
+        }
+        if (ascending) {
+            minGap = Math.min(minGap, other.minGap);
+            maxGap = Math.max(maxGap, other.maxGap);
+        }
+        this.mergeSamples(other);
+        last = other.last;
+        count += other.count;
+        min = Math.min(min, other.min);
+        max = Math.max(max, other.max);
+        sumSeconds += other.sumSeconds;
+        sumMillis += other.sumMillis;
+        return this;
+    }
+
+    /**
+     * Returns the number of recorded instants.
+     *
+     * @return the count
+     */
+    public long getCount() {
+        return count;
+    }
+
+    /**
+     * Returns the earliest recorded instant.
+     *
+     * @return the minimum, or Long.MAX_VALUE if nothing was recorded
+     */
+    public long getMin() {
+        return min;
+    }
+
+    /**
+     * Returns the latest recorded instant.
+     *
+     * @return the maximum, or Long.MIN_VALUE if nothing was recorded
+     */
+    public long getMax() {
+        return max;
+    }
+
+    /**
+     * Returns the mean of the recorded instants, rounded down to the millisecond.
+     *
+     * @return the mean, or 0 if nothing was recorded
+     */
+    public long getMean() {
+        return mean(sumSeconds, sumMillis, count);
+    }
+
+    /**
+     * Computes the mean of the leading instants of an array the way the accumulator does, without sampling them.
+     *
+     * @param epochMillis the instants in milliseconds since the epoch
+     * @param length      the number of leading instants
+     * @return the mean rounded down to the millisecond, or 0 if the length is 0
+     */
+    public static long mean(long[] epochMillis, int length) {
+        long sumSeconds = 0;
+        long sumMillis = 0;
+        for (int i = 0; i < length; i++) {
+            sumSeconds += Math.floorDiv(epochMillis[i], 1000L);
+            sumMillis += Math.floorMod(epochMillis[i], 1000L);
+        }
+        return mean(sumSeconds, sumMillis, length);
+    }
+
+    /**
+     * Returns the time between the earliest and the latest recorded instants.
+     *
+     * @return the span in milliseconds, 0 if fewer than two instants were recorded
+     */
+    public long getSpan() {
+        return count == 0 ? 0 : max - min;
+    }
+
+    /**
+     * Returns the mean time between consecutive instants, once sorted.
+     *
+     * @return the mean gap in milliseconds, 0 if fewer than two instants were recorded
+     */
+    public long getMeanGap() {
+        return count < 2 ? 0 : this.getSpan() / (count - 1);
+    }
+
+    /**
+     * Returns the smallest time between consecutive instants, known while they were recorded in ascending order.
+     *
+     * @return the smallest gap in milliseconds, or -1 if unknown or fewer than two instants were recorded
+     */
+    public long getMinGap() {
+        return ascending && count > 1 ? minGap : -1;
+    }
+
+    /**
+     * Returns the largest time between consecutive instants, known while they were recorded in ascending order.
+     *
+     * @return the largest gap in milliseconds, or -1 if unknown or fewer than two instants were recorded
+     */
+    public long getMaxGap() {
+        return ascending && count > 1 ? maxGap : -1;
+    }
+
+    /**
+     * Checks whether the instants were recorded in ascending order, which the gap statistics require.
+     *
+     * @return true if the instants arrived in ascending order, false otherwise
+     */
+    public boolean isAscending() {
+        return ascending;
+    }
+
+    /**
+     * Checks whether every recorded instant is held in the sample, making the percentiles exact.
+     *
+     * @return true if the percentiles are exact, false if they are approximate
+     */
+    public boolean isExact() {
+        return sampled == count;
+    }
+
+    /**
+     * Returns a percentile of the recorded instants, interpolated linearly between the closest sampled ranks.
+     *
+     * @param percent the percentile, from 0 to 100
+     * @return the percentile, or 0 if nothing was recorded
+     * @throws IllegalArgumentException if the percentile is out of range
+     */
+    public long getPercentile(double percent) {
+        if (percent < 0 || percent > 100 || Double.isNaN(percent)) {
+            throw new IllegalArgumentException("Percentile must be between 0 and 100");
+        }
+        if (sampled == 0) {
+            return 0;
+        }
+        if (!sorted) {
+            Arrays.sort(samples, 0, sampled);
+            sorted = true;
+        }
+        double position = percent / 100 * (sampled - 1);
+        int lower = (int) position;
+        if (lower + 1 >= sampled) {
+            return samples[sampled - 1];
+        }
+        return samples[lower] + (long) ((samples[lower + 1] - samples[lower]) * (position - lower));
+    }
+
+    /**
+     * Returns the median of the recorded instants; for an even count, the midpoint of the two middle instants.
+     *
+     * @return the median, or 0 if nothing was recorded
+     */
+    public long getMedian() {
+        return this.getPercentile(50);
+    }
+
+    /**
+     * Converts the statistics into a date statistics response.
+     *
+     * @return the response, empty if nothing was recorded
+     */
+    public DateStatsResponse toResponse() {
+        if (count == 0) {
+            return new DateStatsResponse();
+        }
+        return new DateStatsResponse(new Date(min), new Date(max), new Date(this.getMean()), new Date(this.getMedian()),
+                (int) Math.min(count, Integer.MAX_VALUE));
+    }
+
+    @Override
+    public String toString() {
+        return String.format("EpochStatistics { count: %d, min: %d, max: %d, mean: %d, median: %d }",
+                count, min, max, this.getMean(), this.getMedian());
+    }
+
+    /**
+     * Divides the separate sums of whole seconds and leftover milliseconds by the count, rounding down.
+     *
+     * @param sumSeconds the sum of whole seconds
+     * @param sumMillis  the sum of leftover milliseconds
+     * @param count      the number of instants
+     * @return the mean in milliseconds, or 0 if the count is 0
+     */
+    private static long mean(long sumSeconds, long sumMillis, long count) {
+        if (count == 0) {
+            return 0;
+        }
+        long seconds = Math.floorDiv(sumSeconds, count);
+        long remainder = sumSeconds - seconds * count;
+        return seconds * 1000L + Math.floorDiv(remainder * 1000L + sumMillis, count);
+    }
+
+    /**
+     * Records a gap between consecutive ascending instants.
+     *
+     * @param gap the gap in milliseconds
+     */
+    private void gap(long gap) {
+        minGap = Math.min(minGap, gap);
+        maxGap = Math.max(maxGap, gap);
+    }
+
+    /**
+     * Offers an instant to the reservoir: kept while it has room, then replacing a random sample with
+     * probability capacity / count, which keeps the reservoir a uniform sample of every instant seen.
+     * Called after the count includes the instant.
+     *
+     * @param value the instant
+     */
+    private void sample(long value) {
+        if (sampled < capacity) {
+            if (sampled == samples.length) {
+                samples = Arrays.copyOf(samples, Math.min(capacity, samples.length * 2));
+            }
+            samples[sampled++] = value;
+            sorted = false;
+            return;
+        }
+        long slot = ThreadLocalRandom.current().nextLong(count);
+        if (slot < capacity) {
+            samples[(int) slot] = value;
+            sorted = false;
+        }
+    }
+
+    /**
+     * Merges the reservoir of another accumulator into this one, drawing from each side in proportion to
+     * the instants it has seen, so the result remains a uniform sample of both.
+     *
+     * @param other the other accumulator, not yet counted in this one
+     */
+    private void mergeSamples(EpochStatistics other) {
+        if (this.isExact() && other.isExact() && sampled + other.sampled <= capacity) {
+            if (sampled + other.sampled > samples.length) {
+                samples = Arrays.copyOf(samples, Math.min(capacity, Math.max(samples.length * 2, sampled + other.sampled)));
+            }
+            System.arraycopy(other.samples, 0, samples, sampled, other.sampled);
+            sampled += other.sampled;
+            sorted = false;
+            return;
+        }
+        long[] left = shuffled(samples, sampled);
+        long[] right = shuffled(other.samples, other.sampled);
+        int size = Math.min(capacity, left.length + right.length);
+        long[] merged = new long[Math.max(size, 16)];
+        int fromLeft = 0;
+        int fromRight = 0;
+        ThreadLocalRandom random = ThreadLocalRandom.current();
+        for (int i = 0; i < size; i++) {
+            boolean takeLeft = fromRight == right.length
+                    || (fromLeft < left.length && random.nextLong(count + other.count) < count);
+            merged[i] = takeLeft ? left[fromLeft++] : right[fromRight++];
+        }
+        samples = merged;
+        sampled = size;
+        sorted = false;
+    }
+
+    /**
+     * Copies the leading values of an array in random order.
+     *
+     * @param values the values
+     * @param length the number of leading values
+     * @return the shuffled copy
+     */
+    private static long[] shuffled(long[] values, int length) {
+        long[] copy = Arrays.copyOf(values, length);
+        ThreadLocalRandom random = ThreadLocalRandom.current();
+        for (int i = length - 1; i > 0; i--) {
+            int j = random.nextInt(i + 1);
+            long swap = copy[i];
+            copy[i] = copy[j];
+            copy[j] = swap;
+        }
+        return copy;
+    }
+}
@@ -2,6 +2,7 @@ package org.unify4j.model.stream;
 
 import java.io.IOException;
 import java.io.OutputStream;
+import java.nio.charset.Charset;
 import java.util.Arrays;
 
 public class FastByteArrayOutputStream extends OutputStream {
@@ -138,6 +139,16 @@ public class FastByteArrayOutputStream extends OutputStream {
         return new String(buffer, 0, size);
     }
 
+    /**
+     * Converts the buffer's contents into a string, decoding the bytes with the specified character set.
+     *
+     * @param charset the character set used to decode the bytes
+     * @return the buffer contents as a string
+     */
+    public String toString(Charset charset) {
+        return new String(buffer, 0, size, charset);
+    }
+
     /**
      * Writes the contents of this byte array output stream to the specified output stream argument.
      *
@@ -0,0 +1,94 @@
+package org.unify4j.model.stream;
+
+import java.io.Writer;
+
+/**
+ * A Writer that appends directly to a StringBuilder, without synchronization or intermediate buffers.
+ * Unlike StringWriter, the target builder is supplied by the caller, so content can be written in place.
+ */
+public class StringBuilderWriter extends Writer {
+    // The builder receiving every written character
+    private final StringBuilder builder;
+
+    /**
+     * Creates a new StringBuilderWriter with a new, empty StringBuilder.
+     */
+    public StringBuilderWriter() {
+        this(new StringBuilder());
+    }
+
+    /**
+     * Creates a new StringBuilderWriter appending to the specified StringBuilder.
+     *
+     * @param builder the StringBuilder to append to
+     * @throws IllegalArgumentException if the builder is null
+     */
+    public StringBuilderWriter(StringBuilder builder) {
+        if (builder == null) {
+            throw new IllegalArgumentException("StringBuilder is required");
+        }
+        this.builder = builder;
+    }
+
+    /**
+     * Returns the StringBuilder receiving the written characters.
+     *
+     * @return the target StringBuilder
+     */
+    public StringBuilder getBuilder() {
+        return builder;
+    }
+
+    @Override
+    public void write(int c) {
+        builder.append((char) c);
+    }
+
+    @Override
+    public void write(char[] chars, int offset, int length) {
+        builder.append(chars, offset, length);
+    }
+
+    @Override
+    public void write(String str) {
+        builder.append(str);
+    }
+
+    @Override
+    public void write(String str, int offset, int length) {
+        builder.append(str, offset, offset + length);
+    }
+
+    @Override
+    public Writer append(CharSequence csq) {
+        builder.append(csq);
+        return this;
+    }
+
+    @Override
+    public Writer append(CharSequence csq, int start, int end) {
+        builder.append(csq, start, end);
+        return this;
+    }
+
+    @Override
+    public Writer append(char c) {
+        builder.append(c);
+        return this;
+    }
+
+    @Override
+    public void flush() {
+        // Nothing to flush, characters are appended immediately
+    }
+
+    @Override
+    public void close() {
+        // Nothing to close, the builder stays usable
+    }
+
+    @Override
+    public String toString() {
+        return builder.toString();
+    }
+}
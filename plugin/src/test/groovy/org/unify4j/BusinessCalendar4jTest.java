@@ -0,0 +1,119 @@
+package org.unify4j;
+
+import org.junit.Test;
+import org.unify4j.common.BusinessCalendar4j;
+import org.unify4j.common.TimeExtensions4j;
+
+import java.time.*;
+import java.util.Arrays;
+import java.util.Date;
+import java.util.HashSet;
+import java.util.Set;
+
+import static org.junit.Assert.*;
+
+public class BusinessCalendar4jTest {
+    private static final ZoneId ZONE = ZoneId.of("America/New_York");
+    private static final LocalDate ORIGIN = LocalDate.of(2023, 12, 20);
+    private static final Set<LocalDate> HOLIDAYS = new HashSet<>(Arrays.asList(
+            LocalDate.of(2023, 12, 25), LocalDate.of(2024, 1, 1), LocalDate.of(2024, 1, 2),
+            LocalDate.of(2024, 1, 6), LocalDate.of(2024, 1, 15), LocalDate.of(2024, 2, 19)));
+
+    private static BusinessCalendar4j calendar() {
+        return BusinessCalendar4j.create().zone(ZONE).weekend(DayOfWeek.FRIDAY, DayOfWeek.SATURDAY).holidays(HOLIDAYS);
+    }
+
+    private static boolean isBusinessDay(LocalDate date) {
+        return date.getDayOfWeek() != DayOfWeek.FRIDAY && date.getDayOfWeek() != DayOfWeek.SATURDAY && !HOLIDAYS.contains(date);
+    }
+
+    private static long millis(LocalDate date, int hour, int minute) {
+        return date.atTime(hour, minute).atZone(ZONE).toInstant().toEpochMilli();
+    }
+
+    @Test
+    public void testBusinessDaysBetween() {
+        BusinessCalendar4j calendar = calendar();
+        for (int from = 0; from < 30; from++) {
+            for (int to = from; to < from + 70; to++) {
+                long expected = 0;
+                for (int day = from; day <= to; day++) {
+                    expected += isBusinessDay(ORIGIN.plusDays(day)) ? 1 : 0;
+                }
+                assertEquals(expected, calendar.businessDaysBetween(millis(ORIGIN.plusDays(from), 8, 0), millis(ORIGIN.plusDays(to), 10, 0)));
+            }
+        }
+        assertEquals(0, calendar.businessDaysBetween(millis(ORIGIN, 10, 0), millis(ORIGIN, 9, 0)));
+        assertFalse(calendar.isBusinessDay(millis(LocalDate.of(2024, 1, 1), 12, 0)));
+        assertTrue(calendar.isHoliday(millis(LocalDate.of(2024, 1, 6), 12, 0)));
+        assertTrue(calendar.isBusinessDay(millis(LocalDate.of(2024, 1, 7), 12, 0)));
+    }
+
+    @Test
+    public void testAddBusinessDays() {
+        BusinessCalendar4j calendar = calendar();
+        for (int from = 0; from < 30; from++) {
+            LocalDateTime start = ORIGIN.plusDays(from).atTime(14, 30);
+            for (int offset = -40; offset <= 40; offset++) {
+                LocalDate expected = start.toLocalDate();
+                for (int remaining = Math.abs(offset); remaining > 0; ) {
+                    expected = expected.plusDays(offset > 0 ? 1 : -1);
+                    if (isBusinessDay(expected)) {
+                        remaining--;
+                    }
+                }
+                long actual = calendar.addBusinessDays(start.atZone(ZONE).toInstant().toEpochMilli(), offset);
+                assertEquals(start + " " + offset, millis(expected, 14, 30), actual);
+            }
+        }
+    }
+
+    @Test
+    public void testWorkingHoursBetween() {
+        BusinessCalendar4j calendar = BusinessCalendar4j.create().workHours(LocalTime.of(8, 30), LocalTime.of(17, 0)).holiday(2024, 1, 1);
+        ZoneId zone = ZoneId.systemDefault();
+        LocalDateTime origin = LocalDateTime.of(2023, 12, 27, 7, 15);
+        for (int from = 0; from < 200; from += 7) {
+            for (int to = from; to < from + 600; to += 13) {
+                LocalDateTime start = origin.plusHours(from);
+                LocalDateTime end = origin.plusHours(to).plusMinutes(40);
+                long expected = 0;
+                for (LocalDate date = start.toLocalDate(); !date.isAfter(end.toLocalDate()); date = date.plusDays(1)) {
+                    if (date.getDayOfWeek().getValue() >= 6 || date.equals(LocalDate.of(2024, 1, 1))) {
+                        continue;
+                    }
+                    LocalDateTime from1 = start.isAfter(date.atTime(8, 30)) ? start : date.atTime(8, 30);
+                    LocalDateTime to1 = end.isBefore(date.atTime(17, 0)) ? end : date.atTime(17, 0);
+                    if (from1.isBefore(to1)) {
+                        expected += Duration.between(from1, to1).toHours();
+                    }
+                }
+                Date startDate = Date.from(start.atZone(zone).toInstant());
+                Date endDate = Date.from(end.atZone(zone).toInstant());
+                assertEquals(start + " " + end, expected, calendar.workingHoursBetween(startDate, endDate));
+            }
+        }
+    }
+
+    @Test
+    public void testAddBusinessDaysKeepsOffsetInOverlap() {
+        // Sunday 2024-11-03 is a business day of this calendar and 01:30 falls twice on it
+        ZonedDateTime standard = LocalDateTime.of(2024, 11, 4, 1, 30).atZone(ZONE);
+        ZonedDateTime daylight = LocalDateTime.of(2024, 10, 31, 1, 30).atZone(ZONE);
+        assertEquals(standard.minusDays(1).toInstant().toEpochMilli(), calendar().addBusinessDays(standard.toInstant().toEpochMilli(), -1));
+        assertEquals(daylight.plusDays(3).toInstant().toEpochMilli(), calendar().addBusinessDays(daylight.toInstant().toEpochMilli(), 1));
+    }
+
+    @Test
+    public void testTimeExtensions() {
+        ZoneId zone = ZoneId.systemDefault();
+        Date friday = Date.from(LocalDateTime.of(2024, 3, 8, 10, 0).atZone(zone).toInstant());
+        Date monday = Date.from(LocalDateTime.of(2024, 3, 11, 10, 0).atZone(zone).toInstant());
+        assertEquals(monday, TimeExtensions4j.getNextBusinessDay(friday));
+        assertEquals(friday, TimeExtensions4j.getPreviousBusinessDay(monday));
+        assertEquals(monday, TimeExtensions4j.getBusinessDayOffset(friday, 1));
+        assertEquals(Date.from(LocalDateTime.of(2024, 3, 22, 10, 0).atZone(zone).toInstant()), TimeExtensions4j.getBusinessDayOffset(friday, 10));
+        assertEquals(2, TimeExtensions4j.getBusinessDaysBetween(friday, monday));
+        assertEquals(8, TimeExtensions4j.getWorkingHoursBetween(friday, monday));
+    }
+}
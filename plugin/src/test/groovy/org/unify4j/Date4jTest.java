@@ -5,7 +5,13 @@ import org.unify4j.common.Date4j;
 import org.unify4j.common.Time4j;
 import org.unify4j.text.TimeFormatText;
 
-import java.util.Date;
+import java.time.ZoneId;
+import java.time.ZonedDateTime;
+import java.util.*;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertThrows;
 
 public class Date4jTest {
 
@@ -27,4 +33,43 @@ public class Date4jTest {
                 "yyyy-MM-dd HH:mm:ss");
         System.out.println("UTC Formatted Date: " + utcFormattedDate);
     }
+
+    @Test
+    public void testParse_FastPathMatchesRegex() {
+        ZoneId zone = ZoneId.of("Asia/Ho_Chi_Minh");
+        for (String s : Arrays.asList("2024-05-25", "2024-05-25T19:54", "2024-05-25 19:54:23", "2024-05-25T19:54:23.5",
+                "2024-05-25T19:54:23.123456789Z", "2024-05-25T19:54:23+05:30", "2024-05-25T19:54:23.120-0800",
+                "2024-05-25T19:54:23-03", "1716666863007")) {
+            // a leading space skips the fast path, so the regex engine parses the same text
+            ZonedDateTime expected = Date4j.parse(" " + s, zone, true);
+            assertEquals(s, expected, Date4j.parse(s, zone, true));
+        }
+        assertEquals(123456789, Date4j.parse("2024-05-25T19:54:23.123456789Z", zone, true).getNano());
+        assertThrows(IllegalArgumentException.class, () -> Date4j.parse("2024-13-25T19:54:23Z", zone, true));
+        assertThrows(IllegalArgumentException.class, () -> Date4j.parse("2024-05-25T24:54:23Z", zone, true));
+    }
+
+    @Test
+    public void testParseCached_MatchesParse() {
+        ZoneId zone = ZoneId.of("UTC");
+        for (String s : Arrays.asList("2024-05-25T19:54:23.123Z", "2024-05-25T19:54:23.456Z", "2024-05-25T19:54:23.123Z", "Jan 21st, 2024 10:20", "2024-05-25T19:54:23.7+05:30")) {
+            assertEquals(s, Date4j.parse(s, zone, true), Date4j.parseCached(s, zone));
+        }
+    }
+
+    @Test
+    public void testParseAll_KeepsOrder() {
+        List<String> values = new ArrayList<>();
+        for (int i = 0; i < 20000; i++) {
+            values.add(String.format("2024-05-25T19:%02d:%02d.%03dZ", i / 60 % 60, i % 60, i % 1000));
+        }
+        values.add("not a date");
+        List<ZonedDateTime> times = Date4j.parseAll(values, ZoneId.of("UTC"));
+        assertEquals(values.size(), times.size());
+        for (int i = 0; i < 20000; i += 997) {
+            assertEquals(Date4j.parse(values.get(i), ZoneId.of("UTC"), true), times.get(i));
+        }
+        assertNull(times.get(20000));
+        assertEquals(2, Date4j.parseAllDates(Arrays.asList("1716666863007", "2024-05-25")).size());
+    }
 }
@@ -0,0 +1,76 @@
+package org.unify4j;
+
+import org.junit.Test;
+import org.unify4j.common.TimeExtensions4j;
+import org.unify4j.model.c.DateIndex;
+import org.unify4j.model.filter.DateTimeFilter;
+
+import java.util.*;
+
+import static org.junit.Assert.*;
+
+public class DateIndexTest {
+
+    private static List<Date> dates(Random random, int count) {
+        List<Date> dates = new ArrayList<>();
+        for (int i = 0; i < count; i++) {
+            dates.add(new Date(1_700_000_000_000L + random.nextInt(1_000_000) * 1000L));
+        }
+        dates.add(null);
+        return dates;
+    }
+
+    @Test
+    public void testNearest() {
+        Random random = new Random(42);
+        List<Date> candidates = dates(random, 500);
+        DateIndex index = DateIndex.of(candidates);
+        assertEquals(500, index.size());
+        for (int i = 0; i < 2000; i++) {
+            Date target = new Date(1_699_990_000_000L + random.nextInt(1_020_000) * 1000L + random.nextInt(1000));
+            Date expected = TimeExtensions4j.findClosestDate(target, candidates);
+            Date actual = TimeExtensions4j.findClosestDate(target, index);
+            assertEquals(Math.abs(expected.getTime() - target.getTime()), Math.abs(actual.getTime() - target.getTime()));
+        }
+        assertEquals(new Date(10), DateIndex.of(10L, 20L).nearest(new Date(15)));
+        assertNull(DateIndex.of(Collections.emptyList()).nearest(new Date()));
+        assertArrayEquals(new long[]{10L, 20L, 20L}, DateIndex.of(20L, 10L).nearestAll(Long.MIN_VALUE, 19L, Long.MAX_VALUE));
+    }
+
+    @Test
+    public void testFloorAndCeiling() {
+        DateIndex index = DateIndex.of(30L, 10L, 20L, 20L);
+        assertNull(index.floor(new Date(9)));
+        assertEquals(new Date(20), index.floor(new Date(25)));
+        assertEquals(new Date(20), index.ceiling(new Date(11)));
+        assertNull(index.ceiling(new Date(31)));
+        assertEquals(0, index.floorIndex(10));
+        assertEquals(3, index.ceilingIndex(30));
+    }
+
+    @Test
+    public void testCount() {
+        Random random = new Random(7);
+        List<Date> dates = dates(random, 300);
+        DateIndex index = DateIndex.of(dates);
+        List<DateTimeFilter> filters = new ArrayList<>();
+        for (int i = 0; i < 200; i++) {
+            long a = 1_700_000_000_000L + random.nextInt(1_000_000) * 1000L;
+            long b = a + random.nextInt(300_000) * 1000L;
+            DateTimeFilter filter = new DateTimeFilter(i % 10 == 0 ? null : new Date(a), i % 15 == 0 ? null : new Date(b));
+            filters.add(filter);
+            long expected = dates.stream().filter(Objects::nonNull)
+                    .filter(date -> filter.getFrom() == null || !date.before(filter.getFrom()))
+                    .filter(date -> filter.getTo() == null || !date.after(filter.getTo()))
+                    .count();
+            assertEquals(expected, index.count(filter));
+            assertEquals(expected, index.between(filter).size());
+        }
+        int[] counts = index.countAll(filters);
+        for (int i = 0; i < filters.size(); i++) {
+            assertEquals(index.count(filters.get(i)), counts[i]);
+        }
+        assertEquals(0, index.count(20L, 10L));
+        assertArrayEquals(new long[]{10L, 20L}, DateIndex.of(30L, 20L, 10L).between(10L, 29L));
+    }
+}
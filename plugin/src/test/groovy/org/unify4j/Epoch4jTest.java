@@ -0,0 +1,120 @@
+package org.unify4j;
+
+import org.junit.Test;
+import org.unify4j.common.Epoch4j;
+import org.unify4j.common.TimeExtensions4j;
+
+import java.time.*;
+import java.time.temporal.ChronoUnit;
+import java.time.temporal.IsoFields;
+import java.time.temporal.TemporalAdjusters;
+import java.util.Date;
+
+import static org.junit.Assert.assertEquals;
+
+public class Epoch4jTest {
+    private static final ZoneId[] ZONES = {ZoneOffset.UTC, ZoneId.of("America/New_York"), ZoneId.of("Asia/Ho_Chi_Minh"), ZoneId.of("Australia/Lord_Howe")};
+
+    private static long millis(ZonedDateTime dateTime) {
+        return dateTime.toInstant().toEpochMilli();
+    }
+
+    @Test
+    public void testFields() {
+        for (ZoneId zone : ZONES) {
+            for (long millis = -2208988800000L; millis < 4102444800000L; millis += 86400000L * 3 + 3600000L * 7 + 123457L) {
+                ZonedDateTime expected = Instant.ofEpochMilli(millis).atZone(zone);
+                assertEquals(expected.getOffset().getTotalSeconds() * 1000L, Epoch4j.offsetMillis(millis, zone));
+                assertEquals(expected.getYear(), Epoch4j.year(millis, zone));
+                assertEquals(expected.getMonthValue(), Epoch4j.month(millis, zone));
+                assertEquals(expected.getDayOfMonth(), Epoch4j.dayOfMonth(millis, zone));
+                assertEquals(expected.getDayOfWeek().getValue(), Epoch4j.dayOfWeek(millis, zone));
+                assertEquals(expected.getHour(), Epoch4j.hourOfDay(millis, zone));
+                assertEquals(expected.get(IsoFields.QUARTER_OF_YEAR), Epoch4j.quarter(millis, zone));
+                assertEquals(expected.get(IsoFields.WEEK_OF_WEEK_BASED_YEAR), Epoch4j.isoWeekNumber(millis, zone));
+            }
+        }
+    }
+
+    @Test
+    public void testBoundaries() {
+        for (ZoneId zone : ZONES) {
+            for (long millis = -2208988800000L; millis < 4102444800000L; millis += 86400000L * 5 + 3600000L * 5 + 98765L) {
+                ZonedDateTime dateTime = Instant.ofEpochMilli(millis).atZone(zone);
+                LocalDate date = dateTime.toLocalDate();
+                assertEquals(millis(date.atStartOfDay(zone)), Epoch4j.startOfDay(millis, zone));
+                assertEquals(millis(date.plusDays(1).atStartOfDay(zone)) - 1, Epoch4j.endOfDay(millis, zone));
+                assertEquals(millis(date.with(TemporalAdjusters.previousOrSame(DayOfWeek.MONDAY)).atStartOfDay(zone)), Epoch4j.startOfWeek(millis, zone));
+                assertEquals(millis(date.withDayOfMonth(1).atStartOfDay(zone)), Epoch4j.startOfMonth(millis, zone));
+                assertEquals(millis(date.with(IsoFields.DAY_OF_QUARTER, 1).atStartOfDay(zone)), Epoch4j.startOfQuarter(millis, zone));
+                assertEquals(millis(date.withDayOfYear(1).atStartOfDay(zone)), Epoch4j.startOfYear(millis, zone));
+                assertEquals(millis(dateTime.truncatedTo(ChronoUnit.HOURS)), Epoch4j.startOfHour(millis, zone));
+            }
+        }
+    }
+
+    @Test
+    public void testPlus() {
+        ChronoUnit[] units = {ChronoUnit.MILLIS, ChronoUnit.HOURS, ChronoUnit.DAYS, ChronoUnit.WEEKS, ChronoUnit.MONTHS, ChronoUnit.YEARS, ChronoUnit.DECADES};
+        for (ZoneId zone : ZONES) {
+            for (long millis = -631152000000L; millis < 2524608000000L; millis += 86400000L * 11 + 3600000L * 13 + 45678L) {
+                ZonedDateTime dateTime = Instant.ofEpochMilli(millis).atZone(zone);
+                for (ChronoUnit unit : units) {
+                    for (int amount : new int[]{-13, -1, 1, 7, 45}) {
+                        assertEquals(zone + " " + dateTime + " " + amount + " " + unit, millis(dateTime.plus(amount, unit)),
+                                Epoch4j.plus(millis, amount, unit, zone));
+                    }
+                }
+                assertEquals(millis(dateTime.minusMonths(5)), Epoch4j.minus(millis, 5, ChronoUnit.MONTHS, zone), 3600000L);
+            }
+        }
+    }
+
+    @Test
+    public void testLocalMillis_Gap() {
+        ZoneId zone = ZoneId.of("America/New_York");
+        LocalDateTime gap = LocalDateTime.of(2024, 3, 10, 2, 30);
+        long local = gap.toEpochSecond(ZoneOffset.UTC) * 1000L;
+        assertEquals(millis(gap.atZone(zone)), Epoch4j.fromLocalMillis(local, zone));
+        LocalDateTime overlap = LocalDateTime.of(2024, 11, 3, 1, 30);
+        local = overlap.toEpochSecond(ZoneOffset.UTC) * 1000L;
+        assertEquals(millis(overlap.atZone(zone).withEarlierOffsetAtOverlap()), Epoch4j.fromLocalMillis(local, zone));
+        assertEquals(local, Epoch4j.toLocalMillis(Epoch4j.fromLocalMillis(local, zone), zone));
+    }
+
+    @Test
+    public void testPlus_KeepsOffsetInOverlap() {
+        ZoneId zone = ZoneId.of("America/New_York");
+        // 01:30 falls twice on 2024-11-03, first in EDT then in EST
+        ZonedDateTime standard = LocalDateTime.of(2024, 12, 3, 1, 30).atZone(zone);
+        ZonedDateTime daylight = LocalDateTime.of(2024, 10, 27, 1, 30).atZone(zone);
+        ZonedDateTime monthBefore = LocalDateTime.of(2024, 10, 3, 1, 30).atZone(zone);
+        assertEquals(millis(standard.minusDays(30)), Epoch4j.plusDays(millis(standard), -30, zone));
+        assertEquals(1730615400000L, Epoch4j.plusDays(millis(standard), -30, zone));
+        assertEquals(millis(standard.minusMonths(1)), Epoch4j.plusMonths(millis(standard), -1, zone));
+        assertEquals(millis(daylight.plusDays(7)), Epoch4j.plusDays(millis(daylight), 7, zone));
+        assertEquals(millis(monthBefore.plusMonths(1)), Epoch4j.plusMonths(millis(monthBefore), 1, zone));
+        long local = LocalDateTime.of(2024, 11, 3, 1, 30).toEpochSecond(ZoneOffset.UTC) * 1000L;
+        assertEquals(1730615400000L, Epoch4j.fromLocalMillis(local, zone, -5 * 3600000L));
+        assertEquals(1730611800000L, Epoch4j.fromLocalMillis(local, zone, -4 * 3600000L));
+        // an offset that is not valid for the local time is ignored
+        assertEquals(1730611800000L, Epoch4j.fromLocalMillis(local, zone, 0));
+    }
+
+    @Test
+    public void testBusinessDaysBetween() {
+        ZoneId zone = ZoneId.systemDefault();
+        LocalDate origin = LocalDate.of(2023, 12, 25);
+        for (int from = 0; from < 20; from++) {
+            for (int to = from; to < from + 40; to++) {
+                Date start = Date.from(origin.plusDays(from).atTime(9, 0).atZone(zone).toInstant());
+                Date end = Date.from(origin.plusDays(to).atTime(17, 0).atZone(zone).toInstant());
+                long expected = TimeExtensions4j.getWeekdaysInRange(start, end).size();
+                assertEquals(expected, Epoch4j.businessDaysBetween(start.getTime(), end.getTime(), zone));
+                assertEquals(expected, TimeExtensions4j.getBusinessDaysBetween(start, end));
+                assertEquals(to - from, Epoch4j.daysBetween(start.getTime(), end.getTime(), zone));
+            }
+        }
+        assertEquals(0, Epoch4j.businessDaysBetween(2000L, 1000L, zone));
+    }
+}
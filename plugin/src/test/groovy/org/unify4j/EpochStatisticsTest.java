@@ -0,0 +1,114 @@
+package org.unify4j;
+
+import org.junit.Test;
+import org.unify4j.common.TimeExtensions4j;
+import org.unify4j.model.response.DateStatsResponse;
+import org.unify4j.model.stream.EpochStatistics;
+
+import java.util.*;
+import java.util.stream.LongStream;
+
+import static org.junit.Assert.*;
+
+public class EpochStatisticsTest {
+
+    @Test
+    public void testExactStatistics() {
+        Random random = new Random(3);
+        List<Date> dates = new ArrayList<>();
+        for (int i = 0; i < 1001; i++) {
+            dates.add(new Date(1_600_000_000_000L + random.nextInt(1_000_000_000)));
+        }
+        dates.add(null);
+        long[] sorted = dates.stream().filter(Objects::nonNull).mapToLong(Date::getTime).sorted().toArray();
+        DateStatsResponse stats = TimeExtensions4j.calculateDateStats(dates);
+        assertEquals(1001, stats.getCount());
+        assertEquals(sorted[0], stats.getMin().getTime());
+        assertEquals(sorted[1000], stats.getMax().getTime());
+        assertEquals(LongStream.of(sorted).sum() / sorted.length, stats.getAverage().getTime());
+        assertEquals(sorted[500], stats.getMedian().getTime());
+        assertEquals(EpochStatistics.of(LongStream.of(sorted)).getMean(), EpochStatistics.mean(sorted, sorted.length));
+        assertEquals(0, EpochStatistics.mean(sorted, 0));
+
+        EpochStatistics even = EpochStatistics.of(LongStream.of(sorted).skip(1));
+        assertTrue(even.isExact());
+        assertEquals((sorted[500] + sorted[501]) / 2, even.getMedian());
+        assertEquals(sorted[1], even.getPercentile(0));
+        assertEquals(sorted[1000], even.getPercentile(100));
+        assertNull(TimeExtensions4j.calculateDateStats(Collections.singletonList(null)).getMin());
+    }
+
+    @Test
+    public void testExactMedianBeyondSampleCapacity() {
+        Random random = new Random(5);
+        List<Date> dates = new ArrayList<>();
+        for (int i = 0; i < 50_000; i++) {
+            dates.add(new Date(1_600_000_000_000L + random.nextInt(1_000_000_000)));
+        }
+        long[] sorted = dates.stream().mapToLong(Date::getTime).sorted().toArray();
+        DateStatsResponse stats = TimeExtensions4j.calculateDateStats(dates);
+        assertEquals((sorted[24_999] + sorted[25_000]) / 2, stats.getMedian().getTime());
+        assertEquals(stats.getMedian(), TimeExtensions4j.calculateDateStats(dates).getMedian());
+        assertEquals(LongStream.of(sorted).sum() / sorted.length, stats.getAverage().getTime());
+        assertEquals(50_000, stats.getCount());
+    }
+
+    @Test
+    public void testGaps() {
+        EpochStatistics stats = new EpochStatistics();
+        for (long value : new long[]{100, 150, 400, 410}) {
+            stats.accept(value);
+        }
+        assertTrue(stats.isAscending());
+        assertEquals(10, stats.getMinGap());
+        assertEquals(250, stats.getMaxGap());
+        assertEquals(103, stats.getMeanGap());
+        assertEquals(310, stats.getSpan());
+        stats.accept(50);
+        assertFalse(stats.isAscending());
+        assertEquals(-1, stats.getMaxGap());
+
+        EpochStatistics unordered = new EpochStatistics();
+        for (long value : new long[]{10, 20, 5, 100}) {
+            unordered.accept(value);
+        }
+        EpochStatistics combined = new EpochStatistics().combine(unordered);
+        assertFalse(combined.isAscending());
+        assertEquals(-1, combined.getMaxGap());
+        EpochStatistics ordered = new EpochStatistics().combine(EpochStatistics.of(LongStream.of(100, 150, 400, 410)));
+        assertTrue(ordered.isAscending());
+        assertEquals(10, ordered.getMinGap());
+        assertEquals(250, ordered.getMaxGap());
+    }
+
+    @Test
+    public void testParallelMerge() {
+        long base = 1_700_000_000_000L;
+        EpochStatistics sequential = EpochStatistics.of(LongStream.range(0, 200_000).map(i -> base + i * 1000));
+        EpochStatistics parallel = EpochStatistics.of(LongStream.range(0, 200_000).parallel().map(i -> base + i * 1000));
+        assertEquals(sequential.getCount(), parallel.getCount());
+        assertEquals(sequential.getMin(), parallel.getMin());
+        assertEquals(sequential.getMax(), parallel.getMax());
+        assertEquals(sequential.getMean(), parallel.getMean());
+        assertTrue(parallel.isAscending());
+        assertEquals(1000, parallel.getMinGap());
+        assertEquals(1000, parallel.getMaxGap());
+        assertFalse(parallel.isExact());
+        // a uniform sample of 8192 values keeps the median within a few percent of the range
+        long tolerance = 200_000L * 1000 / 20;
+        assertEquals(base + 100_000L * 1000, parallel.getMedian(), tolerance);
+        assertEquals(base + 180_000L * 1000, parallel.getPercentile(90), tolerance);
+        assertEquals(base + 100_000L * 1000, sequential.getMedian(), tolerance);
+    }
+
+    @Test
+    public void testMeanDoesNotOverflow() {
+        EpochStatistics stats = new EpochStatistics(16);
+        long value = 4_000_000_000_000L;
+        for (int i = 0; i < 5_000_000; i++) {
+            stats.accept(value);
+        }
+        assertEquals(value, stats.getMean());
+        assertEquals(value, stats.getMedian());
+    }
+}
@@ -0,0 +1,42 @@
+package org.unify4j;
+
+import org.junit.Test;
+import org.unify4j.common.HttpDate4j;
+import org.unify4j.model.c.HttpHeaders;
+
+import java.time.Instant;
+import java.time.ZoneOffset;
+import java.time.format.DateTimeFormatter;
+import java.util.Date;
+import java.util.Locale;
+
+import static org.junit.Assert.*;
+
+public class HttpDate4jTest {
+
+    @Test
+    public void testFormat() {
+        assertEquals("Sun, 06 Nov 1994 08:49:37 GMT", HttpDate4j.format(784111777000L));
+        DateTimeFormatter expected = DateTimeFormatter.ofPattern("EEE, dd MMM yyyy HH:mm:ss 'GMT'", Locale.US).withZone(ZoneOffset.UTC);
+        for (long millis = -86400000L * 400; millis < 4102444800000L; millis += 86400000L * 37 + 3723456L) {
+            assertEquals(expected.format(Instant.ofEpochMilli(millis)), HttpDate4j.format(millis));
+        }
+    }
+
+    @Test
+    public void testNow_Cached() {
+        String now = HttpDate4j.now();
+        assertEquals(HttpDate4j.parseMillis(now) / 1000, System.currentTimeMillis() / 1000, 1);
+        assertEquals(HttpHeaders.DATE, HttpDate4j.date().getKey());
+    }
+
+    @Test
+    public void testParse() {
+        assertEquals(784111777000L, HttpDate4j.parseMillis("Sun, 06 Nov 1994 08:49:37 GMT"));
+        assertEquals(784111777000L, HttpDate4j.parseMillis("Sunday, 06-Nov-94 08:49:37 GMT"));
+        assertEquals(784111777000L, HttpDate4j.parseMillis("Sun Nov  6 08:49:37 1994"));
+        assertEquals(-1, HttpDate4j.parseMillis("Sun, 31 Feb 1994 08:49:37 GMT"));
+        assertEquals(-1, HttpDate4j.parseMillis("yesterday"));
+        assertEquals(new Date(784111777000L), HttpDate4j.parse(HttpDate4j.lastModified(new Date(784111777123L)).getValue()));
+    }
+}
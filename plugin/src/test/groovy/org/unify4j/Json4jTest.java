@@ -0,0 +1,175 @@
+package org.unify4j;
+
+import com.jayway.jsonpath.DocumentContext;
+import org.junit.Test;
+import org.unify4j.common.Json4j;
+import org.unify4j.model.enums.DataFormatType;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.*;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+
+import static org.junit.Assert.*;
+
+public class Json4jTest {
+
+    private static final String JSON = "{\"user\":{\"id\":7,\"name\":\"alice\",\"tags\":[\"a\",\"b\"]},\"total\":2}";
+
+    @Test
+    public void testCompile_ReusesCompiledPath() {
+        assertSame(Json4j.compile("$.user.name"), Json4j.compile("$.user.name"));
+    }
+
+    @Test
+    public void testReadIf_Document() {
+        DocumentContext document = Json4j.document(JSON);
+        assertEquals("alice", Json4j.readIf(document, "$.user.name"));
+        assertEquals(Integer.valueOf(2), Json4j.readIf(document, "$.total"));
+        assertNull(Json4j.readIf(document, "$.user.missing"));
+        assertEquals(Json4j.<Object>readIf(JSON, "$.user.id"), Json4j.readIf(document, "$.user.id"));
+    }
+
+    @Test
+    public void testReadCollIf_JacksonDocument() {
+        DocumentContext document = Json4j.jacksonDocument(JSON);
+        List<String> tags = Json4j.readCollIf(document, "$.user.tags");
+        assertEquals(2, tags.size());
+        assertEquals("a", tags.get(0));
+        assertEquals("alice", Json4j.readIf(document, "$.user.name"));
+    }
+
+    @Test
+    public void testProject() {
+        String json = "{\"skip\":{\"deep\":[1,2,{\"x\":1}]},\"user\":{\"id\":7,\"name\":\"alice\"},\"items\":[{\"id\":1},{\"id\":2}],\"total\":2}";
+        Map<String, Object> values = Json4j.project(json, "$.total", "user.name", "items[1].id", "missing.field");
+        assertEquals(3, values.size());
+        assertEquals(2, values.get("$.total"));
+        assertEquals("alice", values.get("user.name"));
+        assertEquals(2, values.get("items[1].id"));
+        assertFalse(values.containsKey("missing.field"));
+
+        String prices = "{\"price\":12.5,\"items\":[{\"weight\":0.25}]}";
+        Map<String, Object> projected = Json4j.project(prices, "price", "items");
+        assertEquals(Json4j.<Object>readIf(prices, "$.price"), projected.get("price"));
+        assertEquals(12.5, projected.get("price"));
+        assertEquals(0.25, ((Map<?, ?>) ((List<?>) projected.get("items")).get(0)).get("weight"));
+    }
+
+    @Test
+    public void testProject_QuotedKeysAndSpellings() {
+        String json = "{\"first name\":\"alice\",\"a.b\":{\"c\":3},\"total\":2}";
+        Map<String, Object> values = Json4j.project(json, "$['first name']", "[\"a.b\"].c", "$.total", "total");
+        assertEquals(Arrays.asList("$['first name']", "[\"a.b\"].c", "$.total", "total"), new ArrayList<>(values.keySet()));
+        assertEquals("alice", values.get("$['first name']"));
+        assertEquals(3, values.get("[\"a.b\"].c"));
+        assertEquals(2, values.get("$.total"));
+        assertEquals(2, values.get("total"));
+        for (String path : new String[]{"items[*].id", "items[-1]", "$[?(@.id)]", "items[0", "$['name"}) {
+            try {
+                Json4j.project(json, path);
+                fail(path);
+            } catch (IllegalArgumentException e) {
+                assertTrue(e.getMessage(), e.getMessage().endsWith(path));
+            }
+        }
+    }
+
+    @Test
+    public void testProject_NestedInRequestedValue() {
+        Map<String, Object> values = Json4j.project(JSON, "user", "user.tags[1]");
+        assertTrue(values.get("user") instanceof Map);
+        assertEquals("b", values.get("user.tags[1]"));
+    }
+
+    @Test
+    public void testProject_StopsEarly() {
+        // the trailing garbage is never reached because every path is found before it
+        Map<String, Object> values = Json4j.project("{\"id\":1,\"rest\":[ invalid", "id");
+        assertEquals(1, values.get("id"));
+    }
+
+    @Test
+    public void testNdjson2List_String() {
+        List<Map> values = Json4j.ndjson2List("{\"id\":1}\n\n{\"id\":2}\n", Map.class);
+        assertEquals(2, values.size());
+        assertEquals(2, values.get(1).get("id"));
+    }
+
+    @Test
+    public void testNdjson_WriteAndReadFile() throws IOException {
+        Path file = Files.createTempFile("unify4j", ".ndjson");
+        try {
+            List<Map<String, Object>> rows = IntStream.range(0, 200000)
+                    .mapToObj(i -> Collections.<String, Object>singletonMap("id", i))
+                    .collect(Collectors.toList());
+            assertEquals(200000, Json4j.writeNdjson(file, rows));
+            List<Map> values = Json4j.ndjson2List(file, Map.class);
+            assertEquals(200000, values.size());
+            for (int i = 0; i < values.size(); i++) {
+                assertEquals(i, values.get(i).get("id"));
+            }
+            AtomicInteger expected = new AtomicInteger();
+            Json4j.ndjsonEach(file, Map.class, true, value -> assertEquals(expected.getAndIncrement(), value.get("id")));
+            assertEquals(200000, expected.get());
+        } finally {
+            Files.deleteIfExists(file);
+        }
+    }
+
+    @Test
+    public void testWriteNdjson_Stream() {
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        Json4j.writeNdjson(out, Arrays.asList("a", 1, Collections.singletonMap("k", "v")).stream());
+        assertEquals("\"a\"\n1\n{\"k\":\"v\"}\n", new String(out.toByteArray(), StandardCharsets.UTF_8));
+    }
+
+    @Test
+    public void testBytes_RoundTripAndDetect() {
+        Map<String, Object> data = new LinkedHashMap<>();
+        data.put("id", 7);
+        data.put("name", "alice");
+        data.put("tags", Arrays.asList("a", "b"));
+        for (DataFormatType format : DataFormatType.values()) {
+            byte[] bytes = Json4j.toBytes(data, format);
+            assertEquals(format, Json4j.detectFormat(bytes));
+            assertEquals(data, Json4j.fromBytes(bytes, Map.class));
+        }
+        assertTrue(Json4j.toBytes(data, DataFormatType.SMILE).length < Json4j.toBytes(data, DataFormatType.JSON).length);
+        assertEquals(DataFormatType.JSON, Json4j.detectFormat("[1,2]".getBytes(StandardCharsets.UTF_8)));
+        assertEquals(DataFormatType.JSON, Json4j.detectFormat(" {\"a\":1}".getBytes(StandardCharsets.UTF_8)));
+    }
+
+    @Test
+    public void testToJson_BinaryMapper() {
+        Map<String, Object> data = new LinkedHashMap<>();
+        data.put("id", 7);
+        data.put("name", "alice");
+        String json = Json4j.toJson(data);
+        assertEquals("{\"id\":7,\"name\":\"alice\"}", json);
+        assertEquals(json, Json4j.toJson(data, Json4j.createInstance(DataFormatType.SMILE)));
+        assertEquals(json, Json4j.toJson(data, Json4j.createInstance(DataFormatType.CBOR)));
+        assertEquals(json, Json4j.toJson(data, Json4j.createInstance()));
+    }
+
+    @Test
+    public void testTranslate_BytesAndStream() {
+        byte[] body = JSON.getBytes(StandardCharsets.UTF_8);
+        Map<?, ?> fromBytes = Json4j.translate(body, Map.class);
+        Map<?, ?> fromStream = Json4j.translate(new ByteArrayInputStream(body), Map.class);
+        assertEquals(fromBytes, fromStream);
+        assertEquals(2, fromBytes.get("total"));
+        assertEquals("alice", Json4j.translateTree(new ByteArrayInputStream(body)).path("user").path("name").asText());
+        assertNull(Json4j.translate(new ByteArrayInputStream(new byte[0]), Map.class));
+        byte[] blank = " \n\t ".getBytes(StandardCharsets.UTF_8);
+        assertTrue(Json4j.translateTree(blank).isObject());
+        assertEquals(Json4j.translateTree(new ByteArrayInputStream(blank)), Json4j.translateTree(blank));
+        assertEquals(0, Json4j.translateTree(blank).size());
+    }
+}
@@ -0,0 +1,60 @@
+package org.unify4j;
+
+import org.junit.Test;
+import org.unify4j.common.JsonText4j;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.util.Collections;
+
+import static org.junit.Assert.*;
+
+public class JsonText4jTest {
+
+    @Test
+    public void testFields() {
+        String line = new JsonText4j()
+                .field("level", "INFO")
+                .field("count", 3)
+                .field("ratio", 0.5)
+                .field("ok", true)
+                .field("tags", Collections.singletonList("a"))
+                .fieldIf(false, "skipped", 1)
+                .toString();
+        assertEquals("{\"level\":\"INFO\",\"count\":3,\"ratio\":0.5,\"ok\":true,\"tags\":[\"a\"]}\n", line);
+    }
+
+    @Test
+    public void testTimestamp() {
+        assertEquals("{\"at\":\"2024-05-25T19:54:23.007Z\"}\n", new JsonText4j().timestamp("at", 1716666863007L).toString());
+        assertEquals("{\"at\":\"1969-12-31T23:59:59.999Z\"}\n", new JsonText4j().timestamp("at", -1L).toString());
+    }
+
+    @Test
+    public void testLines() throws IOException {
+        JsonText4j text = JsonText4j.recycled();
+        text.field("id", 1).line().line().field("id", 2);
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        text.writeTo(out);
+        assertEquals("{\"id\":1}\n{}\n{\"id\":2}\n", new String(out.toByteArray(), StandardCharsets.UTF_8));
+        text.recycle();
+        assertSame(text, JsonText4j.recycled());
+        assertEquals(0, text.size());
+    }
+
+    @Test
+    public void testReuseAfterClearAndRecycle() {
+        JsonText4j text = JsonText4j.recycled();
+        text.field("id", 1).field("partial", "dropped").clear();
+        assertEquals("{\"id\":3}\n", text.field("id", 3).toString());
+        for (int i = 0; i < 10_000; i++) {
+            text.field("i", i).field("padding", "0123456789").line();
+        }
+        assertTrue(text.size() > 64 * 1024);
+        text.recycle();
+        JsonText4j again = JsonText4j.recycled();
+        assertEquals("{\"id\":4}\n{\"id\":5}\n", again.field("id", 4).line().field("id", 5).toString());
+        again.recycle();
+    }
+}
@@ -0,0 +1,127 @@
+package org.unify4j;
+
+import org.junit.Test;
+import org.unify4j.common.Regex4j;
+import org.unify4j.text.ExpressionText;
+
+import java.util.*;
+import java.util.concurrent.ForkJoinPool;
+import java.util.function.Predicate;
+import java.util.regex.Pattern;
+
+import static org.junit.Assert.*;
+
+public class Regex4jTest {
+
+    private static List<String> samples(String alphabet, int maxLength, String... seeds) {
+        Random random = new Random(42);
+        List<String> samples = new ArrayList<>(Arrays.asList(seeds));
+        for (String seed : seeds) {
+            // single-character mutations of every seed
+            for (int i = 0; i < seed.length(); i++) {
+                for (int k = 0; k < 4; k++) {
+                    char c = alphabet.charAt(random.nextInt(alphabet.length()));
+                    samples.add(seed.substring(0, i) + c + seed.substring(i + 1));
+                    samples.add(seed.substring(0, i) + c + seed.substring(i));
+                }
+                samples.add(seed.substring(0, i) + seed.substring(i + 1));
+            }
+        }
+        for (int n = 0; n < 20_000; n++) {
+            StringBuilder builder = new StringBuilder();
+            int length = random.nextInt(maxLength + 1);
+            for (int i = 0; i < length; i++) {
+                builder.append(alphabet.charAt(random.nextInt(alphabet.length())));
+            }
+            samples.add(builder.toString());
+        }
+        return samples;
+    }
+
+    private static void assertSameAsRegex(String expression, boolean trim, Predicate<String> validator, List<String> samples) {
+        Pattern pattern = Pattern.compile(expression);
+        for (String sample : samples) {
+            boolean expected = !sample.isEmpty() && pattern.matcher(trim ? sample.trim() : sample).matches();
+            assertEquals(sample, expected, validator.test(sample));
+        }
+    }
+
+    @Test
+    public void testIpValidators() {
+        List<String> ip4 = samples("0123456789.. ", 16, "0.0.0.0", "255.255.255.255", "192.168.001.010", "256.1.1.1",
+                "1.2.3", "1.2.3.4.5", " 10.0.0.1 ", "01.02.03.04", "199.299.1.1");
+        assertSameAsRegex(ExpressionText.IPV4_DIGITS_REGULAR_EXPRESSION, true, Regex4j::isIp4, ip4);
+        assertSameAsRegex(ExpressionText.IP_DIGITS_REPEAT_REGULAR_EXPRESSION, true, Regex4j::isIp, ip4);
+        List<String> ip6 = samples("0123456789abcdefABCDEFg:::. ", 44, "2001:0db8:85a3:0000:0000:8a2e:0370:7334",
+                "fe80::1", "::", "::1", "1::", "1:2:3:4:5:6:7:8:9::", ":::", "1:::2", "12345::", "a:b::c:d::e");
+        assertSameAsRegex(ExpressionText.IPV6_STD_DIGITS_REGULAR_EXPRESSION, true, Regex4j::isIp6Std, ip6);
+        assertSameAsRegex(ExpressionText.IPV6_HEX_COMPRESSED_DIGITS_REGULAR_EXPRESSION, true, Regex4j::isIp6HexCompressed, ip6);
+        assertSameAsRegex("(?:" + ExpressionText.IPV6_STD_DIGITS_REGULAR_EXPRESSION + ")|(?:"
+                + ExpressionText.IPV6_HEX_COMPRESSED_DIGITS_REGULAR_EXPRESSION + ")", true, Regex4j::isIp6, ip6);
+        assertFalse(Regex4j.isIp(null));
+    }
+
+    @Test
+    public void testMacGuidAndNumbers() {
+        List<String> mac = samples("0123456789abcfAFG:-.", 18, "01-23-45-67-89-AB", "01:23:45:67:89:ab", "01:23-45:67-89:AB",
+                "0123.4567.89AB", "0123.4567.89AB.", "01-23-45-67-89", "0123-4567-89AB");
+        assertSameAsRegex(ExpressionText.MAC_REGULAR_EXPRESS, false, Regex4j::isMAC, mac);
+        List<String> guid = samples("0123456789abcdefABCDEFg-{}", 40, "123e4567-e89b-12d3-a456-426614174000",
+                "{123e4567-e89b-12d3-a456-426614174000}", "{123e4567-e89b-12d3-a456-426614174000",
+                "123e4567-e89b-12d3-a456-426614174000}", "123e4567e89b12d3a456426614174000");
+        assertSameAsRegex(ExpressionText.GUID_REGULAR_EXPRESS, false, Regex4j::isGUID, guid);
+        List<String> numbers = samples("0123456789+-.eE x", 10, "0", "-1", "+1.5", "1.", ".5", "1e10", "1.5E-3", "1e", "--1", "1e+");
+        assertSameAsRegex(ExpressionText.NUMBER_REGULAR_EXPRESS, false, Regex4j::isNumeric, numbers);
+        assertSameAsRegex(ExpressionText.CVV_REGULAR_EXPRESS, false, Regex4j::isCVV, samples("0123456789a ", 6, "123", "1234", "12", "12345"));
+        assertFalse(Regex4j.isMAC(null));
+        assertFalse(Regex4j.isGUID(null));
+        assertFalse(Regex4j.isNumeric(null));
+        assertFalse(Regex4j.isCVV(null));
+    }
+
+    @Test
+    public void testPrecompiledValidators() {
+        assertTrue(Regex4j.isEmail("john.doe@example.com"));
+        assertFalse(Regex4j.isEmail("john.doe@example"));
+        assertTrue(Regex4j.isURL(" https://example.com:8080/path "));
+        assertTrue(Regex4j.isDate("2020-02-29"));
+        assertFalse(Regex4j.isDate("2100-02-29"));
+        assertTrue(Regex4j.isApiVersion("1.2.3"));
+        assertTrue(Regex4j.isTime24H("23:59"));
+        assertTrue(Regex4j.isVisaCard("4111111111111111"));
+    }
+
+    @Test
+    public void testBatchValidation() {
+        List<String> emails = new ArrayList<>();
+        for (int i = 0; i < 10_000; i++) {
+            emails.add(i % 3 == 0 ? "user" + i + "@example.com" : i % 3 == 1 ? "user" + i + "@example" : null);
+        }
+        BitSet expected = new BitSet();
+        for (int i = 0; i < emails.size(); i++) {
+            if (Regex4j.isEmail(emails.get(i))) {
+                expected.set(i);
+            }
+        }
+        assertEquals(3334, expected.cardinality());
+        assertEquals(expected, Regex4j.validate(emails, Regex4j::isEmail));
+        assertEquals(expected, Regex4j.validate(emails.stream(), Regex4j::isEmail));
+        assertEquals(expected, Regex4j.validate(emails, Pattern.compile(ExpressionText.EMAIL_REGULAR_EXPRESSION)));
+        ForkJoinPool pool = new ForkJoinPool(4);
+        try {
+            assertEquals(expected, Regex4j.validate(emails, Regex4j::isEmail, pool));
+            assertEquals(expected, Regex4j.validate(emails.toArray(new String[0]), Regex4j::isEmail, pool));
+        } finally {
+            pool.shutdown();
+        }
+        Map<Boolean, List<String>> partitioned = Regex4j.partition(emails.parallelStream(), Regex4j::isEmail);
+        assertEquals(3334, partitioned.get(true).size());
+        assertEquals(emails.get(3), partitioned.get(true).get(1));
+        assertEquals(6666, partitioned.get(false).size());
+        assertTrue(Regex4j.validate((Collection<String>) null, Regex4j::isEmail).isEmpty());
+        assertTrue(Regex4j.isPhoneNumber("(123) 456-7890"));
+        assertTrue(Regex4j.isPhoneNumber("123-456-7890"));
+        assertFalse(Regex4j.isPhoneNumber("12-34"));
+        assertFalse(Regex4j.isIdentifier(null));
+    }
+}
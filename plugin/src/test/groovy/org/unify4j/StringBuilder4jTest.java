@@ -0,0 +1,93 @@
+package org.unify4j;
+
+import org.junit.Test;
+import org.unify4j.common.StringBuilder4j;
+import org.unify4j.model.stream.CharRope;
+
+import java.io.StringWriter;
+import java.util.*;
+
+import static org.junit.Assert.*;
+
+public class StringBuilder4jTest {
+
+    @Test
+    public void testFrom_Template() {
+        Map<String, String> values = new HashMap<>();
+        values.put("name", "Alice");
+        values.put("empty", null);
+        String built = StringBuilder4j.create().from("Hi ${name}${empty}, ${missing} ${name}!", values).build();
+        assertEquals("Hi Alice, ${missing} Alice!", built);
+    }
+
+    @Test
+    public void testCompile_CachedAndParsed() {
+        StringBuilder4j.Template template = StringBuilder4j.compile("${a}-${b} ${unclosed");
+        assertSame(template, StringBuilder4j.compile("${a}-${b} ${unclosed"));
+        assertEquals(Arrays.asList("a", "b"), template.keys());
+        assertEquals("1-2 ${unclosed", template.render(map("a", "1", "b", "2")));
+    }
+
+    @Test
+    public void testRenderAll() {
+        StringBuilder4j.Template template = StringBuilder4j.compile("Order ${id} shipped");
+        List<Map<String, String>> values = Arrays.asList(map("id", "1"), map("id", "2"));
+        assertEquals(Arrays.asList("Order 1 shipped", "Order 2 shipped"), template.renderAll(values));
+        assertEquals("Order 1 shipped\nOrder 2 shipped", template.renderAll(values, "\n"));
+        assertEquals("", template.renderAll(Collections.emptyList(), "\n"));
+    }
+
+    @Test
+    public void testRope_MatchesBuffer() {
+        String large = repeat('x', 500);
+        StringBuilder4j rope = StringBuilder4j.rope().withSeparator(",").withPrefix("[").withSuffix("]");
+        StringBuilder4j buffer = StringBuilder4j.create().withSeparator(",").withPrefix("[").withSuffix("]");
+        for (StringBuilder4j builder : Arrays.asList(rope, buffer)) {
+            builder.append("a").append(large).append("b").prepend("first").insert(7, "mid").appendLine("end");
+        }
+        assertTrue(rope.isRope());
+        assertEquals(buffer.build(), rope.build());
+        assertEquals(buffer.length(), rope.length());
+        assertEquals(buffer.subSequence(3, 510).toString(), rope.subSequence(3, 510).toString());
+        rope.withMaxLength(100);
+        buffer.withMaxLength(100);
+        StringWriter writer = new StringWriter();
+        rope.writeTo(writer);
+        assertEquals(buffer.build(), writer.toString());
+        assertEquals(100, writer.toString().length());
+        assertEquals(buffer.reverse().build(), rope.reverse().build());
+    }
+
+    @Test
+    public void testCharRope() {
+        CharRope rope = new CharRope();
+        StringBuilder expected = new StringBuilder();
+        for (int i = 0; i < 2000; i++) {
+            String piece = i % 10 == 0 ? repeat((char) ('a' + i % 26), 100) : Integer.toString(i);
+            rope.append(piece);
+            expected.append(piece);
+        }
+        rope.insert(0, "head").insert(777, "middle");
+        expected.insert(0, "head").insert(777, "middle");
+        assertEquals(expected.toString(), rope.toString());
+        assertEquals(expected.charAt(5000), rope.charAt(5000));
+        assertEquals(expected.substring(1000, 4000), rope.subSequence(1000, 4000).toString());
+        rope.truncate(900);
+        rope.append("tail");
+        assertEquals(expected.substring(0, 900) + "tail", rope.toString());
+    }
+
+    private static Map<String, String> map(String... keyValues) {
+        Map<String, String> map = new HashMap<>();
+        for (int i = 0; i < keyValues.length; i += 2) {
+            map.put(keyValues[i], keyValues[i + 1]);
+        }
+        return map;
+    }
+
+    private static String repeat(char ch, int count) {
+        char[] chars = new char[count];
+        Arrays.fill(chars, ch);
+        return new String(chars);
+    }
+}
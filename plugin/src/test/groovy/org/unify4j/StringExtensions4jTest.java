@@ -0,0 +1,95 @@
+package org.unify4j;
+
+import org.junit.Test;
+import org.unify4j.common.StringExtensions4j;
+import org.unify4j.model.stream.ChunkedMatchIterator;
+
+import java.io.FilterReader;
+import java.io.IOException;
+import java.io.Reader;
+import java.io.StringReader;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+import java.util.regex.Pattern;
+import java.util.stream.Collectors;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+
+public class StringExtensions4jTest {
+    private static final String[] WORDS = {"alpha", "beta-gamma", "12345", "x", " ", "\n", "-", "https://example.com/a?b=c",
+            "http://sub.example.org", "john.doe@example.com", "(123) 456-7890", "foo", "foobar", ".", "42"};
+
+    private static String text(Random random, int words) {
+        StringBuilder builder = new StringBuilder();
+        for (int i = 0; i < words; i++) {
+            builder.append(WORDS[random.nextInt(WORDS.length)]);
+            if (random.nextInt(3) == 0) {
+                builder.append(' ');
+            }
+        }
+        return builder.toString();
+    }
+
+    // returns at most seven characters per read, as slow streams may
+    private static Reader trickle(String text) {
+        return new FilterReader(new StringReader(text)) {
+            @Override
+            public int read(char[] chars, int offset, int length) throws IOException {
+                return super.read(chars, offset, Math.min(length, 7));
+            }
+        };
+    }
+
+    @Test
+    public void testStreamMatchesMatchesWholeInput() {
+        String[] regexes = {"\\d+", "\\bfoo\\w*", "(?<=-)\\w+", "^\\w+", "\\w+$", "x*", "https?://[\\w\\-]+(\\.[\\w\\-]+)+([\\w\\-\\.,@?^=%&:/~\\+#]*[\\w\\-\\@?^=%&/~\\+#])?",
+                "[a-z.]+@[a-z]+\\.com", "(?m)^\\w+"};
+        Random random = new Random(7);
+        for (int round = 0; round < 20; round++) {
+            String text = text(random, 50 + random.nextInt(400));
+            for (String regex : regexes) {
+                List<String> expected = StringExtensions4j.extractMatches(text, regex);
+                Pattern pattern = Pattern.compile(regex);
+                assertEquals(regex, expected, StringExtensions4j.streamMatches(text, regex).collect(Collectors.toList()));
+                int longest = expected.stream().mapToInt(String::length).max().orElse(0);
+                // chunked results are exact while matches fit within the maximum match length
+                if (longest <= 128) {
+                    assertEquals(regex, expected, StringExtensions4j.streamMatches(trickle(text), pattern, 256).collect(Collectors.toList()));
+                }
+                if (longest <= 40) {
+                    List<String> iterated = new ArrayList<>();
+                    new ChunkedMatchIterator(trickle(text), pattern, 300, 40).forEachRemaining(iterated::add);
+                    assertEquals(regex, expected, iterated);
+                }
+                List<String> consumed = new ArrayList<>();
+                assertEquals(expected.size(), StringExtensions4j.extractMatches(new StringReader(text), regex, consumed::add));
+                assertEquals(regex, expected, consumed);
+            }
+        }
+    }
+
+    @Test
+    public void testStreamExtractors() {
+        String text = "mail john.doe@example.com or visit https://example.com/docs and call 123-456-7890";
+        assertEquals(StringExtensions4j.extractUrls(text), StringExtensions4j.streamUrls(new StringReader(text)).collect(Collectors.toList()));
+        assertEquals(StringExtensions4j.extractEmails(text), StringExtensions4j.streamEmails(new StringReader(text)).collect(Collectors.toList()));
+        assertEquals(StringExtensions4j.extractPhoneNumbers(text), StringExtensions4j.streamPhoneNumbers(new StringReader(text)).collect(Collectors.toList()));
+        assertEquals("john.doe@example.com", StringExtensions4j.streamEmails(new StringReader("john.doe@example.com")).findFirst().orElse(null));
+        assertEquals(0, StringExtensions4j.streamMatches(new StringReader(text), "(").count());
+        assertTrue(StringExtensions4j.extractMatches(text, "(").isEmpty());
+    }
+
+    @Test
+    public void testStreamMatchesLargeInput() {
+        StringBuilder builder = new StringBuilder();
+        for (int i = 0; i < 200_000; i++) {
+            builder.append("line ").append(i).append(" user").append(i).append("@example.com\n");
+        }
+        String text = builder.toString();
+        assertEquals(200_000, StringExtensions4j.streamMatches(new StringReader(text), "user\\d+@example\\.com").count());
+        assertEquals(StringExtensions4j.extractMatches(text, "\\d+"),
+                StringExtensions4j.streamMatches(new StringReader(text), "\\d+").collect(Collectors.toList()));
+    }
+}
@@ -5,6 +5,15 @@ import org.unify4j.common.Collection4j;
 import org.unify4j.common.Text4j;
 import org.unify4j.model.c.Pair;
 
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.StringWriter;
+import java.nio.charset.StandardCharsets;
+import java.util.Collections;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.Assert.*;
+
 public class Text4jTest {
 
     @Test
@@ -25,4 +34,86 @@ public class Text4jTest {
                 .toString();
         System.out.println(val);
     }
+
+    @Test
+    public void testDelimiters() {
+        String val = new Text4j()
+                .parenthesis("a")
+                .bracket(Collection4j.mapOf(new Pair<>(1, 2)))
+                .curlyBracket(7)
+                .quotation("q")
+                .vertical("v")
+                .hyphenMinus("h")
+                .equal(1)
+                .endingEqual("e")
+                .beginningComma("c")
+                .endingColon("k")
+                .append((Object) "s")
+                .toString();
+        assertEquals("(a) [{\"1\":2}] {7} \"q\" |v| -h =1 e= , c k: \"s\" ", val);
+    }
+
+    @Test
+    public void testWriteTo() throws IOException {
+        Text4j text = new Text4j().append("héllo").append(42);
+        assertEquals(text.toString(), text.writeTo(new StringWriter()).toString());
+        assertEquals(text.toString(), text.writeTo(new StringBuilder()).toString());
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        text.writeTo(out, StandardCharsets.UTF_8);
+        assertEquals(text.toString(), new String(out.toByteArray(), StandardCharsets.UTF_8));
+    }
+
+    @Test
+    public void testRecycled() {
+        Text4j text = Text4j.recycled();
+        text.append("outer");
+        Text4j nested = Text4j.recycled();
+        assertNotSame(text, nested);
+        assertEquals("outer ", text.toString());
+        text.recycle();
+        Text4j again = Text4j.recycled();
+        assertSame(text, again);
+        assertEquals(0, again.length());
+        again.recycle();
+    }
+
+    @Test
+    public void testWhen_Muted() {
+        AtomicInteger calls = new AtomicInteger();
+        Text4j text = Text4j.when(false)
+                .append("value")
+                .bracket(Collection4j.mapOf(new Pair<>(1, 2)))
+                .appendLazy(calls::incrementAndGet)
+                .timestamp();
+        assertTrue(text.isMuted());
+        assertEquals("", text.toString());
+        assertEquals(0, calls.get());
+    }
+
+    @Test
+    public void testAppendLazy_KeepsOrder() {
+        AtomicInteger calls = new AtomicInteger();
+        Text4j text = Text4j.when(() -> true)
+                .append("a")
+                .appendLazy(() -> calls.incrementAndGet())
+                .append("b")
+                .appendLazy("%s-%s", 1, 2)
+                .append("c");
+        assertEquals(0, calls.get());
+        assertEquals("a 1 b 1-2 c ", text.toString());
+        assertEquals("a 1 b 1-2 c ", text.toString());
+        assertEquals(1, calls.get());
+    }
+
+    @Test
+    public void testTemplate() {
+        Text4j.Template template = Text4j.compile("user {} has {} roles {}");
+        assertSame(template, Text4j.compile("user {} has {} roles {}"));
+        assertEquals(3, template.placeholders());
+        assertEquals("user alice has 2 roles {}", template.render("alice", 2));
+        assertEquals("[x] user bob has 1 roles [\"a\"] ", new Text4j()
+                .appendCompact("[x] ")
+                .renderLazy(template, "bob", 1, Collections.singletonList("a"))
+                .toString());
+    }
 }
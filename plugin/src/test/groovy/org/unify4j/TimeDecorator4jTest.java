@@ -0,0 +1,115 @@
+package org.unify4j;
+
+import org.junit.Test;
+import org.unify4j.common.Time4j;
+import org.unify4j.common.TimeBuilder4j;
+import org.unify4j.common.TimeDecorator4j;
+import org.unify4j.model.enums.TimezoneType;
+
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.time.ZonedDateTime;
+import java.time.temporal.ChronoUnit;
+import java.util.Date;
+import java.util.TimeZone;
+
+import static org.junit.Assert.*;
+
+public class TimeDecorator4jTest {
+    private static final String[] ZONES = {"UTC", "America/New_York", "Europe/London", "Asia/Kolkata", "Australia/Lord_Howe"};
+
+    @Test
+    public void testFusedMatchesDecorator() {
+        TimeZone original = TimeZone.getDefault();
+        try {
+            for (String id : ZONES) {
+                TimeZone.setDefault(TimeZone.getTimeZone(id));
+                for (long millis = 1_600_000_000_123L; millis < 1_700_000_000_000L; millis += 86_400_000L * 5 + 3_700_123L) {
+                    TimeDecorator4j decorator = TimeDecorator4j.of(new Date(millis)).withTimezone(TimezoneType.DefaultTimezoneDelhi);
+                    TimeDecorator4j eager = decorator.addDays(3).addHours(5).addMinutes(-17).roundUpToNextHour(2).addDays(-1);
+                    TimeDecorator4j.Pipeline fused = decorator.fused().addDays(3).addHours(5).addMinutes(-17).roundUpToNextHour(2).addDays(-1);
+                    assertEquals(eager.getDate(), fused.getDate());
+                    assertEquals(eager.format(), fused.format());
+                    assertEquals(decorator.roundDownToNearestHour().getDate(), decorator.fused().roundDownToNearestHour().getDate());
+                    assertEquals(decorator.toBeginOfDay().getDate(), decorator.fused().toBeginOfDay().getDate());
+                    assertEquals(decorator.toEndOfDay().getDate(), decorator.fused().toEndOfDay().getDate());
+                    for (ChronoUnit unit : new ChronoUnit[]{ChronoUnit.SECONDS, ChronoUnit.MINUTES, ChronoUnit.HOURS, ChronoUnit.DAYS}) {
+                        assertEquals(decorator.truncateTo(unit).getDate(), decorator.fused().truncateTo(unit).getDate());
+                    }
+                    assertEquals(decorator.convertToTimezone(ZoneId.of("America/Chicago")).addHours(1).format(),
+                            decorator.fused().convertToTimezone(ZoneId.of("America/Chicago")).addHours(1).format());
+                }
+            }
+        } finally {
+            TimeZone.setDefault(original);
+        }
+    }
+
+    @Test
+    public void testFusedMatchesDecoratorAcrossTransitions() {
+        TimeZone original = TimeZone.getDefault();
+        try {
+            TimeZone.setDefault(TimeZone.getTimeZone("America/New_York"));
+            // 01:30 EST, thirty days after the 2024-11-03 overlap: the result keeps the standard offset
+            Date standard = new Date(1733207400000L);
+            assertEquals(1730615400000L, TimeDecorator4j.of(standard).addDays(-30).getDate().getTime());
+            assertEquals(1730615400000L, TimeDecorator4j.of(standard).fused().addDays(-30).getEpochMillis());
+            // 2017-05-14T03:50:12.195Z is the later 23:50 of the Santiago overlap, resolved again to the earlier one
+            TimeZone.setDefault(TimeZone.getTimeZone("America/Santiago"));
+            Date overlap = new Date(1494733812195L);
+            assertEquals(1494730212195L, TimeDecorator4j.of(overlap).truncateTo(ChronoUnit.MILLIS).getDate().getTime());
+            assertEquals(1494730212195L, TimeDecorator4j.of(overlap).fused().truncateTo(ChronoUnit.MILLIS).getEpochMillis());
+            // America/Santiago skips midnight, so some shifted times would move to another day
+            for (String id : new String[]{"America/New_York", "Europe/London", "Australia/Lord_Howe", "America/Santiago"}) {
+                TimeZone.setDefault(TimeZone.getTimeZone(id));
+                for (long millis = 1_698_000_000_000L; millis < 1_733_000_000_000L; millis += 60 * 60_000L + 7_001L) {
+                    TimeDecorator4j decorator = TimeDecorator4j.of(new Date(millis));
+                    for (int days : new int[]{-30, -7, -1, 1, 7, 30}) {
+                        assertEquals(id + " " + millis + " " + days, decorator.addDays(days).getDate(), decorator.fused().addDays(days).getDate());
+                    }
+                    for (ChronoUnit unit : new ChronoUnit[]{ChronoUnit.MILLIS, ChronoUnit.MINUTES, ChronoUnit.HOURS}) {
+                        assertEquals(id + " " + millis + " " + unit, decorator.truncateTo(unit).getDate(), decorator.fused().truncateTo(unit).getDate());
+                    }
+                }
+            }
+        } finally {
+            TimeZone.setDefault(original);
+        }
+    }
+
+    @Test
+    public void testFusedIsImmutable() {
+        Date base = new Date(1_700_000_000_000L);
+        TimeDecorator4j.Pipeline start = TimeDecorator4j.of(base).fused().addHours(1);
+        TimeDecorator4j.Pipeline plusDay = start.addDays(1);
+        TimeDecorator4j.Pipeline plusMinutes = start.addMinutes(30).addMinutes(30);
+        assertEquals(base.getTime() + 3_600_000L, start.getEpochMillis());
+        assertEquals(base.getTime() + 7_200_000L, plusMinutes.getEpochMillis());
+        assertEquals(TimeDecorator4j.of(base).addHours(1).addDays(1).getDate(), plusDay.getDate());
+        assertEquals(base, start.transform(date -> Time4j.addHours(date, -1)).getDate());
+        assertEquals(new Date(1_700_000_000_000L), base);
+    }
+
+    @Test
+    public void testFusedWithNullDate() {
+        TimeDecorator4j.Pipeline fused = TimeDecorator4j.of(null).fused().addDays(1).toBeginOfDay();
+        assertNull(fused.getDate());
+        assertEquals("", fused.format());
+        assertEquals(new Date(5L), fused.transform(date -> date == null ? new Date(5L) : date).getDate());
+    }
+
+    @Test
+    public void testBuilderMatchesZonedDateTime() {
+        for (String id : ZONES) {
+            ZoneId zone = ZoneId.of(id);
+            for (LocalDateTime local = LocalDateTime.of(2023, 1, 31, 1, 30, 15, 250_000_000); local.getYear() < 2025; local = local.plusHours(37)) {
+                Date built = TimeBuilder4j.from(local).timezone(zone).build();
+                assertEquals(Date.from(ZonedDateTime.of(local, zone).toInstant()), built);
+                TimeBuilder4j builder = TimeBuilder4j.from(local).addMonths(13).addDays(-45);
+                assertEquals(local.plusMonths(13).plusDays(-45), builder.buildLocalDateTime());
+            }
+        }
+        assertNull(TimeBuilder4j.create().year(2023).month(2).day(30).build());
+        assertEquals(29, TimeBuilder4j.create().year(2024).month(2).lastDayOfMonth().buildLocalDate().getDayOfMonth());
+    }
+}
@@ -0,0 +1,116 @@
+package org.unify4j;
+
+import org.junit.Test;
+import org.unify4j.common.TimeExtensions4j;
+import org.unify4j.model.enums.TimezoneType;
+
+import java.time.DayOfWeek;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.util.ArrayList;
+import java.util.Date;
+import java.util.List;
+import java.util.TimeZone;
+import java.util.stream.Collectors;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+
+public class TimeExtensions4jTest {
+    private static final ZoneId ZONE = ZoneId.systemDefault();
+
+    private static Date date(int year, int month, int day, int hour) {
+        return Date.from(LocalDateTime.of(year, month, day, hour, 0).atZone(ZONE).toInstant());
+    }
+
+    private static List<LocalDate> expectedRange(LocalDate start, LocalDate end) {
+        List<LocalDate> dates = new ArrayList<>();
+        for (LocalDate date = start; !date.isAfter(end); date = date.plusDays(1)) {
+            dates.add(date);
+        }
+        return dates;
+    }
+
+    private static List<LocalDate> toLocal(List<Date> dates) {
+        return dates.stream().map(date -> date.toInstant().atZone(ZONE).toLocalDate()).collect(Collectors.toList());
+    }
+
+    @Test
+    public void testGetDateRange() {
+        Date start = date(2024, 2, 25, 15);
+        Date end = date(2024, 3, 12, 8);
+        List<LocalDate> expected = expectedRange(LocalDate.of(2024, 2, 25), LocalDate.of(2024, 3, 12));
+        List<Date> range = TimeExtensions4j.getDateRange(start, end);
+        assertEquals(expected, toLocal(range));
+        for (Date date : range) {
+            assertEquals(date, Date.from(date.toInstant().atZone(ZONE).toLocalDate().atStartOfDay(ZONE).toInstant()));
+        }
+        assertEquals(expected, TimeExtensions4j.streamDateRange(start, end).collect(Collectors.toList()));
+        assertEquals(expected, TimeExtensions4j.streamDateRange(start, end).parallel().collect(Collectors.toList()));
+        assertEquals(expected.size(), TimeExtensions4j.streamEpochDays(start, end).count());
+        assertTrue(TimeExtensions4j.getDateRange(end, start).isEmpty());
+        assertEquals(0, TimeExtensions4j.streamDateRange(null, end).count());
+    }
+
+    @Test
+    public void testWeekdaysAndWeekends() {
+        Date start = date(2023, 12, 28, 10);
+        Date end = date(2024, 2, 3, 10);
+        List<LocalDate> all = expectedRange(LocalDate.of(2023, 12, 28), LocalDate.of(2024, 2, 3));
+        List<LocalDate> weekdays = all.stream().filter(date -> date.getDayOfWeek().getValue() < 6).collect(Collectors.toList());
+        List<LocalDate> weekends = all.stream().filter(date -> date.getDayOfWeek().getValue() >= 6).collect(Collectors.toList());
+        assertEquals(weekdays, toLocal(TimeExtensions4j.getWeekdaysInRange(start, end)));
+        assertEquals(weekends, toLocal(TimeExtensions4j.getWeekendsInRange(start, end)));
+        assertEquals(weekdays, TimeExtensions4j.streamWeekdaysInRange(start, end).collect(Collectors.toList()));
+        assertEquals(weekends, TimeExtensions4j.streamWeekendsInRange(start, end).collect(Collectors.toList()));
+    }
+
+    @Test
+    public void testDatesForDayOfWeek() {
+        for (int offset = 0; offset < 10; offset++) {
+            Date start = date(2024, 1, 1 + offset, 12);
+            Date end = date(2024, 1, 12 + offset * 2, 1);
+            List<LocalDate> all = expectedRange(LocalDate.of(2024, 1, 1 + offset), LocalDate.of(2024, 1, 12 + offset * 2));
+            for (DayOfWeek dayOfWeek : DayOfWeek.values()) {
+                List<LocalDate> expected = all.stream().filter(date -> date.getDayOfWeek() == dayOfWeek).collect(Collectors.toList());
+                assertEquals(expected, toLocal(TimeExtensions4j.getDatesForDayOfWeek(start, end, dayOfWeek)));
+                assertEquals(expected, TimeExtensions4j.streamDatesForDayOfWeek(start, end, dayOfWeek).collect(Collectors.toList()));
+            }
+        }
+    }
+
+    @Test
+    public void testFindDatesMatchingPattern() {
+        Date start = date(2023, 11, 20, 9);
+        Date end = date(2024, 4, 2, 9);
+        Integer[] weeks = {null, 1, 3, 5};
+        Integer[] months = {null, 1, 3};
+        for (DayOfWeek dayOfWeek : new DayOfWeek[]{null, DayOfWeek.MONDAY, DayOfWeek.SUNDAY}) {
+            for (Integer week : weeks) {
+                for (Integer month : months) {
+                    List<Date> expected = TimeExtensions4j.getDateRange(start, end).stream()
+                            .filter(date -> TimeExtensions4j.matchesPattern(date, dayOfWeek, week, month))
+                            .collect(Collectors.toList());
+                    assertEquals(expected, TimeExtensions4j.findDatesMatchingPattern(start, end, dayOfWeek, week, month));
+                }
+            }
+        }
+    }
+
+    @Test
+    public void testConvertTimezone() {
+        for (long millis = 1_600_000_000_000L; millis < 1_760_000_000_000L; millis += 86_400_000L * 3 + 3_600_000L) {
+            Date date = new Date(millis);
+            for (TimezoneType from : TimezoneType.values()) {
+                TimezoneType to = TimezoneType.values()[(from.ordinal() * 7 + 3) % TimezoneType.values().length];
+                Date expected = TimeExtensions4j.convertTimezone(date, TimeZone.getTimeZone(from.getTimeZoneId()), TimeZone.getTimeZone(to.getTimeZoneId()));
+                assertEquals(expected, TimeExtensions4j.convertTimezone(date, from, to));
+                assertEquals(TimeExtensions4j.getTimezoneOffset(date, TimeZone.getTimeZone(from.getTimeZoneId())), TimeExtensions4j.getTimezoneOffset(date, from));
+            }
+        }
+        assertEquals(ZoneId.of("Asia/Kolkata"), TimezoneType.DefaultTimezoneDelhi.getZoneId());
+        assertEquals(19_800_000L, TimezoneType.DefaultTimezoneDelhi.getOffsetMillis(System.currentTimeMillis()));
+        assertEquals("Asia/Kolkata", TimezoneType.getTimeZone(TimezoneType.DefaultTimezoneDelhi).getID());
+    }
+}
@@ -0,0 +1,108 @@
+package org.unify4j;
+
+import org.junit.Test;
+import org.unify4j.common.Text4j;
+import org.unify4j.common.Time4j;
+import org.unify4j.common.TimeFormatter4j;
+import org.unify4j.model.enums.TimezoneType;
+import org.unify4j.text.TimeFormatText;
+
+import java.lang.reflect.Field;
+import java.lang.reflect.Modifier;
+import java.text.ParseException;
+import java.text.SimpleDateFormat;
+import java.time.Instant;
+import java.time.ZoneId;
+import java.util.*;
+
+import static org.junit.Assert.*;
+
+public class TimeFormatter4jTest {
+
+    private static final Date DATE = new Date(1716666863007L);
+
+    @Test
+    public void testFormat_MatchesSimpleDateFormat() {
+        List<String> patterns = Arrays.asList(
+                TimeFormatText.BIBLIOGRAPHY_EPOCH_PATTERN,
+                TimeFormatText.BIBLIOGRAPHY_COMPLETE_EPOCH_PATTERN,
+                TimeFormatText.BIBLIOGRAPHY_LEGACY_EPOCH_PATTERN,
+                TimeFormatText.ISO_DATE_TIME_WITH_TIMEZONE_OFFSET,
+                TimeFormatText.COMPLETED_EPOCH_PATTERN,
+                TimeFormatText.SPREADSHEET_BIBLIOGRAPHY_EPOCH_PATTERN,
+                "yyyy-MM-dd'T'HH:mm:ss.S",
+                "EEE, dd MMM yyyy HH:mm:ss z",
+                "u yy D 'quoted [text]'");
+        for (String zone : Arrays.asList("UTC", "Asia/Ho_Chi_Minh", "America/New_York")) {
+            for (String pattern : patterns) {
+                SimpleDateFormat expected = new SimpleDateFormat(pattern, Locale.US);
+                expected.setTimeZone(TimeZone.getTimeZone(zone));
+                assertEquals(pattern, expected.format(DATE), TimeFormatter4j.format(DATE, pattern, ZoneId.of(zone), Locale.US));
+            }
+        }
+    }
+
+    @Test
+    public void testFormat_MatchesSimpleDateFormatAcrossOffsetsAndCenturies() throws IllegalAccessException {
+        List<String> patterns = new ArrayList<>(Arrays.asList("G yyyy-MM-dd", "yyyy-MM-dd HH:mm X", "GGGG y"));
+        for (Field field : TimeFormatText.class.getFields()) {
+            if (Modifier.isStatic(field.getModifiers()) && field.getType() == String.class) {
+                patterns.add((String) field.get(null));
+            }
+        }
+        List<Date> dates = new ArrayList<>(Collections.singletonList(DATE));
+        for (String instant : Arrays.asList("1500-06-01T10:15:30Z", "1582-10-04T23:00:00Z", "1582-10-15T12:00:00Z",
+                "1600-01-01T00:00:00Z", "1850-07-01T00:00:00Z", "1900-01-02T00:00:00Z", "1901-01-01T00:00:00Z", "9999-12-31T20:00:00Z", "+10000-06-01T00:00:00Z", "+12024-05-25T00:00:00Z")) {
+            dates.add(Date.from(Instant.parse(instant)));
+        }
+        for (Locale locale : Arrays.asList(Locale.US, new Locale("ru"), new Locale("vi"))) {
+            for (String zone : Arrays.asList("UTC", "Asia/Kolkata", "Asia/Kathmandu", "Asia/Yangon", "America/St_Johns", "Europe/Paris")) {
+                for (String pattern : patterns) {
+                    SimpleDateFormat expected = new SimpleDateFormat(pattern, locale);
+                    expected.setTimeZone(TimeZone.getTimeZone(zone));
+                    for (Date date : dates) {
+                        assertEquals(pattern + " " + zone + " " + locale + " " + date.getTime(),
+                                expected.format(date), TimeFormatter4j.format(date, pattern, ZoneId.of(zone), locale));
+                    }
+                }
+            }
+        }
+    }
+
+    @Test
+    public void testFormatter_Cached() {
+        assertSame(TimeFormatter4j.formatter("yyyy-MM-dd", TimeFormatter4j.UTC), TimeFormatter4j.formatter("yyyy-MM-dd", TimeFormatter4j.UTC));
+        assertEquals("2024-05-25", TimeFormatter4j.formatter("yyyy-MM-dd", TimeFormatter4j.UTC).format(DATE.toInstant()));
+    }
+
+    @Test
+    public void testZoneRegistry_SharedWithParseTimeZone() {
+        assertSame(Time4j.parseTimeZone("Asia/Ho_Chi_Minh"), TimeFormatter4j.zoneOf("Asia/Ho_Chi_Minh"));
+        assertEquals(ZoneId.of("GMT+05:00"), TimeFormatter4j.zoneOf("+05:00"));
+        assertEquals(Time4j.parseTimeZone("+05:00"), TimeFormatter4j.zoneOf("+05:00"));
+        assertEquals(ZoneId.of("GMT"), TimeFormatter4j.zoneOf("Not/AZone"));
+        try {
+            Time4j.parseTimeZone("Not/AZone");
+            fail();
+        } catch (RuntimeException expected) {
+            // an unknown identifier is rejected, not cached as GMT
+        }
+        assertEquals(ZoneId.systemDefault(), Time4j.parseTimeZone(""));
+    }
+
+    @Test
+    public void testTime4j_FormatAndParse() throws ParseException {
+        assertEquals("2024-05-26 02:54:23", Time4j.format(DATE, TimezoneType.DefaultTimezoneVietnam, TimeFormatText.BIBLIOGRAPHY_EPOCH_PATTERN));
+        assertEquals("2024-05-25T19:54:23.007Z", Time4j.getUTCText(DATE));
+        SimpleDateFormat lenient = new SimpleDateFormat(TimeFormatText.SHORT_BIBLIOGRAPHY_EPOCH_PATTERN);
+        lenient.setTimeZone(TimeZone.getTimeZone("UTC"));
+        assertEquals(lenient.parse("2024-05-25 10:00"), Time4j.format("2024-05-25 10:00", TimeFormatText.SHORT_BIBLIOGRAPHY_EPOCH_PATTERN, "UTC"));
+        assertEquals(new Date(1716595200000L), Time4j.format("2024-05-25", null, "UTC"));
+    }
+
+    @Test
+    public void testText4j_Timestamp() {
+        String text = new Text4j().timestamp(DATE, TimezoneType.DefaultTimezoneVietnam, TimeFormatText.BIBLIOGRAPHY_COMPLETE_EPOCH_PATTERN).toString();
+        assertEquals("2024-05-26 02:54:23,007 ", text);
+    }
+}
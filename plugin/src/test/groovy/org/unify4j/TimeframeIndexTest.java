@@ -0,0 +1,78 @@
+package org.unify4j;
+
+import org.junit.Test;
+import org.unify4j.common.TimeExtensions4j;
+import org.unify4j.model.c.TimeframeIndex;
+import org.unify4j.model.request.TimeframeRequest;
+
+import java.util.*;
+import java.util.stream.Collectors;
+
+import static org.junit.Assert.*;
+
+public class TimeframeIndexTest {
+
+    private static TimeframeRequest period(long start, long end) {
+        return new TimeframeRequest(new Date(start), new Date(end));
+    }
+
+    @Test
+    public void testOverlapping() {
+        Random random = new Random(11);
+        List<TimeframeRequest> periods = new ArrayList<>();
+        for (int i = 0; i < 2000; i++) {
+            long start = random.nextInt(1_000_000);
+            periods.add(period(start, start + random.nextInt(2_000)));
+        }
+        periods.add(null);
+        periods.add(new TimeframeRequest(new Date(5), null));
+        TimeframeIndex index = TimeframeIndex.of(periods);
+        assertEquals(2000, index.size());
+        for (int i = 0; i < 500; i++) {
+            long start = random.nextInt(1_010_000) - 5_000;
+            TimeframeRequest query = period(start, start + random.nextInt(5_000));
+            Set<TimeframeRequest> expected = periods.stream()
+                    .filter(period -> period != null && period.getEnd() != null)
+                    .filter(period -> TimeExtensions4j.getOverlapPeriod(period.getStart(), period.getEnd(), query.getStart(), query.getEnd()) != null)
+                    .collect(Collectors.toCollection(() -> Collections.newSetFromMap(new IdentityHashMap<>())));
+            List<TimeframeRequest> actual = index.overlapping(query);
+            assertEquals(expected.size(), actual.size());
+            assertTrue(expected.containsAll(actual));
+            assertEquals(!expected.isEmpty(), index.overlapsAny(query));
+        }
+        assertTrue(index.hasConflicts());
+    }
+
+    @Test
+    public void testConflictsAndGaps() {
+        TimeframeIndex index = TimeframeIndex.of(Arrays.asList(period(10, 20), period(30, 40), period(35, 50), period(60, 70)));
+        assertTrue(index.hasConflicts());
+        assertFalse(TimeframeIndex.of(Arrays.asList(period(10, 20), period(21, 30))).hasConflicts());
+        assertTrue(TimeframeIndex.of(Arrays.asList(period(10, 20), period(20, 30))).hasConflicts());
+        assertTrue(index.overlapsAny(period(20, 25)));
+        assertFalse(index.overlapsAny(period(21, 29)));
+        assertFalse(index.overlapsAny(period(71, 100)));
+
+        List<TimeframeRequest> gaps = index.freeGaps(period(0, 100));
+        long[][] expected = {{0, 10}, {20, 30}, {50, 60}, {70, 100}};
+        assertEquals(expected.length, gaps.size());
+        for (int i = 0; i < expected.length; i++) {
+            assertEquals(expected[i][0], gaps.get(i).getStart().getTime());
+            assertEquals(expected[i][1], gaps.get(i).getEnd().getTime());
+        }
+        gaps = index.freeGaps(period(15, 55));
+        assertEquals(2, gaps.size());
+        assertEquals(20, gaps.get(0).getStart().getTime());
+        assertEquals(55, gaps.get(1).getEnd().getTime());
+        assertTrue(index.freeGaps(period(32, 48)).isEmpty());
+        assertTrue(TimeframeIndex.of(null).freeGaps(period(0, 1)).size() == 1);
+        gaps = index.freeGaps(period(25, 25));
+        assertEquals(1, gaps.size());
+        assertEquals(25, gaps.get(0).getStart().getTime());
+        assertEquals(25, gaps.get(0).getEnd().getTime());
+        assertTrue(index.freeGaps(period(20, 20)).isEmpty());
+        assertTrue(index.freeGaps(period(30, 30)).isEmpty());
+        assertTrue(index.freeGaps(period(45, 45)).isEmpty());
+        assertEquals(1, index.freeGaps(period(100, 100)).size());
+    }
+}